@@ -16,13 +16,18 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.jwp.api.service.UserApiService;
 import com.jwp.core.domain.User;
 import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.CursorSlice;
+import com.jwp.core.repository.SignupHistogram;
+import com.jwp.core.repository.TotalCountMode;
 import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserSummary;
 
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import io.restassured.common.mapper.TypeRef;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,6 +37,10 @@ import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -65,11 +74,20 @@ public class UserAcceptanceTest {
         ReflectionTestUtils.setField(user2, "id", 2L);
             
         // Mock 동작 설정
-        when(userApiService.findUsers(any(UserSearchCondition.class), any(Pageable.class)))
-            .thenReturn(new PageImpl<>(Arrays.asList(user1, user2)));
+        when(userApiService.findUsers(any(UserSearchCondition.class), any(Pageable.class), any(TotalCountMode.class)))
+            .thenReturn(new PageImpl<>(Arrays.asList(UserSummary.from(user1), UserSummary.from(user2))));
             
         when(userApiService.findUser(any(Long.class)))
             .thenReturn(user1);
+
+        when(userApiService.findUsersByIds(List.of(2L, 99L, 1L)))
+            .thenReturn(Arrays.asList(UserSummary.from(user2), UserSummary.from(user1)));
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(userApiService.getSignupHistogram(base, base.plusHours(1), SignupHistogram.Granularity.HOUR))
+            .thenReturn(new SignupHistogram(SignupHistogram.Granularity.HOUR, List.of(
+                new SignupHistogram.Bucket(base, Map.of(UserStatus.ACTIVE, 3L, UserStatus.INACTIVE, 1L)),
+                new SignupHistogram.Bucket(base.plusHours(1), Map.of()))));
     }
 
     /**
@@ -156,4 +174,147 @@ public class UserAcceptanceTest {
         assertThat(content).hasSize(2);
         assertThat(content).extracting("name").containsExactlyInAnyOrder("사용자1", "사용자2");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("사용자 일괄 조회 테스트")
+    void getUsersByIds_Success() {
+        // when
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("ids", "2,99,1");
+
+        ExtractableResponse<Response> response = 요청_GET(getUrl("/api/v1/users/batch"), queryParams);
+
+        // then
+        응답_상태코드_검증(response, HttpStatus.OK.value());
+
+        List<Long> ids = response.jsonPath().getList("users.id", Long.class);
+        List<Long> missingIds = response.jsonPath().getList("missingIds", Long.class);
+
+        assertThat(ids).containsExactly(2L, 1L);
+        assertThat(missingIds).containsExactly(99L);
+    }
+
+    @Test
+    @DisplayName("가입 추이 조회 테스트")
+    void getSignupHistogram_Success() {
+        // when
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("from", "2024-01-01T00:00:00");
+        queryParams.put("to", "2024-01-01T01:00:00");
+        queryParams.put("granularity", "HOUR");
+
+        ExtractableResponse<Response> response = 요청_GET(getUrl("/api/v1/users/signups/histogram"), queryParams);
+
+        // then
+        응답_상태코드_검증(response, HttpStatus.OK.value());
+
+        assertThat(response.jsonPath().getLong("total")).isEqualTo(4L);
+        assertThat(response.jsonPath().getList("buckets.total", Long.class)).containsExactly(4L, 0L);
+        assertThat(response.jsonPath().getLong("buckets[0].counts.ACTIVE")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 등록 테스트 (CSV)")
+    void importUsers_Csv_Success() {
+        // given
+        String csv = String.join("\n",
+            "name,email,password",
+            "가져오기1,import1@example.com,password1",
+            "가져오기2,\"import2@example.com\",password2",
+            "중복,IMPORT1@example.com,password3",
+            "오류,not-an-email,password4",
+            "");
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given()
+            .contentType("text/csv; charset=UTF-8")
+            .body(csv)
+            .when()
+            .post(getUrl("/api/v1/users/import"))
+            .then()
+            .log().all()
+            .extract();
+
+        // then
+        응답_상태코드_검증(response, HttpStatus.OK.value());
+
+        List<String> lines = response.body().asString().lines().toList();
+        assertThat(lines).hasSize(5);
+        assertThat(lines.get(0)).contains("\"line\":2", "\"status\":\"CREATED\"");
+        assertThat(lines.get(1)).contains("\"line\":3", "\"status\":\"CREATED\"");
+        assertThat(lines.get(2)).contains("\"line\":4", "\"status\":\"DUPLICATE\"");
+        assertThat(lines.get(3)).contains("\"line\":5", "\"status\":\"INVALID\"");
+        assertThat(lines.get(4)).contains("\"total\":4", "\"created\":2", "\"duplicate\":1", "\"invalid\":1");
+    }
+
+    @Test
+    @DisplayName("사용자 목록 조회 (커서 기반) - 상태 검색 조건 전달")
+    void getUsersByCursor_WithStatus() {
+        // given
+        when(userApiService.findUsers(any(UserSearchCondition.class), any(), anyInt()))
+            .thenReturn(CursorSlice.of(List.of(), null));
+
+        // when
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("cursor", "");
+        queryParams.put("status", "SUSPENDED");
+
+        ExtractableResponse<Response> response = 요청_GET(getUrl("/api/v1/users"), queryParams);
+
+        // then
+        응답_상태코드_검증(response, HttpStatus.OK.value());
+        verify(userApiService).findUsers(argThat(condition -> condition.getStatus() == UserStatus.SUSPENDED), any(), eq(20));
+    }
+
+    @Test
+    @DisplayName("사용자 내보내기 테스트 (CSV)")
+    void exportUsers_Csv_Success() {
+        // when
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("format", "CSV");
+
+        ExtractableResponse<Response> response = 요청_GET(getUrl("/api/v1/users/export"), queryParams);
+
+        // then
+        응답_상태코드_검증(response, HttpStatus.OK.value());
+
+        assertThat(response.contentType()).startsWith("text/csv");
+        assertThat(response.header("Content-Disposition")).contains("users.csv");
+        assertThat(response.body().asString().lines().findFirst())
+            .hasValue("id,email,name,status,createdAt,updatedAt");
+    }
+
+    @Test
+    @DisplayName("사용자 조회 - 버전 ETag가 같으면 본문 없이 304")
+    void getUser_IfNoneMatch_NotModified() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        when(userApiService.findUserSummary(1L))
+            .thenReturn(new UserSummary(1L, "user1@example.com", "사용자1", UserStatus.ACTIVE, updatedAt, updatedAt, 3L));
+
+        // when
+        ExtractableResponse<Response> first = 요청_GET(getUrl("/api/v1/users/1"), Map.of());
+        ExtractableResponse<Response> notModified = RestAssured.given()
+            .header("If-None-Match", first.header("ETag"))
+            .when()
+            .get(getUrl("/api/v1/users/1"))
+            .then()
+            .log().all()
+            .extract();
+        ExtractableResponse<Response> changed = RestAssured.given()
+            .header("If-None-Match", "\"2\"")
+            .when()
+            .get(getUrl("/api/v1/users/1"))
+            .then()
+            .extract();
+
+        // then
+        응답_상태코드_검증(first, HttpStatus.OK.value());
+        assertThat(first.header("ETag")).isEqualTo("\"3\"");
+        assertThat(first.header("Last-Modified")).isNotBlank();
+        응답_상태코드_검증(notModified, HttpStatus.NOT_MODIFIED.value());
+        assertThat(notModified.body().asString()).isEmpty();
+        응답_상태코드_검증(changed, HttpStatus.OK.value());
+        assertThat(changed.jsonPath().getString("email")).isEqualTo("user1@example.com");
+    }
+}
@@ -0,0 +1,78 @@
+package com.jwp.api.config;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt 비용 보정
+ * 실행 중인 하드웨어에서 해시 한 번에 걸리는 시간을 재어, 목표 시간을 넘지 않는 가장 큰 비용을 고릅니다.
+ * 비용이 1 늘 때마다 계산 시간이 두 배가 되므로 최소 비용부터 한 단계씩 올리며 측정합니다.
+ * 저장된 해시에는 비용이 함께 기록되므로, 비용이 바뀌어도 기존 비밀번호 검증에는 영향이 없습니다.
+ */
+public final class BCryptCostCalibrator {
+
+    /** BCrypt가 허용하는 최소 비용 */
+    public static final int MIN_COST = 4;
+
+    /** BCrypt가 허용하는 최대 비용 */
+    public static final int MAX_COST = 31;
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password-1!";
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * 목표 해시 시간에 맞는 비용 계산
+     * 측정 전에 최소 비용으로 한 번 해시해 JIT 컴파일 전의 느린 측정을 피합니다.
+     * @param target 해시 한 번의 목표 시간
+     * @param minCost 최소 비용 (목표 시간을 넘더라도 이 값 아래로 내리지 않음)
+     * @param maxCost 최대 비용
+     * @return 보정된 비용
+     */
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        validate(target, minCost, maxCost);
+        measure(minCost);
+        return calibrate(target, minCost, maxCost, BCryptCostCalibrator::measure);
+    }
+
+    /**
+     * 측정 함수를 지정한 비용 계산
+     * @param target 해시 한 번의 목표 시간
+     * @param minCost 최소 비용
+     * @param maxCost 최대 비용
+     * @param nanosAtCost 비용별 해시 한 번의 소요 시간(나노초) 측정 함수
+     * @return 보정된 비용
+     */
+    static int calibrate(Duration target, int minCost, int maxCost, IntToLongFunction nanosAtCost) {
+        validate(target, minCost, maxCost);
+
+        long targetNanos = target.toNanos();
+        int cost = minCost;
+        long nanos = nanosAtCost.applyAsLong(cost);
+        while (cost < maxCost && nanos * 2 <= targetNanos) {
+            cost++;
+            nanos = nanosAtCost.applyAsLong(cost);
+        }
+        return cost;
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long startedAt = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - startedAt;
+    }
+
+    private static void validate(Duration target, int minCost, int maxCost) {
+        if (target == null || target.isNegative() || target.isZero()) {
+            throw new IllegalArgumentException("target hash duration must be positive");
+        }
+        if (minCost < MIN_COST || maxCost > MAX_COST || minCost > maxCost) {
+            throw new IllegalArgumentException(
+                    String.format("BCrypt cost range must satisfy %d <= min <= max <= %d", MIN_COST, MAX_COST));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.jwp.api.config;
+
+import com.jwp.core.config.datasource.ReplicaRoutingContext;
+import com.jwp.core.config.datasource.ReplicaRoutingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 읽기 복제본 라우팅 read-your-writes 필터
+ * 사용자 변경이 커밋되어 주 데이터베이스 고정이 걸리면 고정 종료 시각을 쿠키로 클라이언트에 돌려주고,
+ * 같은 클라이언트의 다음 요청에서 쿠키(또는 같은 이름의 헤더)를 읽어 다시 고정합니다.
+ * 고정이 요청을 처리한 스레드가 아니라 클라이언트를 따라가므로 다음 요청이 다른 스레드에서 처리되어도 방금 쓴 내용을 읽고,
+ * 요청이 끝나면 스레드의 고정을 비워 같은 스레드를 이어 쓰는 다른 클라이언트의 요청은 복제본을 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "summy.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /** 고정 종료 시각(epoch 밀리초)을 담는 쿠키, 헤더 이름 */
+    public static final String PINNED_UNTIL = "X-Summy-Primary-Until";
+
+    private final ReplicaRoutingProperties properties;
+
+    /**
+     * 생성자
+     * @param properties 읽기 복제본 라우팅 설정
+     */
+    public ReadYourWritesFilter(ReplicaRoutingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReplicaRoutingContext.clear();
+        long now = System.currentTimeMillis();
+        // 클라이언트가 보낸 값은 고정 시간 설정을 넘지 않도록 제한 (임의로 계속 주 데이터베이스를 쓰지 못하게)
+        long requested = Math.min(requestedPinnedUntil(request), now + properties.getReadYourWritesMillis());
+        if (requested > now) {
+            ReplicaRoutingContext.pinPrimaryUntil(requested);
+        }
+
+        PinningResponse pinningResponse = new PinningResponse(response, requested);
+        try {
+            chain.doFilter(request, pinningResponse);
+            pinningResponse.writePinnedUntil();
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    private static long requestedPinnedUntil(HttpServletRequest request) {
+        String value = request.getHeader(PINNED_UNTIL);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (PINNED_UNTIL.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                    break;
+                }
+            }
+        }
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 응답 본문을 쓰기 시작하면 헤더를 더 추가할 수 없으므로, 본문을 쓰기 직전과 요청 처리가 끝난 뒤에
+     * 고정 종료 시각이 늘어났는지 확인해 쿠키를 추가하는 응답
+     */
+    private static final class PinningResponse extends HttpServletResponseWrapper {
+
+        private long sentPinnedUntil;
+
+        private PinningResponse(HttpServletResponse response, long requestedPinnedUntil) {
+            super(response);
+            this.sentPinnedUntil = requestedPinnedUntil;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writePinnedUntil();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writePinnedUntil();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writePinnedUntil();
+            super.flushBuffer();
+        }
+
+        private void writePinnedUntil() {
+            long pinnedUntil = ReplicaRoutingContext.pinnedUntil();
+            if (pinnedUntil <= sentPinnedUntil || isCommitted()) {
+                return;
+            }
+            long maxAgeSeconds = Math.max(1, (pinnedUntil - System.currentTimeMillis() + 999) / 1000);
+            ResponseCookie cookie = ResponseCookie.from(PINNED_UNTIL, String.valueOf(pinnedUntil))
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .maxAge(maxAgeSeconds)
+                    .build();
+            addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            sentPinnedUntil = pinnedUntil;
+        }
+    }
+}
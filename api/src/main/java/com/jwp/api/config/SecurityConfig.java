@@ -1,5 +1,8 @@
 package com.jwp.api.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,10 +12,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * Spring Security 설정
  * 보안 관련 설정을 정의합니다.
  */
+@Slf4j
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -33,6 +39,7 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable) // API 서버를 위한 기본 인증 비활성화
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/**").permitAll() // API 요청은 인증 없이 허용
+                        .requestMatchers("/actuator/health", "/actuator/metrics/**").permitAll() // 상태 확인 및 운영 지표
                         .anyRequest().authenticated() // 그 외 요청은 인증 필요
                 )
                 .build();
@@ -41,11 +48,19 @@ public class SecurityConfig {
     /**
      * 비밀번호 인코더 빈
      * 비밀번호를 안전하게 저장하기 위한 해시 함수를 제공합니다.
+     * BCrypt 비용은 시작 시 실행 중인 하드웨어에서 측정해 해시 한 번이 목표 시간에 가깝도록 정합니다.
      *
+     * @param targetMillis 해시 한 번의 목표 시간 (밀리초)
+     * @param minCost 최소 비용
+     * @param maxCost 최대 비용
      * @return BCrypt 알고리즘을 사용하는 비밀번호 인코더
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${summy.user.password.hash-target-millis:250}") long targetMillis,
+                                           @Value("${summy.user.password.min-cost:10}") int minCost,
+                                           @Value("${summy.user.password.max-cost:14}") int maxCost) {
+        int cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(targetMillis), minCost, maxCost);
+        log.info("BCrypt 비용 보정 완료: {} (목표 {}ms, 범위 {}~{})", cost, targetMillis, minCost, maxCost);
+        return new BCryptPasswordEncoder(cost);
     }
 }
\ No newline at end of file
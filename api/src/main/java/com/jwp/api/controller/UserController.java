@@ -2,10 +2,23 @@ package com.jwp.api.controller;
 
 import com.jwp.api.dto.request.UserCreateRequest;
 import com.jwp.api.dto.request.UserUpdateRequest;
+import com.jwp.api.dto.response.CursorPageResponse;
+import com.jwp.api.dto.response.SignupHistogramResponse;
+import com.jwp.api.dto.response.UserBatchResponse;
+import com.jwp.api.dto.response.UserImportResult;
 import com.jwp.api.dto.response.UserResponse;
 import com.jwp.api.service.UserApiService;
+import com.jwp.api.service.UserExportService;
+import com.jwp.api.service.UserFileFormat;
+import com.jwp.api.service.UserImportService;
 import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.CursorSlice;
+import com.jwp.core.repository.SignupHistogram;
+import com.jwp.core.repository.TotalCountMode;
+import com.jwp.core.repository.UserCursor;
 import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,13 +26,24 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 /**
  * 사용자 API 컨트롤러
@@ -31,13 +55,21 @@ import java.net.URI;
 public class UserController {
 
     private final UserApiService userApiService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
     
     /**
      * 생성자
      * @param userApiService 사용자 API 서비스
+     * @param userImportService 사용자 일괄 등록 서비스
+     * @param userExportService 사용자 내보내기 서비스
      */
-    public UserController(UserApiService userApiService) {
+    public UserController(UserApiService userApiService,
+                          UserImportService userImportService,
+                          UserExportService userExportService) {
         this.userApiService = userApiService;
+        this.userImportService = userImportService;
+        this.userExportService = userExportService;
     }
 
     /**
@@ -58,50 +90,208 @@ public class UserController {
         return ResponseEntity.created(URI.create("/api/v1/users/" + userId)).build();
     }
 
+    /**
+     * 사용자 일괄 등록 API
+     * 요청 본문을 읽는 대로 처리하고 행별 결과를 NDJSON으로 바로 응답하므로, 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+     * @param contentType 입력 형식 (text/csv, application/x-ndjson)
+     * @param body 입력 파일 (UTF-8)
+     * @return 행별 결과와 마지막 행의 처리 건수 요약 (NDJSON)
+     */
+    @PostMapping(value = "/import",
+            consumes = {UserFileFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "사용자 일괄 등록", description = "CSV(email,name,password 헤더 필수) 또는 NDJSON 파일로 사용자를 일괄 등록합니다. 행별 결과(CREATED, DUPLICATE, INVALID, FAILED)를 NDJSON으로 반환하며, 마지막 행은 처리 건수 요약입니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "일괄 등록 처리 (행별 결과 포함)",
+                content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = UserImportResult.class))),
+        @ApiResponse(responseCode = "415", description = "지원하지 않는 형식", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        StreamingResponseBody response = output -> userImportService.importUsers(body, contentType, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(response);
+    }
+
     /**
      * 사용자 조회 API
+     * 사용자 버전을 강한 ETag로, 수정일시를 Last-Modified로 응답합니다.
+     * If-None-Match(우선) 또는 If-Modified-Since 조건이 맞으면 본문 없이 304로 응답하며,
+     * 이때도 엔티티 대신 요약 정보 캐시만 사용합니다.
      * @param userId 사용자 ID
-     * @return 사용자 정보
+     * @return 사용자 정보 (변경되지 않았으면 304)
      */
     @GetMapping("/{userId}")
-    @Operation(summary = "사용자 조회", description = "ID로 사용자를 조회합니다.")
+    @Operation(summary = "사용자 조회", description = "ID로 사용자를 조회합니다. If-None-Match, If-Modified-Since 조건 요청을 지원합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "사용자 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음", content = @Content),
         @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
     public ResponseEntity<UserResponse> getUser(
             @PathVariable @Parameter(description = "사용자 ID", required = true) Long userId) {
-        User user = userApiService.findUser(userId);
-        return ResponseEntity.ok(UserResponse.from(user));
+        UserSummary user = userApiService.findUserSummary(userId);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (user.version() != null) {
+            response.eTag(String.valueOf(user.version()));
+        }
+        LocalDateTime lastModified = user.updatedAt() != null ? user.updatedAt() : user.createdAt();
+        if (lastModified != null) {
+            response.lastModified(lastModified.atZone(ZoneId.systemDefault()));
+        }
+        return response.body(UserResponse.from(user));
+    }
+
+    /**
+     * 사용자 일괄 조회 API
+     * 여러 사용자 참조를 한 번의 요청과 한 번의 트랜잭션으로 조회합니다.
+     * @param ids 조회할 사용자 ID 목록 (쉼표로 구분, 최대 1000개)
+     * @return 요청 순서대로 정렬된 사용자 목록과 존재하지 않는 ID 목록
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "사용자 일괄 조회", description = "ID 목록으로 사용자를 한 번에 조회합니다. 결과는 요청한 ID 순서를 따르며, 존재하지 않는 ID는 missingIds로 반환합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "사용자 일괄 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (ID 목록 누락, 최대 개수 초과)", content = @Content)
+    })
+    public ResponseEntity<UserBatchResponse> getUsersByIds(
+            @RequestParam @Parameter(description = "사용자 ID 목록 (쉼표로 구분)", required = true) List<Long> ids) {
+        List<UserSummary> users = userApiService.findUsersByIds(ids);
+        return ResponseEntity.ok(UserBatchResponse.of(ids, users));
+    }
+
+    /**
+     * 가입 추이 조회 API
+     * 미리 집계된 시간별 가입자 수를 사용하므로 조회 기간과 관계없이 구간 수에 비례하는 비용으로 조회됩니다.
+     * @param from 조회 시작 일시
+     * @param to 조회 종료 일시
+     * @param granularity 구간 단위 (HOUR, DAY)
+     * @return 구간별 가입자 수 (현재 상태별 포함)
+     */
+    @GetMapping("/signups/histogram")
+    @Operation(summary = "가입 추이 조회", description = "기간 내 구간(시간, 일)별 가입자 수를 현재 상태별로 조회합니다. 양 끝 구간은 구간 전체의 가입자 수를 포함합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "가입 추이 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (기간 누락, 최대 구간 수 초과)", content = @Content)
+    })
+    public ResponseEntity<SignupHistogramResponse> getSignupHistogram(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Parameter(description = "조회 시작 일시", required = true) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Parameter(description = "조회 종료 일시", required = true) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") @Parameter(description = "구간 단위 (HOUR, DAY)") SignupHistogram.Granularity granularity) {
+        SignupHistogram histogram = userApiService.getSignupHistogram(from, to, granularity);
+        return ResponseEntity.ok(SignupHistogramResponse.from(histogram));
     }
 
     /**
      * 사용자 목록 조회 API
      * @param email 이메일 검색 조건 (선택)
      * @param name 이름 검색 조건 (선택)
+     * @param status 상태 검색 조건 (선택)
+     * @param totalCount 전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)
      * @param pageable 페이징 정보
-     * @return 사용자 목록
+     * @return 사용자 목록 (NONE이면 전체 개수 없이 다음 페이지 존재 여부만 포함)
      */
     @GetMapping
-    @Operation(summary = "사용자 목록 조회", description = "조건에 맞는 사용자 목록을 조회합니다.")
+    @Operation(summary = "사용자 목록 조회", description = "조건에 맞는 사용자 목록을 조회합니다. totalCount=NONE이면 전체 개수 계산을 생략합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "사용자 목록 조회 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
     })
-    public ResponseEntity<Page<UserResponse>> getUsers(
+    public ResponseEntity<Slice<UserResponse>> getUsers(
             @RequestParam(required = false) @Parameter(description = "이메일 검색") String email,
             @RequestParam(required = false) @Parameter(description = "이름 검색") String name,
+            @RequestParam(required = false) @Parameter(description = "상태 검색 (ACTIVE, INACTIVE, SUSPENDED, WITHDRAWN)") UserStatus status,
+            @RequestParam(defaultValue = "EXACT") @Parameter(description = "전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)") TotalCountMode totalCount,
             @Parameter(description = "페이징 정보") Pageable pageable) {
         
         UserSearchCondition condition = UserSearchCondition.builder()
                 .email(email)
                 .name(name)
+                .status(status)
                 .build();
         
-        Page<User> users = userApiService.findUsers(condition, pageable);
+        Slice<UserSummary> users = userApiService.findUsers(condition, pageable, totalCount);
         return ResponseEntity.ok(users.map(UserResponse::from));
     }
 
+    /**
+     * 사용자 내보내기 API
+     * 목록 조회와 같은 검색 조건의 사용자 전체를 DB 커서에서 읽는 대로 응답에 씁니다.
+     * 페이지별 OFFSET 조회와 전체 개수 조회가 없고, 사용자 수와 관계없이 메모리 사용량이 일정합니다.
+     * 클라이언트가 연결을 끊으면 조회를 중단합니다.
+     * @param email 이메일 검색 조건 (선택)
+     * @param name 이름 검색 조건 (선택)
+     * @param status 상태 검색 조건 (선택)
+     * @param format 출력 형식 (NDJSON, CSV)
+     * @return ID 순 사용자 목록 (NDJSON 또는 CSV)
+     */
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, UserFileFormat.TEXT_CSV_VALUE})
+    @Operation(summary = "사용자 내보내기", description = "조건에 맞는 사용자 전체를 ID 순으로 NDJSON 또는 CSV로 내려받습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "사용자 내보내기 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) @Parameter(description = "이메일 검색") String email,
+            @RequestParam(required = false) @Parameter(description = "이름 검색") String name,
+            @RequestParam(required = false) @Parameter(description = "상태 검색 (ACTIVE, INACTIVE, SUSPENDED, WITHDRAWN)") UserStatus status,
+            @RequestParam(defaultValue = "NDJSON") @Parameter(description = "출력 형식 (NDJSON, CSV)") UserFileFormat format) {
+
+        UserSearchCondition condition = UserSearchCondition.builder()
+                .email(email)
+                .name(name)
+                .status(status)
+                .build();
+
+        StreamingResponseBody response = output -> userExportService.exportUsers(condition, format, output);
+        return ResponseEntity.ok()
+                .contentType(format == UserFileFormat.CSV
+                        ? new MediaType(format.mediaType(), StandardCharsets.UTF_8)
+                        : format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + format.extension())
+                        .build()
+                        .toString())
+                .body(response);
+    }
+
+    /**
+     * 사용자 목록 조회 API (커서 기반)
+     * cursor 파라미터가 있으면 OFFSET 대신 (생성일시, ID) 위치 이후부터 조회합니다.
+     * 첫 페이지는 빈 cursor 값으로 요청하고, 이후에는 응답의 nextCursor 값을 그대로 전달합니다.
+     * @param email 이메일 검색 조건 (선택)
+     * @param name 이름 검색 조건 (선택)
+     * @param status 상태 검색 조건 (선택)
+     * @param cursor 이전 응답의 커서 토큰 (첫 페이지는 빈 값)
+     * @param size 조회할 개수
+     * @return 커서 기반 사용자 목록
+     */
+    @GetMapping(params = "cursor")
+    @Operation(summary = "사용자 목록 조회 (커서 기반)", description = "커서 위치 이후의 사용자 목록을 조회합니다. 페이지 깊이와 무관하게 일정한 비용으로 조회됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "사용자 목록 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (유효하지 않은 커서 등)", content = @Content)
+    })
+    public ResponseEntity<CursorPageResponse<UserResponse>> getUsersByCursor(
+            @RequestParam(required = false) @Parameter(description = "이메일 검색") String email,
+            @RequestParam(required = false) @Parameter(description = "이름 검색") String name,
+            @RequestParam(required = false) @Parameter(description = "상태 검색 (ACTIVE, INACTIVE, SUSPENDED, WITHDRAWN)") UserStatus status,
+            @RequestParam(required = false) @Parameter(description = "이전 응답의 커서 토큰 (첫 페이지는 빈 값)") String cursor,
+            @RequestParam(defaultValue = "20") @Parameter(description = "조회할 개수") int size) {
+
+        UserSearchCondition condition = UserSearchCondition.builder()
+                .email(email)
+                .name(name)
+                .status(status)
+                .build();
+
+        CursorSlice<UserSummary> users = userApiService.findUsers(condition, UserCursor.decode(cursor), size);
+        return ResponseEntity.ok(CursorPageResponse.from(users, UserResponse::from));
+    }
+
     /**
      * 사용자 정보 수정 API
      * @param userId 사용자 ID
@@ -113,7 +303,8 @@ public class UserController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "사용자 정보 수정 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
-        @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
+        @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content),
+        @ApiResponse(responseCode = "409", description = "다른 요청이 사용자를 먼저 변경함", content = @Content)
     })
     public ResponseEntity<UserResponse> updateUser(
             @PathVariable @Parameter(description = "사용자 ID", required = true) Long userId,
@@ -132,7 +323,8 @@ public class UserController {
     @Operation(summary = "사용자 삭제", description = "사용자를 삭제합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "사용자 삭제 성공"),
-        @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
+        @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content),
+        @ApiResponse(responseCode = "409", description = "다른 요청이 사용자를 먼저 변경함", content = @Content)
     })
     public ResponseEntity<Void> deleteUser(
             @PathVariable @Parameter(description = "사용자 ID", required = true) Long userId) {
@@ -0,0 +1,37 @@
+package com.jwp.api.dto.response;
+
+import com.jwp.core.repository.CursorSlice;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 DTO
+ * 목록과 함께 다음 페이지 조회에 사용할 불투명한 커서 토큰을 전달합니다.
+ *
+ * @param <T> 목록 요소 타입
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+
+    /**
+     * 커서 조회 결과로부터 응답 DTO 생성
+     * @param slice 커서 조회 결과
+     * @param converter 요소 변환 함수
+     * @return CursorPageResponse 객체
+     */
+    public static <S, T> CursorPageResponse<T> from(CursorSlice<S> slice, Function<? super S, ? extends T> converter) {
+        CursorSlice<T> converted = slice.map(converter);
+        String nextCursor = converted.hasNext() ? converted.getNextCursor().encode() : null;
+        return new CursorPageResponse<>(converted.getContent(), nextCursor, converted.hasNext(), converted.getContent().size());
+    }
+}
@@ -0,0 +1,48 @@
+package com.jwp.api.dto.response;
+
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.SignupHistogram;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가입 추이 히스토그램 응답 DTO
+ * 구간별 가입자 수와 현재 상태별 가입자 수를 전달합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignupHistogramResponse {
+    private SignupHistogram.Granularity granularity;
+    private long total;
+    private List<BucketResponse> buckets;
+
+    /**
+     * 히스토그램으로부터 응답 DTO 생성
+     * @param histogram 가입 추이 히스토그램
+     * @return SignupHistogramResponse 객체
+     */
+    public static SignupHistogramResponse from(SignupHistogram histogram) {
+        List<BucketResponse> buckets = histogram.buckets().stream()
+                .map(bucket -> new BucketResponse(bucket.start(), bucket.total(), bucket.counts()))
+                .toList();
+        return new SignupHistogramResponse(histogram.granularity(), histogram.total(), buckets);
+    }
+
+    /**
+     * 구간별 가입자 수
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BucketResponse {
+        private LocalDateTime start;
+        private long total;
+        private Map<UserStatus, Long> counts;
+    }
+}
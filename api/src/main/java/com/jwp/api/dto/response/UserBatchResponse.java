@@ -0,0 +1,40 @@
+package com.jwp.api.dto.response;
+
+import com.jwp.core.repository.UserSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 조회 응답 DTO
+ * 요청한 순서대로 조회된 사용자와 존재하지 않는 사용자 ID를 함께 전달합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchResponse {
+    private List<UserResponse> users;
+    private List<Long> missingIds;
+
+    /**
+     * 요청 ID와 조회 결과로부터 응답 DTO 생성
+     * @param requestedIds 요청한 사용자 ID 목록
+     * @param found 조회된 사용자 요약 목록 (요청 순서)
+     * @return UserBatchResponse 객체
+     */
+    public static UserBatchResponse of(List<Long> requestedIds, List<UserSummary> found) {
+        Set<Long> foundIds = found.stream().map(UserSummary::id).collect(Collectors.toSet());
+        List<Long> missingIds = requestedIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(id -> !foundIds.contains(id))
+                .toList();
+
+        return new UserBatchResponse(found.stream().map(UserResponse::from).toList(), missingIds);
+    }
+}
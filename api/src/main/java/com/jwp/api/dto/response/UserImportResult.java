@@ -0,0 +1,57 @@
+package com.jwp.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 등록 행별 결과 DTO
+ * 입력 파일의 한 행에 대한 처리 결과를 전달합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+    private long line;
+    private String email;
+    private Status status;
+    private Long userId;
+    private String message;
+
+    /**
+     * 생성 성공 결과
+     * @param line 입력 행 번호
+     * @param email 이메일
+     * @param userId 생성된 사용자 ID
+     * @return UserImportResult 객체
+     */
+    public static UserImportResult created(long line, String email, Long userId) {
+        return new UserImportResult(line, email, Status.CREATED, userId, null);
+    }
+
+    /**
+     * 생성 실패 결과
+     * @param line 입력 행 번호
+     * @param email 이메일 (읽지 못한 경우 null)
+     * @param status 실패 사유 구분
+     * @param message 실패 사유
+     * @return UserImportResult 객체
+     */
+    public static UserImportResult rejected(long line, String email, Status status, String message) {
+        return new UserImportResult(line, email, status, null, message);
+    }
+
+    /**
+     * 행별 처리 상태
+     */
+    public enum Status {
+        /** 생성됨 */
+        CREATED,
+        /** 이미 가입된 이메일이거나 파일 안에서 중복된 이메일 */
+        DUPLICATE,
+        /** 형식 또는 입력값 오류 */
+        INVALID,
+        /** 저장 중 오류 */
+        FAILED
+    }
+}
@@ -0,0 +1,20 @@
+package com.jwp.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 등록 요약 DTO
+ * 행별 결과 뒤에 마지막 줄로 전달되는 처리 건수입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportSummary {
+    private long total;
+    private long created;
+    private long duplicate;
+    private long invalid;
+    private long failed;
+}
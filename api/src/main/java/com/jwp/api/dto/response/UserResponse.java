@@ -2,6 +2,7 @@ package com.jwp.api.dto.response;
 
 import com.jwp.core.domain.User;
 import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.UserSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -40,4 +41,20 @@ public class UserResponse {
                 .updatedAt(user.getUpdatedAt())
                 .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 요약 정보로부터 응답 DTO 생성
+     * @param summary 사용자 요약 정보
+     * @return UserResponse 객체
+     */
+    public static UserResponse from(UserSummary summary) {
+        return UserResponse.builder()
+                .id(summary.id())
+                .email(summary.email())
+                .name(summary.name())
+                .status(summary.status())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+}
\ No newline at end of file
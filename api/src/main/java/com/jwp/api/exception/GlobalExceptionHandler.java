@@ -1,7 +1,10 @@
 package com.jwp.api.exception;
 
 import com.jwp.api.dto.response.ErrorResponse;
+import com.jwp.core.exception.BaseException;
+import com.jwp.core.exception.BusinessException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -26,6 +29,44 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * 비밀번호 해시 대기열 초과 처리
+     * 다른 요청이 해시 계산에 밀리지 않도록 바로 503으로 응답하고, Retry-After 헤더로 재시도 시점을 알립니다.
+     * @param ex 비밀번호 해시 대기열 초과 예외
+     * @return 오류 응답
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+        ErrorResponse error = new ErrorResponse("SERVICE_BUSY", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * 코어 모듈 비즈니스 예외 처리
+     * 에러 코드에 정의된 상태 코드로 응답합니다.
+     * @param ex 비즈니스 예외
+     * @return 오류 응답
+     */
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
+        ErrorResponse error = new ErrorResponse(ex.getErrorCode().name(), ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.valueOf(ex.getErrorCode().getStatus()));
+    }
+
+    /**
+     * 코어 모듈 기본 예외 처리
+     * 에러 코드에 정의된 상태 코드로 응답합니다.
+     * @param ex 기본 예외
+     * @return 오류 응답
+     */
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<ErrorResponse> handleBaseException(BaseException ex) {
+        ErrorResponse error = new ErrorResponse(ex.getErrorCode().name(), ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.valueOf(ex.getErrorCode().getStatus()));
+    }
+
     /**
      * 요청 유효성 검사 실패 처리
      * @param ex 유효성 검사 예외
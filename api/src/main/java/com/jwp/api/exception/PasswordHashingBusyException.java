@@ -0,0 +1,23 @@
+package com.jwp.api.exception;
+
+/**
+ * 비밀번호 해시 대기열이 가득 차 요청을 받을 수 없을 때 발생하는 예외
+ * 503 응답과 함께 Retry-After 헤더로 다시 시도할 시점을 알립니다.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * 기본 생성자
+     * @param retryAfterSeconds 다시 시도하기까지 권장 대기 시간 (초)
+     */
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("요청이 많아 비밀번호를 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,198 @@
+package com.jwp.api.service;
+
+import com.jwp.api.exception.PasswordHashingBusyException;
+import com.jwp.core.exception.BusinessException;
+import com.jwp.core.exception.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비밀번호 해시 계산기
+ * CPU를 많이 쓰는 BCrypt 해시를 요청 스레드에서 바로 계산하지 않고, CPU 코어 수 크기의 전용 스레드 풀에서 계산합니다.
+ * 가입이 몰려도 동시에 해시를 계산하는 스레드는 풀 크기로 제한되므로 다른 API 요청이 CPU를 얻을 수 있고,
+ * 대기열까지 가득 차면 기다리지 않고 바로 PasswordHashingBusyException(503, Retry-After)으로 거절합니다.
+ * 사용자 일괄 등록처럼 많은 해시를 한꺼번에 계산하는 작업도 같은 풀을 사용하되, 동시에 맡기는 작업 수를 제한해
+ * 가입 요청이 쓸 스레드와 대기열을 남겨 둡니다({@link #encodeAll}).
+ */
+@Component
+public class PasswordHasher implements MeterBinder {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Semaphore bulkPermits;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /** 일괄 해시 작업이 대기열이 가득 차 거절되었을 때 다시 맡기기까지 기다리는 시간 */
+    private static final long BULK_RETRY_MILLIS = 10;
+
+    /**
+     * 생성자
+     * @param passwordEncoder 비밀번호 암호화 인코더
+     * @param threads 해시 계산 스레드 수 (0 이하이면 CPU 코어 수)
+     * @param queueCapacity 해시 대기열 크기
+     * @param retryAfterSeconds 대기열이 가득 찼을 때 안내할 재시도 대기 시간 (초)
+     * @param bulkInFlight 일괄 해시 작업이 동시에 맡길 수 있는 최대 작업 수 (0 이하이면 스레드 수의 절반, 최소 1)
+     */
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${summy.user.password.hash-threads:0}") int threads,
+                          @Value("${summy.user.password.hash-queue-capacity:64}") int queueCapacity,
+                          @Value("${summy.user.password.retry-after-seconds:1}") long retryAfterSeconds,
+                          @Value("${summy.user.password.bulk-in-flight:0}") int bulkInFlight) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("summy.user.password.hash-queue-capacity must be positive");
+        }
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.bulkPermits = new Semaphore(bulkInFlight > 0 ? bulkInFlight : Math.max(1, poolSize / 2));
+    }
+
+    /**
+     * 비밀번호 해시 계산
+     * 전용 스레드 풀에서 계산이 끝날 때까지 기다립니다.
+     * @param rawPassword 평문 비밀번호
+     * @return 해시된 비밀번호
+     * @throws PasswordHashingBusyException 해시 대기열이 가득 찬 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        Future<String> hashed;
+        try {
+            hashed = executor.submit(() -> passwordEncoder.encode(rawPassword));
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        return await(hashed);
+    }
+
+    /**
+     * 여러 비밀번호 해시 계산 (일괄 등록용)
+     * 동시에 맡기는 작업 수를 제한하고, 가입 요청으로 대기열이 가득 차 거절되면 실패하지 않고 잠시 기다렸다가 다시 맡깁니다.
+     * 모든 계산이 끝날 때까지 기다립니다.
+     * @param rawPasswords 평문 비밀번호 목록
+     * @return 입력 순서와 같은 해시 목록
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> hashes = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                bulkPermits.acquire();
+                hashes.add(submitBulk(rawPassword));
+            }
+        } catch (InterruptedException e) {
+            hashes.forEach(hashed -> hashed.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "비밀번호 처리가 중단되었습니다.");
+        }
+
+        List<String> encoded = new ArrayList<>(hashes.size());
+        for (Future<String> hashed : hashes) {
+            encoded.add(await(hashed));
+        }
+        return encoded;
+    }
+
+    /**
+     * 대기열이 가득 차 거절한 요청 수
+     * @return 거절한 요청 수
+     */
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("summy.user.password.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(registry);
+        Gauge.builder("summy.user.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시 계산 중인 스레드 수")
+                .register(registry);
+        FunctionCounter.builder("summy.user.password.hash.rejected", rejected, AtomicLong::get)
+                .description("대기열이 가득 차 거절한 비밀번호 해시 요청 수")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 일괄 해시 작업 하나를 맡깁니다 (허가는 작업이 끝나거나 취소될 때 반환).
+     */
+    private Future<String> submitBulk(CharSequence rawPassword) throws InterruptedException {
+        FutureTask<String> task = new FutureTask<>(() -> passwordEncoder.encode(rawPassword)) {
+            @Override
+            protected void done() {
+                bulkPermits.release();
+            }
+        };
+        while (true) {
+            try {
+                executor.execute(task);
+                return task;
+            } catch (RejectedExecutionException e) {
+                if (executor.isShutdown()) {
+                    bulkPermits.release();
+                    throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "비밀번호 처리가 중단되었습니다.");
+                }
+                Thread.sleep(BULK_RETRY_MILLIS);
+            }
+        }
+    }
+
+    private String await(Future<String> hashed) {
+        try {
+            return hashed.get();
+        } catch (InterruptedException e) {
+            hashed.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "비밀번호 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 해시 계산 스레드 (데몬, 이름으로 구분)
+     */
+    private static final class HashThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
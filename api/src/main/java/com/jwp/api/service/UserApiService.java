@@ -2,20 +2,31 @@ package com.jwp.api.service;
 
 import com.jwp.api.dto.request.UserCreateRequest;
 import com.jwp.api.dto.request.UserUpdateRequest;
+import com.jwp.api.exception.PasswordHashingBusyException;
 import com.jwp.api.exception.UserNotFoundException;
 import com.jwp.core.domain.User;
 import com.jwp.core.exception.BusinessException;
 import com.jwp.core.exception.ErrorCode;
+import com.jwp.core.repository.CursorSlice;
+import com.jwp.core.repository.DateRange;
+import com.jwp.core.repository.SignupHistogram;
+import com.jwp.core.repository.TotalCountMode;
+import com.jwp.core.repository.UserCursor;
 import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserSummary;
 import com.jwp.core.service.UserCommandService;
 import com.jwp.core.service.UserQueryService;
+import com.jwp.core.service.UserSignupStatistics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 사용자 API 서비스
  * 컨트롤러와 도메인 서비스 계층 사이의 변환 작업을 담당합니다.
@@ -26,36 +37,42 @@ public class UserApiService {
 
     private final UserCommandService userCommandService;
     private final UserQueryService userQueryService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserSignupStatistics signupStatistics;
     
     /**
      * 생성자
      * @param userCommandService 사용자 명령 서비스
      * @param userQueryService 사용자 조회 서비스
-     * @param passwordEncoder 비밀번호 암호화 인코더
+     * @param passwordHasher 비밀번호 해시 계산기
+     * @param signupStatistics 가입 통계 서비스
      */
     public UserApiService(UserCommandService userCommandService, 
                           UserQueryService userQueryService,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordHasher passwordHasher,
+                          UserSignupStatistics signupStatistics) {
         this.userCommandService = userCommandService;
         this.userQueryService = userQueryService;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.signupStatistics = signupStatistics;
     }
 
     /**
      * 사용자 생성
+     * 비밀번호 해시는 트랜잭션을 시작하기 전에 전용 스레드 풀에서 계산하므로, 계산하는 동안 DB 커넥션을 잡고 있지 않습니다.
+     * 저장은 사용자 명령 서비스의 트랜잭션에서 처리됩니다.
      * @param command 사용자 생성 명령
      * @return 생성된 사용자 ID
      * @throws BusinessException 이메일 중복 등의 비즈니스 규칙 위반 시
+     * @throws PasswordHashingBusyException 비밀번호 해시 대기열이 가득 찬 경우
      */
-    @Transactional
     public Long createUser(UserCreateRequest.UserCreateCommand command) {
         if (command == null) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "사용자 생성 명령은 필수입니다.");
         }
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(command.password());
+        // 비밀번호 암호화 (전용 스레드 풀)
+        String encodedPassword = passwordHasher.encode(command.password());
         
         User user = User.builder()
                 .email(command.email())
@@ -91,6 +108,36 @@ public class UserApiService {
         }
     }
 
+    /**
+     * 사용자 요약 정보 조회 (캐시 사용)
+     * @param userId 사용자 ID
+     * @return 사용자 요약 정보
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public UserSummary findUserSummary(Long userId) {
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "사용자 ID는 필수입니다.");
+        }
+
+        try {
+            return userQueryService.findSummaryById(userId);
+        } catch (BusinessException e) {
+            throw new UserNotFoundException(userId);
+        }
+    }
+
+    /**
+     * 사용자 일괄 조회
+     * @param ids 조회할 사용자 ID 목록
+     * @return 요청 순서대로 정렬된 사용자 요약 목록 (존재하지 않는 ID는 제외)
+     * @throws BusinessException ID 목록이 비어 있거나 최대 개수를 초과한 경우
+     */
+    @Transactional(readOnly = true)
+    public List<UserSummary> findUsersByIds(List<Long> ids) {
+        return userQueryService.findAllByIdsOrdered(ids);
+    }
+
     /**
      * 사용자 목록 조회
      * @param condition 검색 조건
@@ -117,37 +164,105 @@ public class UserApiService {
         }
     }
 
+    /**
+     * 사용자 목록 조회 (전체 개수 계산 방식 지정)
+     * @param condition 검색 조건
+     * @param pageable 페이징 정보
+     * @param totalCountMode 전체 개수 계산 방식
+     * @return 사용자 요약 목록 (NONE이면 전체 개수 없는 Slice)
+     * @throws BusinessException 유효하지 않은 검색 조건이나 페이징 정보
+     */
+    @Transactional(readOnly = true)
+    public Slice<UserSummary> findUsers(UserSearchCondition condition, Pageable pageable, TotalCountMode totalCountMode) {
+        if (condition == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "검색 조건은 필수입니다.");
+        }
+
+        if (pageable == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "페이징 정보는 필수입니다.");
+        }
+
+        try {
+            return userQueryService.searchUsers(condition, pageable, totalCountMode);
+        } catch (Exception e) {
+            log.error("사용자 목록 조회 실패: {}", e.getMessage(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "사용자 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 사용자 목록 조회 (커서 기반)
+     * @param condition 검색 조건
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size 조회할 개수
+     * @return 커서 기반 사용자 요약 목록
+     * @throws BusinessException 유효하지 않은 검색 조건이나 조회 개수
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<UserSummary> findUsers(UserSearchCondition condition, UserCursor cursor, int size) {
+        if (condition == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "검색 조건은 필수입니다.");
+        }
+
+        return userQueryService.searchUsers(condition, cursor, size);
+    }
+
+    /**
+     * 가입 추이 히스토그램 조회
+     * @param from 조회 시작 일시
+     * @param to 조회 종료 일시
+     * @param granularity 구간 단위
+     * @return 구간별 가입자 수
+     * @throws BusinessException 조회 기간이 없거나 최대 구간 수를 초과한 경우
+     */
+    @Transactional(readOnly = true)
+    public SignupHistogram getSignupHistogram(LocalDateTime from, LocalDateTime to, SignupHistogram.Granularity granularity) {
+        return signupStatistics.histogram(DateRange.of(from, to), granularity);
+    }
+
     /**
      * 사용자 정보 수정
+     * 존재 여부를 미리 조회하지 않고, 사용자 명령 서비스가 변경하면서 확인한 결과로 사용자 없음을 판단합니다.
      * @param userId 사용자 ID
      * @param command 수정 명령
      * @return 수정된 사용자 정보
-     * @throws BusinessException 사용자를 찾을 수 없는 경우
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
      */
     @Transactional
     public User updateUser(Long userId, UserUpdateRequest.UserUpdateCommand command) {
         if (command == null) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "수정 명령은 필수입니다.");
         }
-        
-        // 사용자 존재 확인 (예외 발생 시 UserNotFoundException이 발생)
-        findUser(userId);
-        
-        // ID 기반 사용자 정보 업데이트
-        return userCommandService.updateUserInfo(userId, command.name());
+
+        try {
+            return userCommandService.updateUserInfo(userId, command.name());
+        } catch (BusinessException e) {
+            throw toUserNotFound(userId, e);
+        }
     }
 
     /**
      * 사용자 삭제
+     * 존재 여부를 미리 조회하지 않고, 사용자 명령 서비스가 삭제하면서 확인한 결과로 사용자 없음을 판단합니다.
      * @param userId 사용자 ID
-     * @throws BusinessException 사용자를 찾을 수 없는 경우
+     * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
      */
     @Transactional
     public void deleteUser(Long userId) {
-        // 사용자 존재 확인 (예외 발생 시 UserNotFoundException이 발생)
-        findUser(userId);
-        
-        // ID 기반 사용자 삭제
-        userCommandService.deleteUser(userId);
+        try {
+            userCommandService.deleteUser(userId);
+        } catch (BusinessException e) {
+            throw toUserNotFound(userId, e);
+        }
+    }
+
+    /**
+     * 사용자 없음 예외는 UserNotFoundException으로 변환하고, 그 외 비즈니스 예외는 그대로 반환합니다.
+     */
+    private static RuntimeException toUserNotFound(Long userId, BusinessException e) {
+        if (e.getErrorCode() == ErrorCode.USER_NOT_FOUND) {
+            return new UserNotFoundException(userId);
+        }
+        return e;
     }
 } 
\ No newline at end of file
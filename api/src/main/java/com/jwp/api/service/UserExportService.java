@@ -0,0 +1,132 @@
+package com.jwp.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jwp.api.dto.response.UserResponse;
+import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserSummary;
+import com.jwp.core.service.UserQueryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 내보내기 서비스
+ * 검색 조건에 맞는 사용자를 DB 커서에서 읽는 대로 NDJSON 또는 CSV로 출력 스트림에 씁니다.
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    /** 이 행 수마다 출력 스트림을 flush 하여 클라이언트로 전송 */
+    private static final int FLUSH_ROWS = 500;
+
+    private static final String CSV_HEADER = "id,email,name,status,createdAt,updatedAt";
+
+    private final UserQueryService userQueryService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 생성자
+     * @param userQueryService 사용자 조회 서비스
+     * @param objectMapper JSON 변환기
+     */
+    public UserExportService(UserQueryService userQueryService, ObjectMapper objectMapper) {
+        this.userQueryService = userQueryService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 사용자 내보내기
+     * 출력 중 오류가 발생하면 (클라이언트 연결 종료 등) 조회를 중단하고 커서를 닫습니다.
+     * @param condition 검색 조건
+     * @param format 출력 형식
+     * @param output 출력 스트림
+     * @return 내보낸 사용자 수
+     * @throws IOException 출력 오류 시
+     */
+    public long exportUsers(UserSearchCondition condition, UserFileFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == UserFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long exported;
+        try {
+            exported = userQueryService.exportUsers(condition, new RowWriter(writer, format));
+        } catch (UncheckedIOException e) {
+            log.info("사용자 내보내기 중단: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        return exported;
+    }
+
+    /**
+     * 한 건씩 쓰고 FLUSH_ROWS건마다 flush 하는 콜백
+     */
+    private class RowWriter implements Consumer<UserSummary> {
+
+        private final Writer writer;
+        private final UserFileFormat format;
+        private long rows;
+
+        RowWriter(Writer writer, UserFileFormat format) {
+            this.writer = writer;
+            this.format = format;
+        }
+
+        @Override
+        public void accept(UserSummary user) {
+            try {
+                if (format == UserFileFormat.CSV) {
+                    writer.write(toCsv(user));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(UserResponse.from(user)));
+                }
+                writer.write('\n');
+                if (++rows % FLUSH_ROWS == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static String toCsv(UserSummary user) {
+        return String.join(",",
+                String.valueOf(user.id()),
+                csv(user.email()),
+                csv(user.name()),
+                user.status() != null ? user.status().name() : "",
+                csv(user.createdAt()),
+                csv(user.updatedAt()));
+    }
+
+    private static String csv(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * CSV 값 이스케이프 (쉼표, 따옴표, 줄바꿈이 있으면 큰따옴표로 감쌈)
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,55 @@
+package com.jwp.api.service;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 사용자 일괄 등록, 내보내기 파일 형식
+ */
+public enum UserFileFormat {
+    /** 첫 행이 헤더인 CSV (UTF-8) */
+    CSV(MediaType.parseMediaType("text/csv"), "csv"),
+    /** 한 행에 하나의 JSON 객체 */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    /** CSV 미디어 타입 문자열 */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    UserFileFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * 미디어 타입
+     * @return 형식의 미디어 타입 (charset 제외)
+     */
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 파일 확장자
+     * @return 확장자 (점 제외)
+     */
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Content-Type 으로부터 형식 결정
+     * @param contentType 요청 Content-Type
+     * @return 파일 형식
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     */
+    public static UserFileFormat from(MediaType contentType) {
+        for (UserFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + contentType);
+    }
+}
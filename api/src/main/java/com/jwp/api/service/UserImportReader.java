@@ -0,0 +1,190 @@
+package com.jwp.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jwp.api.dto.request.UserCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 사용자 일괄 등록 입력 파일 리더
+ * 파일 전체를 메모리에 올리지 않고 한 행씩 읽어 사용자 생성 요청으로 변환합니다.
+ * CSV는 첫 행에 email, name, password 헤더가 있어야 하며 (순서 무관, 대소문자 무시),
+ * 큰따옴표로 감싼 값과 "" 이스케이프를 지원합니다. 값 안의 줄바꿈은 지원하지 않습니다.
+ * NDJSON은 한 행에 하나의 JSON 객체입니다. 빈 행은 건너뜁니다.
+ */
+class UserImportReader {
+
+    private final BufferedReader reader;
+    private final UserFileFormat format;
+    private final ObjectMapper objectMapper;
+
+    private long lineNumber;
+    private int[] columns;
+
+    /**
+     * 생성자
+     * @param reader 입력 리더
+     * @param format 입력 형식
+     * @param objectMapper NDJSON 변환에 사용할 ObjectMapper
+     */
+    UserImportReader(BufferedReader reader, UserFileFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행 읽기
+     * @return 읽은 행 (파일 끝이면 null)
+     * @throws UncheckedIOException 입력을 읽지 못한 경우
+     */
+    Row next() {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        if (format == UserFileFormat.NDJSON) {
+            return parseJson(line);
+        }
+        if (columns == null) {
+            String error = parseHeader(line);
+            if (error != null) {
+                return Row.invalid(lineNumber, error);
+            }
+            return next();
+        }
+        return parseCsv(line);
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Row parseJson(String line) {
+        try {
+            UserCreateRequest request = objectMapper.readValue(line, UserCreateRequest.class);
+            if (request == null) {
+                return Row.invalid(lineNumber, "JSON 객체가 아닙니다.");
+            }
+            return new Row(lineNumber, request, null);
+        } catch (JsonProcessingException e) {
+            return Row.invalid(lineNumber, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 헤더 행에서 email, name, password 열 위치를 찾습니다.
+     * @return 오류 메시지 (정상이면 null)
+     */
+    private String parseHeader(String line) {
+        List<String> names = splitCsv(line);
+        if (names == null) {
+            return "CSV 헤더 형식이 올바르지 않습니다.";
+        }
+
+        int[] found = {-1, -1, -1};
+        for (int i = 0; i < names.size(); i++) {
+            switch (names.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "email" -> found[0] = i;
+                case "name" -> found[1] = i;
+                case "password" -> found[2] = i;
+                default -> { }
+            }
+        }
+        for (int index : found) {
+            if (index < 0) {
+                return "CSV 헤더에 email, name, password 열이 필요합니다.";
+            }
+        }
+        columns = found;
+        return null;
+    }
+
+    private Row parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values == null) {
+            return Row.invalid(lineNumber, "CSV 형식이 올바르지 않습니다.");
+        }
+
+        String email = value(values, columns[0]);
+        if (values.size() <= Math.max(columns[0], Math.max(columns[1], columns[2]))) {
+            return new Row(lineNumber, null, "CSV 열 개수가 헤더와 다릅니다.", email);
+        }
+        return new Row(lineNumber, new UserCreateRequest(email, value(values, columns[1]), value(values, columns[2])), null);
+    }
+
+    private static String value(List<String> values, int index) {
+        return index < values.size() ? values.get(index).trim() : null;
+    }
+
+    /**
+     * CSV 한 행을 값 목록으로 분리
+     * @return 값 목록 (닫히지 않은 따옴표가 있으면 null)
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * 읽은 행
+     * @param line 입력 행 번호 (1부터 시작)
+     * @param request 사용자 생성 요청 (형식 오류인 경우 null)
+     * @param error 형식 오류 메시지
+     * @param email 형식 오류인 경우에도 읽을 수 있었던 이메일
+     */
+    record Row(long line, UserCreateRequest request, String error, String email) {
+
+        Row(long line, UserCreateRequest request, String error) {
+            this(line, request, error, request != null ? request.getEmail() : null);
+        }
+
+        static Row invalid(long line, String error) {
+            return new Row(line, null, error, null);
+        }
+    }
+}
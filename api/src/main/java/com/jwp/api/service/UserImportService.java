@@ -0,0 +1,270 @@
+package com.jwp.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jwp.api.dto.request.UserCreateRequest;
+import com.jwp.api.dto.response.UserImportResult;
+import com.jwp.api.dto.response.UserImportSummary;
+import com.jwp.core.domain.User;
+import com.jwp.core.exception.BusinessException;
+import com.jwp.core.exception.ErrorCode;
+import com.jwp.core.service.UserCommandService;
+import com.jwp.core.service.UserQueryService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 등록 서비스
+ * 입력 파일을 한 행씩 읽어 배치 단위로 처리하고, 행별 결과를 NDJSON으로 바로 내보냅니다.
+ * 메모리에는 현재 배치만 유지하며, 배치마다 다음 순서로 처리합니다.
+ * <ol>
+ *   <li>입력값 검증 및 배치 안에서의 이메일 중복 제거</li>
+ *   <li>이미 가입된 이메일을 한 번의 IN 조회로 확인</li>
+ *   <li>비밀번호 해시를 가입과 같은 해시 스레드 풀(PasswordHasher)에서 병렬 계산 (가입 요청 몫을 남기도록 동시 작업 수 제한)</li>
+ *   <li>배치 전체를 한 트랜잭션으로 저장 (실패하면 행별로 다시 저장해 실패한 행만 골라냄)</li>
+ * </ol>
+ * 앞선 배치는 이미 커밋되므로, 파일 안에서 배치를 넘어 중복된 이메일은 다음 배치의 조회에서 걸러집니다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private final UserCommandService userCommandService;
+    private final UserQueryService userQueryService;
+    private final PasswordHasher passwordHasher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    /**
+     * 생성자
+     * @param userCommandService 사용자 명령 서비스
+     * @param userQueryService 사용자 조회 서비스
+     * @param passwordHasher 비밀번호 해시 계산기
+     * @param validator 입력값 검증기
+     * @param objectMapper JSON 변환기
+     * @param batchSize 한 트랜잭션으로 저장할 행 수
+     */
+    public UserImportService(UserCommandService userCommandService,
+                             UserQueryService userQueryService,
+                             PasswordHasher passwordHasher,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${summy.user.import.batch-size:500}") int batchSize) {
+        if (batchSize < 1 || batchSize > UserQueryService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("summy.user.import.batch-size must be between 1 and " + UserQueryService.MAX_BATCH_SIZE);
+        }
+        this.userCommandService = userCommandService;
+        this.userQueryService = userQueryService;
+        this.passwordHasher = passwordHasher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 사용자 일괄 등록
+     * 배치마다 결과를 출력 스트림에 쓰고 flush 하며, 마지막 행으로 처리 건수 요약을 씁니다.
+     * @param input 입력 파일 (UTF-8)
+     * @param contentType 입력 형식 (text/csv, application/x-ndjson)
+     * @param output 결과 출력 스트림
+     * @return 처리 건수 요약
+     * @throws IOException 입출력 오류 시
+     */
+    public UserImportSummary importUsers(InputStream input, MediaType contentType, OutputStream output) throws IOException {
+        UserImportReader reader = new UserImportReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)),
+                UserFileFormat.from(contentType),
+                objectMapper);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        long[] counts = new long[UserImportResult.Status.values().length];
+        List<UserImportReader.Row> batch = new ArrayList<>(batchSize);
+        UserImportReader.Row row;
+        do {
+            row = reader.next();
+            if (row != null) {
+                batch.add(row);
+            }
+            if (batch.size() == batchSize || (row == null && !batch.isEmpty())) {
+                for (UserImportResult result : importBatch(batch)) {
+                    counts[result.getStatus().ordinal()]++;
+                    writeLine(writer, result);
+                }
+                writer.flush();
+                batch.clear();
+            }
+        } while (row != null);
+
+        UserImportSummary summary = new UserImportSummary(
+                Arrays.stream(counts).sum(),
+                counts[UserImportResult.Status.CREATED.ordinal()],
+                counts[UserImportResult.Status.DUPLICATE.ordinal()],
+                counts[UserImportResult.Status.INVALID.ordinal()],
+                counts[UserImportResult.Status.FAILED.ordinal()]);
+        writeLine(writer, summary);
+        writer.flush();
+        log.info("사용자 일괄 등록 완료: 전체 {}, 생성 {}, 중복 {}, 오류 {}, 실패 {}",
+                summary.getTotal(), summary.getCreated(), summary.getDuplicate(), summary.getInvalid(), summary.getFailed());
+        return summary;
+    }
+
+    /**
+     * 한 배치 처리
+     * @return 행 번호 순의 결과 목록
+     */
+    private List<UserImportResult> importBatch(List<UserImportReader.Row> rows) {
+        List<UserImportResult> results = new ArrayList<>(rows.size());
+        List<UserImportReader.Row> candidates = new ArrayList<>(rows.size());
+        Set<String> seenEmails = new HashSet<>();
+        for (UserImportReader.Row row : rows) {
+            String error = validate(row);
+            if (error != null) {
+                results.add(UserImportResult.rejected(row.line(), row.email(), UserImportResult.Status.INVALID, error));
+            } else if (!seenEmails.add(normalize(row.email()))) {
+                results.add(UserImportResult.rejected(row.line(), row.email(), UserImportResult.Status.DUPLICATE, "파일 안에서 중복된 이메일입니다."));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<String> existingEmails = userQueryService.findExistingEmails(candidates.stream().map(UserImportReader.Row::email).toList())
+                    .stream()
+                    .map(UserImportService::normalize)
+                    .collect(Collectors.toSet());
+            List<UserImportReader.Row> newRows = new ArrayList<>(candidates.size());
+            for (UserImportReader.Row row : candidates) {
+                if (existingEmails.contains(normalize(row.email()))) {
+                    results.add(UserImportResult.rejected(row.line(), row.email(), UserImportResult.Status.DUPLICATE, "이미 가입된 이메일입니다."));
+                } else {
+                    newRows.add(row);
+                }
+            }
+            if (!newRows.isEmpty()) {
+                results.addAll(save(newRows, hashPasswords(newRows)));
+            }
+        }
+
+        results.sort(Comparator.comparingLong(UserImportResult::getLine));
+        return results;
+    }
+
+    /**
+     * 비밀번호 해시를 병렬로 계산
+     * @return 행 순서와 같은 해시 목록
+     */
+    private List<String> hashPasswords(List<UserImportReader.Row> rows) {
+        return passwordHasher.encodeAll(rows.stream().map(row -> row.request().getPassword()).toList());
+    }
+
+    /**
+     * 배치 저장
+     * 한 트랜잭션으로 저장하고, 실패하면 (조회 이후 같은 이메일이 가입된 경우 등) 행별로 다시 저장합니다.
+     */
+    private List<UserImportResult> save(List<UserImportReader.Row> rows, List<String> encodedPasswords) {
+        try {
+            List<User> savedUsers = userCommandService.createUsers(toUsers(rows, encodedPasswords));
+            List<UserImportResult> results = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                results.add(UserImportResult.created(rows.get(i).line(), rows.get(i).email(), savedUsers.get(i).getId()));
+            }
+            return results;
+        } catch (DataIntegrityViolationException | BusinessException e) {
+            log.debug("사용자 일괄 등록 배치 저장 실패, 행별로 다시 저장: {}", e.getMessage());
+        }
+
+        List<UserImportResult> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            UserImportReader.Row row = rows.get(i);
+            try {
+                User savedUser = userCommandService.createUser(toUser(row, encodedPasswords.get(i)));
+                results.add(UserImportResult.created(row.line(), row.email(), savedUser.getId()));
+            } catch (BusinessException e) {
+                results.add(UserImportResult.rejected(row.line(), row.email(), statusOf(e), e.getMessage()));
+            } catch (DataIntegrityViolationException e) {
+                // 이메일 중복은 createUser 가 EMAIL_DUPLICATION 으로 바꾸므로, 여기에 오는 것은 다른 제약 조건 위반
+                results.add(UserImportResult.rejected(row.line(), row.email(), UserImportResult.Status.INVALID, "저장 조건을 만족하지 않는 값입니다."));
+            } catch (RuntimeException e) {
+                log.warn("사용자 일괄 등록 행 저장 실패: line={}", row.line(), e);
+                results.add(UserImportResult.rejected(row.line(), row.email(), UserImportResult.Status.FAILED, "저장 중 오류가 발생했습니다."));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 행 저장 실패 예외의 결과 상태
+     * 이메일 중복만 DUPLICATE 이고, 나머지 입력 오류는 INVALID, 서버 오류는 FAILED 입니다.
+     */
+    private static UserImportResult.Status statusOf(BusinessException e) {
+        if (e.getErrorCode() == ErrorCode.EMAIL_DUPLICATION) {
+            return UserImportResult.Status.DUPLICATE;
+        }
+        return e.getErrorCode().getStatus() < 500 ? UserImportResult.Status.INVALID : UserImportResult.Status.FAILED;
+    }
+
+    private String validate(UserImportReader.Row row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(row.request());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private static List<User> toUsers(List<UserImportReader.Row> rows, List<String> encodedPasswords) {
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            users.add(toUser(rows.get(i), encodedPasswords.get(i)));
+        }
+        return users;
+    }
+
+    private static User toUser(UserImportReader.Row row, String encodedPassword) {
+        return User.builder()
+                .email(row.request().getEmail())
+                .name(row.request().getName())
+                .password(encodedPassword)
+                .build();
+    }
+
+    /**
+     * 이메일 비교용 정규화 (DB 콜레이션이 대소문자를 구분하지 않는 경우와 맞추기 위함)
+     */
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private void writeLine(Writer writer, Object value) throws IOException {
+        writer.write(objectMapper.writeValueAsString(value));
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,54 @@
+package com.jwp.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BCryptCostCalibrator 테스트")
+class BCryptCostCalibratorTest {
+
+    /** 비용 10에서 해시 한 번에 60ms, 비용이 1 늘 때마다 두 배 */
+    private static final IntToLongFunction HARDWARE = cost -> Duration.ofMillis(60).toNanos() << (cost - 10);
+
+    @Test
+    @DisplayName("목표 시간을 넘지 않는 가장 큰 비용 선택")
+    void calibrate_ShouldPickLargestCostWithinTarget() {
+        // given
+        List<Integer> measured = new ArrayList<>();
+
+        // when
+        int cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 14, c -> {
+            measured.add(c);
+            return HARDWARE.applyAsLong(c);
+        });
+
+        // then
+        assertThat(cost).isEqualTo(12);
+        assertThat(measured).containsExactly(10, 11, 12);
+    }
+
+    @Test
+    @DisplayName("하드웨어가 느리거나 빨라도 비용 범위 안에서 선택")
+    void calibrate_ShouldStayWithinBounds() {
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofMillis(10), 10, 14, HARDWARE)).isEqualTo(10);
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofSeconds(60), 10, 14, HARDWARE)).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("잘못된 목표 시간, 비용 범위는 거부")
+    void calibrate_InvalidArguments_ThrowsException() {
+        assertThatThrownBy(() -> BCryptCostCalibrator.calibrate(Duration.ZERO, 10, 14, HARDWARE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 3, 14, HARDWARE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 12, 11, HARDWARE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
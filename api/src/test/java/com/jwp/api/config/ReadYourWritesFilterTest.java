@@ -0,0 +1,98 @@
+package com.jwp.api.config;
+
+import com.jwp.core.config.datasource.ReplicaRoutingContext;
+import com.jwp.core.config.datasource.ReplicaRoutingProperties;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private ReadYourWritesFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setReadYourWritesMillis(3000);
+        filter = new ReadYourWritesFilter(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("요청 중 쓰기로 고정되면 고정 종료 시각을 쿠키로 돌려주고, 요청이 끝나면 스레드의 고정을 비움")
+    void writeRequest_ShouldReturnCookieAndClearThread() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/users/1"), response,
+                (req, res) -> ReplicaRoutingContext.pinPrimary(Duration.ofMillis(3000)));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).startsWith(ReadYourWritesFilter.PINNED_UNTIL + "=");
+        assertThat(ReplicaRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 클라이언트의 다음 요청은 쿠키의 고정 종료 시각까지 주 데이터베이스로 고정")
+    void nextRequest_ShouldBePinnedFromCookie() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.PINNED_UNTIL, String.valueOf(System.currentTimeMillis() + 2000)));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> pinned.set(ReplicaRoutingContext.isPinnedToPrimary()));
+
+        // then
+        assertThat(pinned).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 요청이 남긴 스레드 고정은 다른 클라이언트의 요청에 이어지지 않음")
+    void otherClient_ShouldNotInheritThreadPin() throws Exception {
+        // given
+        ReplicaRoutingContext.pinPrimary(Duration.ofMillis(3000));
+        AtomicBoolean pinned = new AtomicBoolean(true);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users/1"), new MockHttpServletResponse(),
+                (req, res) -> pinned.set(ReplicaRoutingContext.isPinnedToPrimary()));
+
+        // then
+        assertThat(pinned).isFalse();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 고정 종료 시각은 고정 시간 설정을 넘지 않도록 제한")
+    void requestedPin_ShouldBeCapped() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        request.addHeader(ReadYourWritesFilter.PINNED_UNTIL, String.valueOf(Long.MAX_VALUE));
+        AtomicLong pinnedUntil = new AtomicLong();
+        long before = System.currentTimeMillis();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> pinnedUntil.set(ReplicaRoutingContext.pinnedUntil()));
+
+        // then
+        assertThat(pinnedUntil.get()).isBetween(before, System.currentTimeMillis() + 3000);
+    }
+}
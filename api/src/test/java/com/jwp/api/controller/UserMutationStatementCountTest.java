@@ -0,0 +1,127 @@
+package com.jwp.api.controller;
+
+import com.jwp.api.ApiApplication;
+import com.jwp.api.support.SqlStatementCounter;
+import com.jwp.core.domain.User;
+import com.jwp.core.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 수정/삭제 API SQL 문 수 테스트
+ * API 호출 한 번에 실행되는 전체 SQL 문 수를 정확히 확인하고, 테이블별 문 수도 함께 확인합니다.
+ * 테스트 환경은 2차 캐시를 끄므로 사용자 조회는 항상 SQL 문 하나이며, 운영 환경에서 캐시에 있으면 조회 문도 실행되지 않습니다.
+ * 삭제는 가입 통계와 상태별 사용자 수를 같은 트랜잭션에서 각각 문 하나(INSERT ... ON DUPLICATE KEY UPDATE)로 줄이므로 전체 문 수에 포함됩니다.
+ */
+@SpringBootTest(classes = ApiApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.jwp.api.support.SqlStatementCounter")
+@Transactional
+@DisplayName("사용자 수정/삭제 API SQL 문 수 테스트")
+class UserMutationStatementCountTest {
+
+    private static final String USERS = "users";
+    private static final String SIGNUP_ROLLUP = "user_signup_rollup";
+    private static final String STATUS_COUNT = "user_status_count";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .email("statement-count@example.com")
+                .name("문장수")
+                .password("password")
+                .build()).getId();
+
+        // 영속성 컨텍스트에 남은 사용자로 조회가 생략되지 않도록 비움
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.clear();
+    }
+
+    @Test
+    @DisplayName("사용자 수정 - 조회 1번, UPDATE 1번")
+    void updateUser_ShouldLoadOnceAndUpdateOnce() throws Exception {
+        // when
+        mockMvc.perform(put("/api/v1/users/{userId}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"새이름\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("새이름"));
+
+        // then
+        assertThat(SqlStatementCounter.statements()).hasSize(2);
+        assertThat(SqlStatementCounter.count("select", USERS)).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("update", USERS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 삭제 - 조회 1번, DELETE 1번, 가입 통계와 상태별 사용자 수 감소 각 1번")
+    void deleteUser_ShouldLoadOnceAndDeleteOnce() throws Exception {
+        // when
+        mockMvc.perform(delete("/api/v1/users/{userId}", userId))
+                .andExpect(status().isNoContent());
+
+        // then
+        assertThat(SqlStatementCounter.statements()).hasSize(4);
+        assertThat(SqlStatementCounter.count("select", USERS)).isEqualTo(1);
+        assertThat(SqlStatementCounter.count("delete", USERS)).isEqualTo(1);
+        assertThat(SqlStatementCounter.count(SIGNUP_ROLLUP)).isEqualTo(1);
+        assertThat(SqlStatementCounter.count(STATUS_COUNT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 사용자 수정 - 조회 1번 후 404, 변경 문 없음")
+    void updateUser_NotFound_ShouldOnlyLoad() throws Exception {
+        // when
+        mockMvc.perform(put("/api/v1/users/{userId}", userId + 1_000)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"새이름\"}"))
+                .andExpect(status().isNotFound());
+
+        // then
+        assertThat(SqlStatementCounter.statements()).hasSize(1);
+        assertThat(SqlStatementCounter.count("select", USERS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 사용자 삭제 - 조회 1번 후 404, 변경 문 없음")
+    void deleteUser_NotFound_ShouldOnlyLoad() throws Exception {
+        // when
+        mockMvc.perform(delete("/api/v1/users/{userId}", userId + 1_000))
+                .andExpect(status().isNotFound());
+
+        // then
+        assertThat(SqlStatementCounter.statements()).hasSize(1);
+        assertThat(SqlStatementCounter.count("select", USERS)).isEqualTo(1);
+    }
+}
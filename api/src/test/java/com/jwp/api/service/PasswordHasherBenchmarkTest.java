@@ -0,0 +1,144 @@
+package com.jwp.api.service;
+
+import com.jwp.api.exception.PasswordHashingBusyException;
+import com.jwp.core.support.Benchmark;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가입 폭주 중 혼합 트래픽 벤치마크 (요청 스레드에서 해시 vs 전용 해시 스레드 풀)
+ * Tomcat 요청 스레드 풀을 흉내 낸 고정 스레드 풀에 가입 요청(BCrypt 해시)과 가벼운 조회 요청을 섞어 한꺼번에 넣고,
+ * 가벼운 요청의 응답 시간 분포와 가입 요청의 처리/거절 건수를 비교합니다.
+ * 결과는 테스트 로그의 "[benchmark]" 줄에 남습니다.
+ * 실행: ./gradlew :api:test --tests '*PasswordHasherBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("비밀번호 해시 격리 벤치마크")
+class PasswordHasherBenchmarkTest {
+
+    /** Tomcat 기본 최대 스레드 수보다 작게 잡은 요청 스레드 수 */
+    private static final int REQUEST_THREADS = 64;
+    private static final int REQUESTS = 4_000;
+    /** 요청 몇 건마다 가입 요청 한 건을 섞을지 */
+    private static final int SIGNUP_EVERY = 5;
+    private static final int BCRYPT_COST = 10;
+
+    @Test
+    @DisplayName("가입 폭주 중 가벼운 요청의 응답 시간 비교")
+    void compareInlineAndIsolatedHashing() throws Exception {
+        PasswordEncoder encoder = new BCryptPasswordEncoder(BCRYPT_COST);
+        encoder.encode("warm-up");
+
+        run("inline", encoder::encode);
+
+        PasswordHasher passwordHasher = new PasswordHasher(encoder, 0, 64, 1, 0);
+        try {
+            run("isolated", passwordHasher::encode);
+        } finally {
+            passwordHasher.shutdown();
+        }
+    }
+
+    private void run(String label, Function<String, String> hash) {
+        Outcome outcome = Benchmark.once(label + " " + REQUESTS + " requests", () -> mixedTraffic(hash)).value();
+
+        long[] latencies = outcome.sortedLightLatencies();
+        log.info("[benchmark] {} light p50={} ms p99={} ms max={} ms | signups ok={} rejected={}",
+                label,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000,
+                outcome.signedUp(), outcome.rejected());
+        assertThat(outcome.signedUp() + outcome.rejected()).isEqualTo(REQUESTS / SIGNUP_EVERY);
+    }
+
+    /**
+     * 가입 요청과 가벼운 요청을 섞어 요청 스레드 풀에 넣고 모두 끝날 때까지 대기
+     */
+    private Outcome mixedTraffic(Function<String, String> hash) throws Exception {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        AtomicLong signedUp = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        List<Future<Long>> light = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                long submittedAt = System.nanoTime();
+                if (i % SIGNUP_EVERY == 0) {
+                    String password = "password-" + i;
+                    requestThreads.submit(() -> {
+                        try {
+                            hash.apply(password);
+                            signedUp.incrementAndGet();
+                        } catch (PasswordHashingBusyException e) {
+                            rejected.incrementAndGet();
+                        }
+                    });
+                } else {
+                    int seed = i;
+                    light.add(requestThreads.submit(() -> {
+                        lightRequest(seed);
+                        return System.nanoTime() - submittedAt;
+                    }));
+                }
+            }
+
+            long[] latencies = new long[light.size()];
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = light.get(i).get();
+            }
+            requestThreads.shutdown();
+            while (!requestThreads.awaitTermination(1, TimeUnit.SECONDS)) {
+                // 남은 가입 요청이 끝날 때까지 대기
+            }
+
+            Arrays.sort(latencies);
+            return new Outcome(latencies, signedUp.get(), rejected.get());
+        } finally {
+            requestThreads.shutdownNow();
+        }
+    }
+
+    /**
+     * 가벼운 조회 요청 (캐시 적중 응답 직렬화 정도의 CPU 작업)
+     */
+    private static void lightRequest(int seed) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] value = ("user-" + seed).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < 50; i++) {
+            value = digest.digest(value);
+        }
+    }
+
+    /**
+     * 혼합 트래픽 결과
+     * @param sortedLightLatencies 가벼운 요청의 응답 시간 (나노초, 오름차순)
+     * @param signedUp 처리된 가입 요청 수
+     * @param rejected 거절된 가입 요청 수
+     */
+    private record Outcome(long[] sortedLightLatencies, long signedUp, long rejected) {
+    }
+
+    private static long percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(index, 0)] / 1_000_000;
+    }
+}
@@ -0,0 +1,125 @@
+package com.jwp.api.service;
+
+import com.jwp.api.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHasher 테스트")
+class PasswordHasherTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시를 계산해 결과 반환")
+    void encode_ShouldHashOnDedicatedThread() {
+        // given
+        passwordHasher = new PasswordHasher(new ThreadRecordingEncoder(), 1, 1, 1, 0);
+
+        // when
+        String hashed = passwordHasher.encode("password");
+
+        // then
+        assertThat(hashed).isEqualTo("password-hash-1:password");
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 거절")
+    void encode_QueueFull_ThrowsBusyException() throws Exception {
+        // given
+        passwordHasher = new PasswordHasher(new BlockingEncoder(), 1, 1, 3, 0);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("second"));
+        waitUntilQueued();
+
+        // when, then
+        assertThatThrownBy(() -> passwordHasher.encode("third"))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .satisfies(e -> assertThat(((PasswordHashingBusyException) e).getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(passwordHasher.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    @Test
+    @DisplayName("일괄 해시는 대기열보다 많아도 거절하지 않고 입력 순서대로 모두 계산")
+    void encodeAll_MoreThanQueue_ShouldHashAllInOrder() {
+        // given
+        passwordHasher = new PasswordHasher(new ThreadRecordingEncoder(), 1, 1, 1, 2);
+
+        // when
+        List<String> hashed = passwordHasher.encodeAll(List.of("a", "b", "c", "d", "e"));
+
+        // then
+        assertThat(hashed).containsExactly("password-hash-1:a", "password-hash-1:b", "password-hash-1:c",
+                "password-hash-1:d", "password-hash-1:e");
+        assertThat(passwordHasher.rejectedCount()).isZero();
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordHasher, "executor");
+        while (executor.getQueue().isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("hash request was not queued");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static class ThreadRecordingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return Thread.currentThread().getName() + ":" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
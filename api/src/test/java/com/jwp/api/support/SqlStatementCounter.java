@@ -0,0 +1,71 @@
+package com.jwp.api.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문 수 측정용 StatementInspector
+ * Hibernate가 실행하는 SQL 문을 스레드별로 기록해, API 호출 한 번에 실행된 문의 수를 종류와 테이블별로 셀 수 있게 합니다.
+ * 스케줄 작업 등 다른 스레드의 SQL은 섞이지 않으며, MockMvc 요청은 테스트 스레드에서 처리되므로 그대로 측정됩니다.
+ * 사용: spring.jpa.properties.hibernate.session_factory.statement_inspector=com.jwp.api.support.SqlStatementCounter
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    /** use_sql_comments 설정 시 앞에 붙는 주석 */
+    private static final Pattern LEADING_COMMENT = Pattern.compile("^\\s*/\\*.*?\\*/\\s*", Pattern.DOTALL);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(LEADING_COMMENT.matcher(sql).replaceFirst("").toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    /**
+     * 현재 스레드의 기록 초기화
+     */
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * 현재 스레드에서 기록된 SQL 문 (주석 제외, 소문자)
+     * @return SQL 문 목록
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * 테이블을 사용한 SQL 문 수
+     * @param table 테이블 이름
+     * @return SQL 문 수
+     */
+    public static long count(String table) {
+        Pattern tablePattern = tablePattern(table);
+        return STATEMENTS.get().stream().filter(sql -> tablePattern.matcher(sql).find()).count();
+    }
+
+    /**
+     * 테이블을 사용한 특정 종류의 SQL 문 수
+     * @param type SQL 문 종류 (select, insert, update, delete)
+     * @param table 테이블 이름
+     * @return SQL 문 수
+     */
+    public static long count(String type, String table) {
+        Pattern tablePattern = tablePattern(table);
+        String prefix = type.toLowerCase(Locale.ROOT);
+        return STATEMENTS.get().stream()
+                .filter(sql -> sql.startsWith(prefix) && tablePattern.matcher(sql).find())
+                .count();
+    }
+
+    private static Pattern tablePattern(String table) {
+        return Pattern.compile("\\b" + Pattern.quote(table.toLowerCase(Locale.ROOT)) + "\\b");
+    }
+}
@@ -0,0 +1,223 @@
+package com.jwp.core.config.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.UserSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 사용자 요약 정보 공유 캐시 계층
+ * 요약 정보는 사용자별 해시(summy:user:summary:{id})로 만료 시간과 함께 저장하고,
+ * 무효화 알림은 pub/sub 채널로 "발행 노드 ID:사용자 ID,..." 형식으로 발행합니다.
+ *
+ * <p>저장은 Lua 스크립트 하나로 해시 쓰기와 만료 시간 설정을 함께 처리하며, 이미 저장된 값보다 버전이 낮은 값과
+ * 무효화 표식(summy:user:evicted:{id})이 남아 있는 동안의 값은 저장하지 않습니다.
+ * 무효화는 항목을 지우면서 짧은 만료 시간의 표식을 남기므로, 무효화 직전에 데이터베이스에서 읽은 이전 값이
+ * 무효화 뒤에 도착해도 다시 저장되지 않습니다.</p>
+ *
+ * <p>Redis 오류는 요청을 실패시키지 않고 경고 로그만 남깁니다 (조회는 캐시에 없는 것으로 처리).
+ * 무효화 알림을 놓친 노드의 로컬 항목과, 표식 유지 시간보다 오래 걸린 조회의 값이 다시 저장된 경우에도 각 계층의 만료 시간 이상 남지 않습니다.</p>
+ */
+@Slf4j
+public class RedisUserSummaryTier implements UserSummaryRemoteTier {
+
+    private static final String KEY_PREFIX = "summy:user:summary:";
+    private static final String EVICTED_KEY_PREFIX = "summy:user:evicted:";
+
+    /**
+     * KEYS[1] 요약 정보 해시, KEYS[2] 무효화 표식, ARGV[1] 만료 시간 (밀리초), ARGV[2] 버전, ARGV[3..] 필드와 값
+     * 표식이 있거나 저장된 버전이 더 높으면 저장하지 않고 0을 돌려줍니다.
+     */
+    static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            local stored = redis.call('HGET', KEYS[1], 'version')
+            if stored and tonumber(stored) > tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS 요약 정보 해시와 무효화 표식을 번갈아, ARGV[1] 표식 만료 시간 (밀리초)
+     */
+    static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS, 2 do
+                redis.call('DEL', KEYS[i])
+                redis.call('SET', KEYS[i + 1], '1', 'PX', ARGV[1])
+            end
+            return #KEYS / 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChannelTopic topic;
+    private final Duration timeToLive;
+    private final Duration evictionMarkerTimeToLive;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<Collection<Long>>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 생성자
+     * @param redisTemplate Redis 문자열 템플릿
+     * @param listenerContainer 무효화 알림을 수신할 리스너 컨테이너
+     * @param channel 무효화 알림 채널
+     * @param timeToLive 공유 계층 항목 만료 시간
+     * @param evictionMarkerTimeToLive 무효화 뒤 이전 값의 저장을 막는 표식의 유지 시간
+     */
+    public RedisUserSummaryTier(StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                String channel,
+                                Duration timeToLive,
+                                Duration evictionMarkerTimeToLive) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        this.timeToLive = timeToLive;
+        this.evictionMarkerTimeToLive = evictionMarkerTimeToLive;
+        listenerContainer.addMessageListener(this::onMessage, topic);
+    }
+
+    @Override
+    public UserSummary get(Long id) {
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(KEY_PREFIX + id);
+            return hash.isEmpty() ? null : fromHash(id, hash);
+        } catch (DataAccessException e) {
+            log.warn("사용자 요약 정보 공유 캐시 조회 실패: id={}, {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(UserSummary summary) {
+        try {
+            redisTemplate.execute(PUT_SCRIPT,
+                    List.of(KEY_PREFIX + summary.id(), EVICTED_KEY_PREFIX + summary.id()),
+                    putArguments(summary, timeToLive));
+        } catch (DataAccessException e) {
+            log.warn("사용자 요약 정보 공유 캐시 저장 실패: id={}, {}", summary.id(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictAndBroadcast(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, evictKeys(ids), String.valueOf(evictionMarkerTimeToLive.toMillis()));
+            redisTemplate.convertAndSend(topic.getTopic(), encode(nodeId, ids));
+        } catch (DataAccessException e) {
+            log.warn("사용자 요약 정보 공유 캐시 무효화 실패: {}건, {}", ids.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<Long>> listener) {
+        listeners.add(listener);
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        try {
+            List<Long> ids = decode(body.substring(separator + 1));
+            listeners.forEach(listener -> listener.accept(ids));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 캐시 무효화 알림: {}", body);
+        }
+    }
+
+    static String encode(String nodeId, Collection<Long> ids) {
+        return nodeId + ':' + ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    static List<Long> decode(String ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+    }
+
+    static Object[] putArguments(UserSummary summary, Duration timeToLive) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add(String.valueOf(timeToLive.toMillis()));
+        arguments.add(String.valueOf(summary.version() != null ? summary.version() : -1L));
+        toHash(summary).forEach((field, value) -> {
+            arguments.add(field);
+            arguments.add(value);
+        });
+        return arguments.toArray();
+    }
+
+    static List<String> evictKeys(Collection<Long> ids) {
+        List<String> keys = new ArrayList<>(ids.size() * 2);
+        for (Long id : ids) {
+            keys.add(KEY_PREFIX + id);
+            keys.add(EVICTED_KEY_PREFIX + id);
+        }
+        return keys;
+    }
+
+    static Map<String, String> toHash(UserSummary summary) {
+        Map<String, String> hash = new HashMap<>();
+        putIfNotNull(hash, "email", summary.email());
+        putIfNotNull(hash, "name", summary.name());
+        putIfNotNull(hash, "status", summary.status() != null ? summary.status().name() : null);
+        putIfNotNull(hash, "createdAt", summary.createdAt() != null ? summary.createdAt().toString() : null);
+        putIfNotNull(hash, "updatedAt", summary.updatedAt() != null ? summary.updatedAt().toString() : null);
+        putIfNotNull(hash, "version", summary.version() != null ? summary.version().toString() : null);
+        return hash;
+    }
+
+    static UserSummary fromHash(Long id, Map<?, ?> hash) {
+        Object status = hash.get("status");
+        Object createdAt = hash.get("createdAt");
+        Object updatedAt = hash.get("updatedAt");
+        Object version = hash.get("version");
+        return new UserSummary(
+                id,
+                (String) hash.get("email"),
+                (String) hash.get("name"),
+                status != null ? UserStatus.valueOf((String) status) : null,
+                createdAt != null ? LocalDateTime.parse((String) createdAt) : null,
+                updatedAt != null ? LocalDateTime.parse((String) updatedAt) : null,
+                version != null ? Long.valueOf((String) version) : null);
+    }
+
+    private static void putIfNotNull(Map<String, String> hash, String field, String value) {
+        if (value != null) {
+            hash.put(field, value);
+        }
+    }
+}
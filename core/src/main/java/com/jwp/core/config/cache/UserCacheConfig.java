@@ -0,0 +1,66 @@
+package com.jwp.core.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 사용자 캐시 공유 계층 설정
+ * summy.user.redis-cache.enabled=true 이면 노드별 로컬 캐시 아래에 Redis 계층을 두고, 변경 시 pub/sub으로 다른 노드의 로컬 캐시를 무효화합니다.
+ * 사용하지 않으면 (기본값) 로컬 캐시만 사용합니다.
+ * Redis 접속 정보는 spring.data.redis.* 설정을 따릅니다.
+ */
+@Configuration
+public class UserCacheConfig {
+
+    private static final String PREFIX = "summy.user.redis-cache";
+
+    /**
+     * 무효화 알림 수신용 리스너 컨테이너
+     * @param connectionFactory Redis 연결 팩토리
+     * @return 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer userCacheListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * Redis 공유 계층
+     * @param redisTemplate Redis 문자열 템플릿
+     * @param userCacheListenerContainer 무효화 알림 수신용 리스너 컨테이너
+     * @param channel 무효화 알림 채널
+     * @param timeToLiveMillis 공유 계층 항목 만료 시간 (밀리초)
+     * @param evictionMarkerMillis 무효화 뒤 이전 값의 저장을 막는 표식의 유지 시간 (밀리초)
+     * @return Redis 공유 계층
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "enabled", havingValue = "true")
+    public UserSummaryRemoteTier redisUserSummaryTier(StringRedisTemplate redisTemplate,
+                                                      RedisMessageListenerContainer userCacheListenerContainer,
+                                                      @Value("${summy.user.redis-cache.channel:summy:user:invalidate}") String channel,
+                                                      @Value("${summy.user.redis-cache.time-to-live-millis:600000}") long timeToLiveMillis,
+                                                      @Value("${summy.user.redis-cache.eviction-marker-millis:10000}") long evictionMarkerMillis) {
+        return new RedisUserSummaryTier(redisTemplate, userCacheListenerContainer, channel,
+                Duration.ofMillis(timeToLiveMillis), Duration.ofMillis(evictionMarkerMillis));
+    }
+
+    /**
+     * 공유 계층 없음 (단일 노드, 로컬 캐시만 사용)
+     * @return 공유 계층 없음
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "enabled", havingValue = "false", matchIfMissing = true)
+    public UserSummaryRemoteTier noUserSummaryRemoteTier() {
+        return UserSummaryRemoteTier.none();
+    }
+}
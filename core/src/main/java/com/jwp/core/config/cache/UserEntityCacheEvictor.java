@@ -0,0 +1,52 @@
+package com.jwp.core.config.cache;
+
+import java.util.Collection;
+
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import com.jwp.core.domain.User;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 다른 노드의 사용자 변경을 2차 캐시(엔티티, 자연 키)에 반영
+ * 2차 캐시는 노드별 로컬 캐시이므로, 공유 계층의 무효화 알림을 받으면 알림에 포함된 사용자의 엔티티 캐시를 제거합니다.
+ * 제거하지 않으면 이 노드가 만료 전까지 변경 전 사용자나 삭제된 사용자를 응답하고,
+ * 이전 버전으로 수정 요청을 처리하여 충돌(409)로 실패합니다.
+ *
+ * <p>알림에는 사용자 ID만 있어 이메일 자연 키 항목을 골라낼 수 없으므로 자연 키 캐시는 영역 전체를 제거합니다.
+ * 이메일은 바뀌지 않으므로 자연 키 항목이 틀려지는 경우는 삭제뿐이지만, 알림만으로는 삭제인지 알 수 없습니다.</p>
+ *
+ * <p>공유 계층을 사용하지 않으면 (UserSummaryRemoteTier.none()) 알림이 없으므로 아무 일도 하지 않습니다.</p>
+ */
+@Component
+public class UserEntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 생성자
+     * @param remoteTier 공유 캐시 계층
+     * @param entityManagerFactory 엔티티 매니저 팩토리
+     */
+    public UserEntityCacheEvictor(UserSummaryRemoteTier remoteTier, EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        remoteTier.subscribe(this::evict);
+    }
+
+    /**
+     * 사용자 엔티티 캐시와 자연 키 캐시 제거
+     * @param ids 변경된 사용자 ID 목록
+     */
+    void evict(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(User.class, id));
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictNaturalIdData(User.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jwp.core.config.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import com.jwp.core.repository.UserSummary;
+
+/**
+ * 사용자 요약 정보 공유 캐시 계층
+ * 노드별 로컬 캐시(UserSummaryCache) 아래에서 여러 API 노드가 함께 사용하는 두 번째 계층과,
+ * 한 노드의 변경을 다른 노드의 로컬 캐시에 알리는 무효화 채널을 제공합니다.
+ *
+ * <p>구현은 장애 시 예외를 던지지 않고 캐시에 없는 것처럼 동작해야 합니다 (데이터베이스 조회로 대체).</p>
+ */
+public interface UserSummaryRemoteTier {
+
+    /**
+     * 요약 정보 조회
+     * @param id 사용자 ID
+     * @return 요약 정보 (없거나 조회할 수 없으면 null)
+     */
+    UserSummary get(Long id);
+
+    /**
+     * 요약 정보 저장
+     * @param summary 요약 정보
+     */
+    void put(UserSummary summary);
+
+    /**
+     * 공유 계층에서 제거하고 다른 노드에 무효화 알림 발행
+     * @param ids 사용자 ID 목록
+     */
+    void evictAndBroadcast(Collection<Long> ids);
+
+    /**
+     * 다른 노드가 발행한 무효화 알림 수신 등록
+     * 자기 노드가 발행한 알림은 전달하지 않습니다.
+     * @param listener 무효화된 사용자 ID 목록을 받는 함수
+     */
+    void subscribe(Consumer<Collection<Long>> listener);
+
+    /**
+     * 공유 계층을 사용하지 않는 구현 (단일 노드)
+     * @return 항상 비어 있고 알림을 발행하지 않는 계층
+     */
+    static UserSummaryRemoteTier none() {
+        return NoRemoteTier.INSTANCE;
+    }
+
+    /**
+     * 공유 계층 없음
+     */
+    enum NoRemoteTier implements UserSummaryRemoteTier {
+        INSTANCE;
+
+        @Override
+        public UserSummary get(Long id) {
+            return null;
+        }
+
+        @Override
+        public void put(UserSummary summary) {
+        }
+
+        @Override
+        public void evictAndBroadcast(Collection<Long> ids) {
+        }
+
+        @Override
+        public void subscribe(Consumer<Collection<Long>> listener) {
+        }
+    }
+}
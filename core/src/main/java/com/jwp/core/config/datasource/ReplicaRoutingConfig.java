@@ -0,0 +1,96 @@
+package com.jwp.core.config.datasource;
+
+import com.jwp.core.domain.event.UserChangedEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ * summy.datasource.routing.enabled=true 일 때만 적용되며, 이 경우 spring.datasource 대신
+ * summy.datasource.routing.primary / replicas 설정으로 데이터소스를 구성합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "summy.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    private final ReplicaRoutingProperties properties;
+
+    /**
+     * 생성자
+     * @param properties 읽기 복제본 라우팅 설정
+     */
+    public ReplicaRoutingConfig(ReplicaRoutingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 라우팅 데이터소스
+     * @return 주 데이터베이스와 복제본을 트랜잭션 종류에 따라 선택하는 데이터소스
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaRoutingProperties.Node> nodes = properties.getReplicas();
+        for (int i = 0; i < nodes.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, build(name, nodes.get(i)));
+        }
+
+        return new ReplicaRoutingDataSource(
+                build(ReplicaRoutingDataSource.PRIMARY, properties.getPrimary()),
+                replicas,
+                properties.getLagQuery(),
+                properties.getLagColumn(),
+                properties.getMaxLagSeconds());
+    }
+
+    /**
+     * 애플리케이션 기본 데이터소스
+     * 트랜잭션의 읽기 전용 여부가 정해진 뒤에 라우팅되도록 실제 연결 획득을 첫 쿼리까지 미룹니다.
+     * @param replicaRoutingDataSource 라우팅 데이터소스
+     * @return 지연 연결 데이터소스
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 사용자 변경이 커밋되면 이후 조회를 잠시 주 데이터베이스로 고정 (read-your-writes)
+     * 요청을 처리하는 중이면 api 모듈의 ReadYourWritesFilter가 고정 종료 시각을 클라이언트에 돌려주고,
+     * 같은 클라이언트의 다음 요청에서 다시 고정합니다.
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void pinPrimaryAfterUserChange(UserChangedEvent event) {
+        ReplicaRoutingContext.pinPrimary(Duration.ofMillis(properties.getReadYourWritesMillis()));
+    }
+
+    private static DataSource build(String name, ReplicaRoutingProperties.Node node) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword())
+                .driverClassName(node.getDriverClassName())
+                .build();
+        dataSource.setPoolName("summy-" + name);
+        return dataSource;
+    }
+}
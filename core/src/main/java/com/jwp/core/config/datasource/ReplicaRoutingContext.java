@@ -0,0 +1,73 @@
+package com.jwp.core.config.datasource;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 라우팅 컨텍스트
+ * 쓰기 직후의 읽기 전용 트랜잭션이 아직 복제되지 않은 복제본을 읽지 않도록
+ * 일정 시간 동안 주 데이터베이스로 고정(read-your-writes)합니다.
+ *
+ * <p>고정 상태는 현재 스레드에만 있으므로, 요청 단위로 사용할 때는 요청이 시작될 때 클라이언트가 보낸 고정 시각으로
+ * {@link #pinPrimaryUntil(long)} 을 호출하고, 요청이 끝나면 {@link #pinnedUntil()} 을 클라이언트에 돌려준 뒤
+ * {@link #clear()} 로 비워야 합니다 (api 모듈의 ReadYourWritesFilter).
+ * 그래야 같은 클라이언트의 다음 요청이 다른 스레드에서 처리되어도 고정이 이어지고,
+ * 같은 스레드를 이어 쓰는 다른 클라이언트의 요청은 고정되지 않습니다.</p>
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Long> PRIMARY_PINNED_UNTIL = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * 현재 스레드의 조회를 일정 시간 동안 주 데이터베이스로 고정
+     * @param duration 고정할 시간
+     */
+    public static void pinPrimary(Duration duration) {
+        pinPrimaryUntil(System.currentTimeMillis() + duration.toMillis());
+    }
+
+    /**
+     * 현재 스레드의 조회를 지정한 시각까지 주 데이터베이스로 고정
+     * 이미 더 늦은 시각까지 고정되어 있으면 그대로 둡니다.
+     * @param epochMillis 고정 종료 시각 (epoch 밀리초)
+     */
+    public static void pinPrimaryUntil(long epochMillis) {
+        Long pinnedUntil = PRIMARY_PINNED_UNTIL.get();
+        if (pinnedUntil == null || pinnedUntil < epochMillis) {
+            PRIMARY_PINNED_UNTIL.set(epochMillis);
+        }
+    }
+
+    /**
+     * 현재 스레드가 주 데이터베이스로 고정되어 있는지 확인
+     * @return 고정 시간이 남아 있으면 true
+     */
+    public static boolean isPinnedToPrimary() {
+        return pinnedUntil() > 0;
+    }
+
+    /**
+     * 현재 스레드의 고정 종료 시각
+     * @return 고정 종료 시각 (epoch 밀리초, 고정되어 있지 않으면 0)
+     */
+    public static long pinnedUntil() {
+        Long pinnedUntil = PRIMARY_PINNED_UNTIL.get();
+        if (pinnedUntil == null) {
+            return 0;
+        }
+        if (pinnedUntil < System.currentTimeMillis()) {
+            PRIMARY_PINNED_UNTIL.remove();
+            return 0;
+        }
+        return pinnedUntil;
+    }
+
+    /**
+     * 현재 스레드의 고정 해제
+     */
+    public static void clear() {
+        PRIMARY_PINNED_UNTIL.remove();
+    }
+}
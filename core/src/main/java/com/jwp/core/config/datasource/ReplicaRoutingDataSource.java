@@ -0,0 +1,158 @@
+package com.jwp.core.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 라우팅 데이터소스
+ * 읽기 전용 트랜잭션은 사용 가능한 복제본에 라운드 로빈으로 보내고, 그 외에는 주 데이터베이스로 보냅니다.
+ * 연결할 수 없거나 복제 지연이 허용치를 넘은 복제본은 건너뛰며, 사용 가능한 복제본이 없으면 주 데이터베이스를 사용합니다.
+ *
+ * <p>트랜잭션의 읽기 전용 여부는 트랜잭션 시작 후에 정해지므로
+ * 실제 연결 획득을 첫 쿼리까지 미루는 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.</p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /** 주 데이터베이스 라우팅 키 */
+    public static final String PRIMARY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * 생성자
+     * @param primary 주 데이터베이스
+     * @param replicas 이름별 읽기 복제본
+     * @param lagQuery 복제 지연 조회 쿼리 (null이면 연결 가능 여부만 확인)
+     * @param lagColumn 복제 지연 시간(초) 컬럼
+     * @param maxLagSeconds 복제본을 사용할 수 있는 최대 복제 지연 시간(초)
+     */
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    String lagQuery,
+                                    String lagColumn,
+                                    long maxLagSeconds) {
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            this.replicas.add(new Replica(name, dataSource));
+        });
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicaRoutingContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        Replica replica = nextAvailableReplica();
+        return replica != null ? replica.name : PRIMARY;
+    }
+
+    /**
+     * 복제본 상태 확인
+     * 연결 가능 여부와 복제 지연을 확인해 사용 가능 여부를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${summy.datasource.routing.health-check-interval-millis:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean available = isAvailable(replica);
+            if (replica.available != available) {
+                log.info("읽기 복제본 상태 변경: {} -> {}", replica.name, available ? "사용 가능" : "사용 불가");
+            }
+            replica.available = available;
+        }
+    }
+
+    /**
+     * 사용 가능한 복제본 이름 목록
+     * @return 복제본 이름 목록
+     */
+    public List<String> availableReplicas() {
+        return replicas.stream().filter(replica -> replica.available).map(replica -> replica.name).toList();
+    }
+
+    private Replica nextAvailableReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAvailable(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return false;
+            }
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return true;
+            }
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                Object lag = resultSet.getObject(lagColumn);
+                // 복제가 중단된 경우 지연 시간이 null로 조회됨
+                return lag instanceof Number seconds && seconds.longValue() <= maxLagSeconds;
+            }
+        } catch (SQLException e) {
+            log.warn("읽기 복제본 상태 확인 실패: {}", replica.name, e);
+            return false;
+        }
+    }
+
+    /**
+     * 읽기 복제본
+     */
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
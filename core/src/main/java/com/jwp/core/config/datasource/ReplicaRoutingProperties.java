@@ -0,0 +1,51 @@
+package com.jwp.core.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ * summy.datasource.routing.enabled=true 일 때 주 데이터베이스와 복제본 데이터소스를 구성합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "summy.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    /** 라우팅 사용 여부 */
+    private boolean enabled;
+
+    /** 주 데이터베이스 (쓰기, 읽기-쓰기 트랜잭션) */
+    private Node primary = new Node();
+
+    /** 읽기 복제본 목록 (읽기 전용 트랜잭션) */
+    private List<Node> replicas = new ArrayList<>();
+
+    /** 복제 지연 조회 쿼리 (MariaDB 복제본 상태, 빈 값이면 연결 가능 여부만 확인) */
+    private String lagQuery = "SHOW SLAVE STATUS";
+
+    /** 복제 지연 조회 결과에서 지연 시간(초)을 담은 컬럼 */
+    private String lagColumn = "Seconds_Behind_Master";
+
+    /** 복제본을 사용할 수 있는 최대 복제 지연 시간(초) */
+    private long maxLagSeconds = 5;
+
+    /** 사용자 변경 후 같은 클라이언트의 조회를 주 데이터베이스로 고정할 시간(밀리초) */
+    private long readYourWritesMillis = 3000;
+
+    /**
+     * 데이터베이스 접속 정보
+     */
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jwp.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 잠금 엔티티
+ * 여러 노드에서 같은 예약 작업이 동시에 실행되지 않도록 작업마다 한 행을 두고,
+ * 잠금 만료 일시가 지난 행을 가져간 노드만 작업을 실행합니다.
+ */
+@Entity
+@Table(name = "scheduled_job_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduledJobLock {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private String lockedBy;
+
+    /**
+     * 생성자
+     * @param name 작업 이름
+     * @param lockedUntil 잠금 만료 일시
+     * @param lockedBy 잠금을 가진 노드
+     */
+    public ScheduledJobLock(String name, LocalDateTime lockedUntil, String lockedBy) {
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+        this.lockedBy = lockedBy;
+    }
+}
@@ -5,23 +5,49 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
 /**
  * 사용자 엔티티
  * 시스템 사용자 정보를 관리하는 엔티티 클래스입니다.
+ * 변경이 드문 반면 ID, 이메일 조회가 잦으므로 2차 캐시(엔티티, 자연 키)를 사용합니다.
+ * 마지막 로그인 일시는 엔티티를 거치지 않고 UserLastLoginBuffer가 모아서 갱신하므로,
+ * 다른 필드를 바꿀 때 캐시에 남아 있던 이전 로그인 일시로 덮어쓰지 않도록 변경된 컬럼만 UPDATE 합니다.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
 
+    /** 사용자 엔티티 캐시 영역 */
+    public static final String CACHE_REGION = "user";
+
+    /** 이메일 → 사용자 ID 자연 키 캐시 영역 */
+    public static final String NATURAL_ID_CACHE_REGION = "user-natural-id";
+
+    /**
+     * ID 블록 크기 (user_id_seq 의 증가값과 같아야 함)
+     * 시퀀스를 한 번 조회할 때마다 이만큼의 ID를 메모리에서 할당하므로,
+     * INSERT 전에 ID가 정해져 Hibernate JDBC 배치 삽입을 사용할 수 있습니다.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id_generator")
+    @SequenceGenerator(name = "user_id_generator", sequenceName = "user_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    @NaturalId
     @Column(unique = true, nullable = false, length = 100)
     private String email;
 
@@ -38,6 +64,14 @@ public class User extends BaseTimeEntity {
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
 
+    /**
+     * 버전 (변경될 때마다 1씩 증가)
+     * 동시 수정 감지(낙관적 잠금)와 사용자 조회 API의 ETag에 사용합니다.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * 사용자 생성자 (빌더 패턴 사용)
      */
@@ -65,6 +99,7 @@ public class User extends BaseTimeEntity {
 
     /**
      * 로그인 시간 업데이트
+     * 로그인 요청마다 호출하면 사용자 행을 매번 갱신하므로, 로그인 처리에서는 UserLastLoginBuffer를 사용합니다.
      */
     public void updateLastLoginAt() {
         this.lastLoginAt = LocalDateTime.now();
@@ -0,0 +1,49 @@
+package com.jwp.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 가입 통계 시간별 집계 엔티티
+ * 한 시간 구간에 가입한 사용자 수를 현재 상태별로 보관합니다.
+ * 사용자 테이블을 스캔하지 않고 구간 수에 비례하는 비용으로 가입 추이를 조회하기 위해 사용합니다.
+ */
+@Entity
+@Table(name = "user_signup_rollup")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserSignupRollup {
+
+    @EmbeddedId
+    private UserSignupRollupId id;
+
+    @Column(nullable = false)
+    private long userCount;
+
+    /**
+     * 생성자
+     * @param id 집계 키
+     * @param userCount 사용자 수
+     */
+    public UserSignupRollup(UserSignupRollupId id, long userCount) {
+        this.id = id;
+        this.userCount = userCount;
+    }
+
+    /**
+     * 가입 일시가 속한 집계 구간의 시작 시각
+     * @param createdAt 가입 일시
+     * @return 정시로 내린 구간 시작 시각
+     */
+    public static LocalDateTime bucketOf(LocalDateTime createdAt) {
+        return createdAt.truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -0,0 +1,40 @@
+package com.jwp.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 가입 통계 집계 키 (구간 시작 시각, 상태)
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserSignupRollupId implements Serializable {
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UserStatus status;
+
+    /**
+     * 생성자
+     * @param bucketStart 구간 시작 시각 (정시)
+     * @param status 사용자 상태
+     */
+    public UserSignupRollupId(LocalDateTime bucketStart, UserStatus status) {
+        this.bucketStart = bucketStart;
+        this.status = status;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jwp.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상태별 사용자 수 카운터 엔티티
+ * 상태별 사용자 수를 여러 샤드 행에 나누어 보관하며, 같은 상태의 모든 샤드 값을 더한 값이 해당 상태의 사용자 수입니다.
+ * 목록 조회마다 사용자 테이블에 count 쿼리를 실행하지 않고 전체 개수를 알기 위해 사용합니다.
+ */
+@Entity
+@Table(name = "user_status_count")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserStatusCount {
+
+    /** 상태마다 나누어 둘 샤드 수 */
+    public static final int SHARDS = 16;
+
+    @EmbeddedId
+    private UserStatusCountId id;
+
+    @Column(nullable = false)
+    private long userCount;
+
+    /**
+     * 생성자
+     * @param id 카운터 키
+     * @param userCount 사용자 수
+     */
+    public UserStatusCount(UserStatusCountId id, long userCount) {
+        this.id = id;
+        this.userCount = userCount;
+    }
+}
@@ -0,0 +1,39 @@
+package com.jwp.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 상태별 사용자 수 카운터 키 (상태, 샤드)
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserStatusCountId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UserStatus status;
+
+    @Column(nullable = false)
+    private int shard;
+
+    /**
+     * 생성자
+     * @param status 사용자 상태
+     * @param shard 샤드 번호
+     */
+    public UserStatusCountId(UserStatus status, int shard) {
+        this.status = status;
+        this.shard = shard;
+    }
+}
@@ -0,0 +1,73 @@
+package com.jwp.core.domain.event;
+
+import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 변경 이벤트
+ * 사용자 생성/수정/삭제 시 UserCommandService가 발행하며,
+ * 변경 시점의 사용자 정보를 스냅샷으로 담아 엔티티 없이도 후속 처리를 할 수 있게 합니다.
+ *
+ * @param type 변경 유형
+ * @param userId 사용자 ID
+ * @param email 이메일
+ * @param name 이름
+ * @param status 상태
+ * @param createdAt 생성일시
+ */
+public record UserChangedEvent(
+        ChangeType type,
+        Long userId,
+        String email,
+        String name,
+        UserStatus status,
+        LocalDateTime createdAt) {
+
+    /**
+     * 변경 유형
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * 사용자 생성 이벤트
+     * @param user 생성된 사용자
+     * @return 사용자 변경 이벤트
+     */
+    public static UserChangedEvent created(User user) {
+        return of(ChangeType.CREATED, user);
+    }
+
+    /**
+     * 사용자 수정 이벤트
+     * @param user 수정된 사용자
+     * @return 사용자 변경 이벤트
+     */
+    public static UserChangedEvent updated(User user) {
+        return of(ChangeType.UPDATED, user);
+    }
+
+    /**
+     * 사용자 삭제 이벤트
+     * @param user 삭제된 사용자
+     * @return 사용자 변경 이벤트
+     */
+    public static UserChangedEvent deleted(User user) {
+        return of(ChangeType.DELETED, user);
+    }
+
+    private static UserChangedEvent of(ChangeType type, User user) {
+        return new UserChangedEvent(
+                type,
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getStatus(),
+                user.getCreatedAt());
+    }
+}
@@ -20,6 +20,7 @@ public enum ErrorCode {
     // 사용자 관련 에러
     EMAIL_DUPLICATION(409, "이미 존재하는 이메일입니다."),
     USER_NOT_FOUND(404, "사용자를 찾을 수 없습니다."),
+    USER_CONFLICT(409, "다른 요청이 사용자를 먼저 변경했습니다."),
     INVALID_PASSWORD(401, "비밀번호가 일치하지 않습니다."),
     INACTIVE_USER(403, "비활성화된 사용자입니다.");
 
@@ -37,6 +37,16 @@ public class UserDomainException extends BusinessException {
         );
     }
 
+    /**
+     * 사용자 변경 충돌 예외 팩토리 메소드
+     */
+    public static BusinessException conflict(String identifier) {
+        return new UserDomainException(
+                ErrorCode.USER_CONFLICT,
+                String.format("다른 요청이 사용자를 먼저 변경했습니다: %s", identifier)
+        );
+    }
+
     /**
      * 비활성 사용자 예외 팩토리 메소드
      */
@@ -0,0 +1,64 @@
+package com.jwp.core.repository;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 조회 결과
+ * 조회된 목록과 다음 페이지를 요청할 때 사용할 커서를 함께 담습니다.
+ *
+ * @param <T> 조회 결과 타입
+ */
+@Getter
+public class CursorSlice<T> {
+
+    /**
+     * 조회된 목록
+     */
+    private final List<T> content;
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 페이지이면 null)
+     */
+    private final UserCursor nextCursor;
+
+    private CursorSlice(List<T> content, UserCursor nextCursor) {
+        this.content = List.copyOf(content);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 커서 조회 결과 생성 팩토리 메서드
+     *
+     * @param content 조회된 목록
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지이면 null)
+     * @return 커서 조회 결과
+     */
+    public static <T> CursorSlice<T> of(List<T> content, UserCursor nextCursor) {
+        return new CursorSlice<>(content, nextCursor);
+    }
+
+    /**
+     * 다음 페이지 존재 여부
+     *
+     * @return 다음 페이지가 있으면 true
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * 목록의 각 요소를 변환한 결과 생성
+     *
+     * @param converter 변환 함수
+     * @return 변환된 커서 조회 결과
+     */
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream()
+                .<R>map(converter)
+                .toList();
+        return new CursorSlice<>(converted, nextCursor);
+    }
+}
@@ -1,6 +1,7 @@
 package com.jwp.core.repository;
 
 import com.jwp.core.exception.common.InvalidValueException;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
  * 검색 조건 등에서 시작일과 종료일을 캡슐화하여 사용합니다.
  */
 @Getter
+@EqualsAndHashCode
 public class DateRange {
 
     /**
@@ -0,0 +1,13 @@
+package com.jwp.core.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.jwp.core.domain.ScheduledJobLock;
+
+/**
+ * 예약 작업 잠금 레포지토리
+ * 기본 CRUD는 Spring Data JPA로, 잠금 획득과 해제는 QueryDsl로 처리합니다.
+ */
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String>,
+        ScheduledJobLockRepositoryCustom {
+}
@@ -0,0 +1,8 @@
+package com.jwp.core.repository;
+
+import java.time.LocalDateTime;
+
+public interface ScheduledJobLockRepositoryCustom {
+    boolean tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+    void release(String name, String owner, LocalDateTime now);
+}
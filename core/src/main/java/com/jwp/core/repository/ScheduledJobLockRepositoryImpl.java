@@ -0,0 +1,71 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.QScheduledJobLock;
+import com.jwp.core.exception.common.InvalidValueException;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 잠금 레포지토리 구현체
+ * 잠금 행을 읽지 않고 조건부 UPDATE 문 하나로 획득하므로, 여러 노드가 동시에 시도해도 한 노드만 성공합니다.
+ */
+public class ScheduledJobLockRepositoryImpl implements ScheduledJobLockRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 생성자
+     *
+     * @param entityManager JPA 엔티티 매니저
+     */
+    public ScheduledJobLockRepositoryImpl(EntityManager entityManager) {
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    /**
+     * 잠금 획득
+     * 잠금 만료 일시가 지난 경우에만 만료 일시와 잠금을 가진 노드를 바꿉니다.
+     * 트랜잭션 안에서 호출해야 하며, 커밋되어야 다른 노드에 잠금이 보입니다.
+     *
+     * @param name        작업 이름
+     * @param owner       잠금을 가질 노드
+     * @param now         현재 일시
+     * @param lockedUntil 잠금 만료 일시
+     * @return 획득했으면 true (다른 노드가 가지고 있거나 잠금 행이 없으면 false)
+     */
+    @Override
+    public boolean tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime lockedUntil) {
+        if (lockedUntil == null || now == null || !lockedUntil.isAfter(now)) {
+            throw new InvalidValueException("lockedUntil", lockedUntil);
+        }
+
+        QScheduledJobLock lock = QScheduledJobLock.scheduledJobLock;
+
+        return queryFactory.update(lock)
+                .set(lock.lockedUntil, lockedUntil)
+                .set(lock.lockedBy, owner)
+                .where(lock.name.eq(name), lock.lockedUntil.loe(now))
+                .execute() == 1;
+    }
+
+    /**
+     * 잠금 해제
+     * 아직 잠금을 가진 경우에만 만료 일시를 현재 일시로 당겨 다른 노드가 바로 가져갈 수 있게 합니다.
+     * 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param name  작업 이름
+     * @param owner 잠금을 가진 노드
+     * @param now   현재 일시
+     */
+    @Override
+    public void release(String name, String owner, LocalDateTime now) {
+        QScheduledJobLock lock = QScheduledJobLock.scheduledJobLock;
+
+        queryFactory.update(lock)
+                .set(lock.lockedUntil, now)
+                .where(lock.name.eq(name), lock.lockedBy.eq(owner), lock.lockedUntil.gt(now))
+                .execute();
+    }
+}
@@ -0,0 +1,96 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.UserStatus;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가입 추이 히스토그램
+ * 조회 기간을 일정한 시간 구간으로 나누어 구간별 가입자 수를 현재 상태별로 담습니다.
+ * 가입자가 없는 구간도 0으로 포함됩니다.
+ *
+ * @param granularity 구간 단위
+ * @param buckets     구간 목록 (시작 시각 오름차순)
+ */
+public record SignupHistogram(Granularity granularity, List<Bucket> buckets) {
+
+    public SignupHistogram {
+        buckets = List.copyOf(buckets);
+    }
+
+    /**
+     * 전체 가입자 수
+     * @return 모든 구간의 가입자 수 합계
+     */
+    public long total() {
+        return buckets.stream().mapToLong(Bucket::total).sum();
+    }
+
+    /**
+     * 구간 단위
+     */
+    public enum Granularity {
+        /** 1시간 */
+        HOUR(ChronoUnit.HOURS),
+        /** 1일 */
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * 일시가 속한 구간의 시작 시각
+         * @param dateTime 일시
+         * @return 구간 시작 시각
+         */
+        public LocalDateTime truncate(LocalDateTime dateTime) {
+            return dateTime.truncatedTo(unit);
+        }
+
+        /**
+         * 다음 구간의 시작 시각
+         * @param bucketStart 구간 시작 시각
+         * @return 다음 구간 시작 시각
+         */
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plus(1, unit);
+        }
+
+        /**
+         * 두 일시 사이의 구간 수 (양 끝 구간 포함)
+         * @param from 시작 일시
+         * @param to 종료 일시
+         * @return 구간 수
+         */
+        public long bucketCount(LocalDateTime from, LocalDateTime to) {
+            return unit.between(truncate(from), truncate(to)) + 1;
+        }
+    }
+
+    /**
+     * 시간 구간별 가입자 수
+     *
+     * @param start  구간 시작 시각
+     * @param counts 현재 상태별 가입자 수 (가입자가 있는 상태만 포함)
+     */
+    public record Bucket(LocalDateTime start, Map<UserStatus, Long> counts) {
+
+        public Bucket {
+            counts = Map.copyOf(counts);
+        }
+
+        /**
+         * 구간 가입자 수
+         * @return 상태별 가입자 수 합계
+         */
+        public long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.jwp.core.repository;
+
+/**
+ * 목록 조회 시 전체 개수 계산 방식
+ * 클라이언트가 필요로 하는 정확도에 따라 count 쿼리 비용을 조절합니다.
+ */
+public enum TotalCountMode {
+    /**
+     * 정확한 전체 개수
+     * 첫 페이지가 페이지 크기보다 작거나 마지막 페이지인 경우에는 count 쿼리를 생략합니다.
+     */
+    EXACT,
+
+    /**
+     * 근사 전체 개수
+     * 주기적으로 갱신되는 count 값을 사용하므로 최근 변경 사항이 바로 반영되지 않을 수 있습니다.
+     */
+    APPROXIMATE,
+
+    /**
+     * 전체 개수 없음
+     * 다음 페이지 존재 여부만 제공하며 count 쿼리를 실행하지 않습니다.
+     */
+    NONE
+}
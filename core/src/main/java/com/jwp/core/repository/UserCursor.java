@@ -0,0 +1,112 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.User;
+import com.jwp.core.exception.common.InvalidValueException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이징 커서
+ * (createdAt, id) 조합으로 마지막으로 조회한 위치를 나타내며,
+ * 클라이언트에는 불투명한 토큰 문자열로 전달됩니다.
+ */
+@Getter
+public class UserCursor {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 마지막으로 조회한 사용자의 생성일시
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 마지막으로 조회한 사용자의 ID
+     */
+    private final Long id;
+
+    private UserCursor(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            throw new InvalidValueException("cursor", String.format("%s, %s", createdAt, id));
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 커서 생성 팩토리 메서드
+     *
+     * @param createdAt 생성일시
+     * @param id 사용자 ID
+     * @return 커서 객체
+     */
+    public static UserCursor of(LocalDateTime createdAt, Long id) {
+        return new UserCursor(createdAt, id);
+    }
+
+    /**
+     * 사용자 엔티티의 위치로 커서 생성
+     *
+     * @param user 마지막으로 조회한 사용자
+     * @return 커서 객체
+     */
+    public static UserCursor from(User user) {
+        return new UserCursor(user.getCreatedAt(), user.getId());
+    }
+
+    /**
+     * 사용자 요약 정보의 위치로 커서 생성
+     *
+     * @param summary 마지막으로 조회한 사용자 요약 정보
+     * @return 커서 객체
+     */
+    public static UserCursor from(UserSummary summary) {
+        return new UserCursor(summary.createdAt(), summary.id());
+    }
+
+    /**
+     * 토큰 문자열을 커서로 변환
+     *
+     * @param token 클라이언트가 전달한 커서 토큰
+     * @return 커서 객체, 토큰이 비어있으면 null (첫 페이지)
+     * @throws InvalidValueException 토큰 형식이 올바르지 않은 경우
+     */
+    public static UserCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new InvalidValueException("cursor", token);
+            }
+
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            Long id = Long.valueOf(decoded.substring(delimiterIndex + 1));
+            return new UserCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidValueException("cursor", token);
+        }
+    }
+
+    /**
+     * 커서를 토큰 문자열로 변환
+     *
+     * @return URL에 안전한 Base64 토큰
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("UserCursor{createdAt=%s, id=%d}", createdAt, id);
+    }
+}
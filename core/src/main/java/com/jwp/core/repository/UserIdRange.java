@@ -0,0 +1,11 @@
+package com.jwp.core.repository;
+
+/**
+ * 사용자 ID 범위
+ * ID 구간 단위로 나누어 처리하는 일괄 작업에서 처리할 구간의 시작과 끝을 나타냅니다.
+ *
+ * @param minId 최소 사용자 ID
+ * @param maxId 최대 사용자 ID
+ */
+public record UserIdRange(long minId, long maxId) {
+}
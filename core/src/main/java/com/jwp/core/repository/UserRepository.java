@@ -17,11 +17,4 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
      * @return 사용자 존재 여부
      */
     boolean existsByEmail(String email);
-
-    /**
-     * 이메일로 사용자 조회
-     * @param email 조회할 이메일
-     * @return 조회된 사용자
-     */
-    User findByEmail(String email);
 }
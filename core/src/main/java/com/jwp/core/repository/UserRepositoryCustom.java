@@ -2,10 +2,43 @@ package com.jwp.core.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface UserRepositoryCustom {
+    User findByEmail(String email);
+    Optional<Long> findIdByEmail(String email);
     Page<User> findByNameContaining(String name, Pageable pageable);
     Page<User> searchByCondition(UserSearchCondition condition, Pageable pageable);
+    Slice<User> searchSliceByCondition(UserSearchCondition condition, Pageable pageable);
+    long countByCondition(UserSearchCondition condition);
+    Map<UserStatus, Long> countByStatus();
+    CursorSlice<User> findByNameContaining(String name, UserCursor cursor, int size);
+    CursorSlice<User> searchByCondition(UserSearchCondition condition, UserCursor cursor, int size);
+    Page<UserSummary> searchSummariesByCondition(UserSearchCondition condition, Pageable pageable);
+    Slice<UserSummary> searchSummarySliceByCondition(UserSearchCondition condition, Pageable pageable);
+    CursorSlice<UserSummary> searchSummariesByCondition(UserSearchCondition condition, UserCursor cursor, int size);
+    Page<User> findPageByIds(List<Long> ids, Pageable pageable);
+    Page<UserSummary> findSummaryPageByIds(List<Long> ids, Pageable pageable);
+    List<UserSummary> findSummariesAfterId(long lastId, int size);
+    List<UserSummary> findAllByIdsOrdered(List<Long> ids);
+    List<String> findExistingEmails(Collection<String> emails);
+    Stream<User> streamByCondition(UserSearchCondition condition, int fetchSize);
+    long scanByCondition(UserSearchCondition condition, int batchSize, Consumer<? super User> consumer);
+    boolean existsByIdForUpdate(Long id);
+    Optional<UserIdRange> findIdRange();
+    Optional<UserIdRange> findTransitionIdRange(UserStatusTransition transition);
+    List<UserSummary> findStatusTransitionTargets(long fromIdExclusive, long toIdInclusive, UserStatusTransition transition);
+    long updateStatusInIdRange(long fromIdExclusive, long toIdInclusive, UserStatusTransition transition);
+    long updateLastLoginAt(Map<Long, LocalDateTime> lastLoginAts);
 }
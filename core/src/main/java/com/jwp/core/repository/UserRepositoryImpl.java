@@ -2,23 +2,86 @@ package com.jwp.core.repository;
 
 import com.jwp.core.domain.QUser;
 import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserStatus;
 import com.jwp.core.exception.common.InvalidValueException;
+import com.jwp.core.repository.UserSearchQueries.Select;
+import com.jwp.core.repository.UserSearchQueries.Shape;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.Cache;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * 사용자 레포지토리 구현체
  * QueryDsl을 사용한 복잡한 쿼리 작업을 처리합니다.
+ * 조건 검색과 count는 호출마다 쿼리를 다시 만들지 않도록 검색 조건 형태별로 캐시된 JPQL({@link UserSearchQueries})을 사용합니다.
  */
 public class UserRepositoryImpl implements UserRepositoryCustom {
 
+    /**
+     * 목록 조회용 요약 정보 프로젝션 (비밀번호 등 불필요한 컬럼 제외)
+     */
+    private static final ConstructorExpression<UserSummary> USER_SUMMARY = Projections.constructor(UserSummary.class,
+            QUser.user.id,
+            QUser.user.email,
+            QUser.user.name,
+            QUser.user.status,
+            QUser.user.createdAt,
+            QUser.user.updatedAt,
+            QUser.user.version);
+
+    /**
+     * ID 목록 조회 시 IN 조건 하나에 넣을 최대 ID 수
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    /**
+     * 마지막 로그인 일시 갱신 (저장된 값보다 이후 일시일 때만)
+     */
+    private static final String UPDATE_LAST_LOGIN_AT =
+            "update users set last_login_at = ? where id = ? and (last_login_at is null or last_login_at < ?)";
+
+    private final EntityManager entityManager;
     private final JPAQueryFactory queryFactory;
 
     /**
@@ -27,9 +90,45 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
      * @param entityManager JPA 엔티티 매니저
      */
     public UserRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
         this.queryFactory = new JPAQueryFactory(entityManager);
     }
 
+    /**
+     * 이메일로 사용자 조회
+     * 이메일은 자연 키이므로 자연 키 캐시로 ID를 찾고 엔티티 캐시에서 사용자를 가져오며,
+     * 캐시에 없을 때만 데이터베이스를 조회합니다.
+     *
+     * @param email 조회할 이메일
+     * @return 조회된 사용자 (없으면 null)
+     */
+    @Override
+    public User findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .load(email);
+    }
+
+    /**
+     * 이메일로 사용자 ID만 조회
+     * 엔티티를 만들지 않고 이메일 유니크 인덱스만으로 ID를 읽습니다.
+     *
+     * @param email 조회할 이메일
+     * @return 사용자 ID (없으면 빈 값)
+     */
+    @Override
+    public Optional<Long> findIdByEmail(String email) {
+        if (email == null) {
+            throw new InvalidValueException("email", null);
+        }
+
+        QUser user = QUser.user;
+
+        return Optional.ofNullable(queryFactory.select(user.id).from(user)
+                .where(user.email.eq(email))
+                .fetchOne());
+    }
+
     /**
      * 이름에 특정 문자열이 포함된 사용자 조회 (페이징)
      *
@@ -48,9 +147,8 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
 
         List<User> content = queryFactory.selectFrom(user).where(user.name.contains(name)).offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
 
-        Long totalCount = queryFactory.select(user.count()).from(user).where(user.name.contains(name)).fetchOne();
-
-        return new PageImpl<>(content, pageable, totalCount != null ? totalCount : 0L);
+        // 전체 개수를 내용으로 알 수 있는 경우(첫 페이지가 덜 찬 경우, 마지막 페이지)에는 count 쿼리를 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(user.name.contains(name)));
     }
 
     /**
@@ -70,11 +168,549 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
             return findAllUsers(pageable);
         }
 
-        // QueryDSL로 구현
+        return fetchPage(User.class, Select.ENTITY, condition, pageable);
+    }
+
+    /**
+     * 모든 사용자 조회 (페이징)
+     */
+    private Page<User> findAllUsers(Pageable pageable) {
+        return fetchPage(User.class, Select.ENTITY, null, pageable);
+    }
+
+    /**
+     * 조건에 맞는 사용자 검색 (전체 개수 없이)
+     * 다음 페이지 존재 여부를 알기 위해 페이지 크기보다 하나 더 조회하며 count 쿼리는 실행하지 않습니다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이징 정보
+     * @return 사용자 목록 슬라이스
+     */
+    @Override
+    public Slice<User> searchSliceByCondition(UserSearchCondition condition, Pageable pageable) {
+        if (pageable == null) {
+            throw new InvalidValueException("pageable", null);
+        }
+
+        return fetchSlice(User.class, Select.ENTITY, condition, pageable);
+    }
+
+    /**
+     * 조건에 맞는 사용자 요약 정보 검색 (페이징)
+     * 엔티티를 로딩하지 않고 필요한 컬럼만 생성자 프로젝션으로 조회합니다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이징 정보
+     * @return 페이징된 사용자 요약 목록
+     */
+    @Override
+    public Page<UserSummary> searchSummariesByCondition(UserSearchCondition condition, Pageable pageable) {
+        if (pageable == null) {
+            throw new InvalidValueException("pageable", null);
+        }
+
+        return fetchPage(UserSummary.class, Select.SUMMARY, condition, pageable);
+    }
+
+    /**
+     * 조건에 맞는 사용자 요약 정보 검색 (전체 개수 없이)
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이징 정보
+     * @return 사용자 요약 목록 슬라이스
+     */
+    @Override
+    public Slice<UserSummary> searchSummarySliceByCondition(UserSearchCondition condition, Pageable pageable) {
+        if (pageable == null) {
+            throw new InvalidValueException("pageable", null);
+        }
+
+        return fetchSlice(UserSummary.class, Select.SUMMARY, condition, pageable);
+    }
+
+    /**
+     * 조건에 맞는 사용자 요약 정보 검색 (키셋 페이징)
+     *
+     * @param condition 검색 조건
+     * @param cursor    이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size      조회할 개수
+     * @return 커서 기반 사용자 요약 목록
+     */
+    @Override
+    public CursorSlice<UserSummary> searchSummariesByCondition(UserSearchCondition condition, UserCursor cursor, int size) {
+        return fetchAfter(USER_SUMMARY, searchPredicate(condition), cursor, size, UserCursor::from);
+    }
+
+    /**
+     * 조건에 맞는 사용자 수 조회
+     *
+     * @param condition 검색 조건
+     * @return 사용자 수
+     */
+    @Override
+    public long countByCondition(UserSearchCondition condition) {
+        return count(Shape.of(condition), condition);
+    }
+
+    /**
+     * 상태별 사용자 수 조회
+     *
+     * @return 상태별 사용자 수 (사용자가 없는 상태는 제외)
+     */
+    @Override
+    public Map<UserStatus, Long> countByStatus() {
+        QUser user = QUser.user;
+        NumberExpression<Long> count = user.count();
+
+        Map<UserStatus, Long> counts = new EnumMap<>(UserStatus.class);
+        for (Tuple tuple : queryFactory.select(user.status, count).from(user).groupBy(user.status).fetch()) {
+            counts.put(tuple.get(user.status), tuple.get(count));
+        }
+        return counts;
+    }
+
+    /**
+     * 검색 조건 형태별로 캐시된 JPQL로 사용자 수 조회
+     */
+    private long count(Shape shape, UserSearchCondition condition) {
+        Long totalCount = searchQuery(Long.class, Select.COUNT, shape, condition).getSingleResult();
+
+        return totalCount != null ? totalCount : 0L;
+    }
+
+    /**
+     * 조건에 맞는 사용자 수 count 쿼리
+     */
+    private long count(Predicate predicate) {
+        QUser user = QUser.user;
+
+        Long totalCount = queryFactory.select(user.count()).from(user).where(predicate).fetchOne();
+
+        return totalCount != null ? totalCount : 0L;
+    }
+
+    /**
+     * 이름에 특정 문자열이 포함된 사용자 조회 (키셋 페이징)
+     *
+     * @param name   검색할 이름 (부분 일치)
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size   조회할 개수
+     * @return 커서 기반 사용자 목록
+     */
+    @Override
+    public CursorSlice<User> findByNameContaining(String name, UserCursor cursor, int size) {
+        QUser user = QUser.user;
+
+        return fetchAfter(user, user.name.contains(name), cursor, size, UserCursor::from);
+    }
+
+    /**
+     * 조건에 맞는 사용자 검색 (키셋 페이징)
+     * OFFSET 대신 (createdAt, id) 위치 이후부터 조회하므로 페이지 깊이와 무관하게 일정한 비용이 듭니다.
+     *
+     * @param condition 검색 조건
+     * @param cursor    이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size      조회할 개수
+     * @return 커서 기반 사용자 목록
+     */
+    @Override
+    public CursorSlice<User> searchByCondition(UserSearchCondition condition, UserCursor cursor, int size) {
+        QUser user = QUser.user;
+
+        return fetchAfter(user, searchPredicate(condition), cursor, size, UserCursor::from);
+    }
+
+    /**
+     * 후보 ID 목록에서 페이지에 해당하는 사용자만 조회
+     * 이름 인덱스처럼 조건에 맞는 ID를 이미 알고 있는 경우 LIKE 검색과 count 쿼리 없이 ID로만 조회합니다.
+     *
+     * @param ids      오름차순으로 정렬된 후보 사용자 ID 목록
+     * @param pageable 페이징 정보
+     * @return 페이징된 사용자 목록 (ID 오름차순)
+     */
+    @Override
+    public Page<User> findPageByIds(List<Long> ids, Pageable pageable) {
+        return fetchPageByIds(QUser.user, ids, pageable);
+    }
+
+    /**
+     * 후보 ID 목록에서 페이지에 해당하는 사용자 요약 정보만 조회
+     *
+     * @param ids      오름차순으로 정렬된 후보 사용자 ID 목록
+     * @param pageable 페이징 정보
+     * @return 페이징된 사용자 요약 목록 (ID 오름차순)
+     */
+    @Override
+    public Page<UserSummary> findSummaryPageByIds(List<Long> ids, Pageable pageable) {
+        return fetchPageByIds(USER_SUMMARY, ids, pageable);
+    }
+
+    /**
+     * ID 목록으로 사용자 요약 정보를 한 번에 조회
+     * ID가 많으면 일정 크기의 IN 조건으로 나누어 조회하며, 결과는 요청한 ID 순서를 따릅니다.
+     * 존재하지 않는 ID는 결과에서 빠지고, 중복된 ID는 한 번만 포함됩니다.
+     *
+     * @param ids 조회할 사용자 ID 목록
+     * @return 요청 순서대로 정렬된 사용자 요약 목록
+     */
+    @Override
+    public List<UserSummary> findAllByIdsOrdered(List<Long> ids) {
+        if (ids == null) {
+            throw new InvalidValueException("ids", null);
+        }
+
+        QUser user = QUser.user;
+
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, UserSummary> found = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinctIds.size()));
+            queryFactory.select(USER_SUMMARY).from(user)
+                    .where(user.id.in(chunk))
+                    .fetch()
+                    .forEach(summary -> found.put(summary.id(), summary));
+        }
+
+        return distinctIds.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 이미 사용 중인 이메일 조회
+     * 여러 이메일의 중복 여부를 IN 조건 조회로 한 번에 확인합니다 (IN 조건은 IN_CLAUSE_CHUNK_SIZE 단위로 나누어 실행).
+     *
+     * @param emails 확인할 이메일 목록
+     * @return 이미 사용 중인 이메일 목록
+     */
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        if (emails == null) {
+            throw new InvalidValueException("emails", null);
+        }
+
+        QUser user = QUser.user;
+
+        List<String> distinctEmails = emails.stream().filter(Objects::nonNull).distinct().toList();
+        List<String> existing = new ArrayList<>();
+        for (int from = 0; from < distinctEmails.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = distinctEmails.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinctEmails.size()));
+            existing.addAll(queryFactory.select(user.email).from(user)
+                    .where(user.email.in(chunk))
+                    .fetch());
+        }
+        return existing;
+    }
+
+    /**
+     * 특정 ID 이후의 사용자 요약 정보를 ID 순으로 조회
+     * 전체 사용자를 순회해야 하는 작업(인덱스 구축 등)에서 OFFSET 없이 나누어 읽을 때 사용합니다.
+     *
+     * @param lastId 이전에 읽은 마지막 사용자 ID (처음에는 0)
+     * @param size   조회할 개수
+     * @return 사용자 요약 목록 (ID 오름차순)
+     */
+    @Override
+    public List<UserSummary> findSummariesAfterId(long lastId, int size) {
+        if (size <= 0) {
+            throw new InvalidValueException("size", size);
+        }
+
+        QUser user = QUser.user;
+
+        return queryFactory.select(USER_SUMMARY).from(user)
+                .where(user.id.gt(lastId))
+                .orderBy(user.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 조건에 맞는 사용자를 ID 순으로 스트리밍 조회 (읽기 전용)
+     * 전방향 JDBC 커서로 fetchSize만큼씩 가져오며, 내보낸 엔티티는 바로 준영속 상태로 만들어
+     * 전체 사용자 수와 관계없이 영속성 컨텍스트가 커지지 않습니다.
+     * 한 번 읽고 버리는 행이므로 2차 캐시에 넣지 않습니다 (자주 조회되는 사용자가 캐시에서 밀려나지 않도록).
+     * 트랜잭션 안에서 호출해야 하며, 사용 후 반드시 스트림을 닫아야 합니다 (try-with-resources 권장).
+     *
+     * @param condition 검색 조건 (null이면 전체)
+     * @param fetchSize 한 번에 가져올 행 수
+     * @return 사용자 스트림
+     */
+    @Override
+    public Stream<User> streamByCondition(UserSearchCondition condition, int fetchSize) {
+        return scanQuery(condition, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .stream()
+                .map(scanned -> {
+                    entityManager.detach(scanned);
+                    return scanned;
+                });
+    }
+
+    /**
+     * 조건에 맞는 사용자를 ID 순으로 하나씩 처리
+     * 전방향 JDBC 커서로 읽으면서 batchSize건마다 변경 내용을 flush하고 영속성 컨텍스트를 비웁니다.
+     * 콜백에서 엔티티를 수정하면 그대로 반영되므로 재해싱, 마이그레이션 같은 일괄 변경에도 사용할 수 있습니다.
+     * 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param condition 검색 조건 (null이면 전체)
+     * @param batchSize 한 번에 가져오고 flush할 행 수
+     * @param consumer  사용자별 처리 콜백
+     * @return 처리한 사용자 수
+     */
+    @Override
+    public long scanByCondition(UserSearchCondition condition, int batchSize, Consumer<? super User> consumer) {
+        if (consumer == null) {
+            throw new InvalidValueException("consumer", null);
+        }
+
+        long processed = 0;
+        try (Stream<User> users = scanQuery(condition, batchSize).stream()) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++processed % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return processed;
+    }
+
+    /**
+     * 사용자 행이 지금 커밋된 상태로 남아 있는지 확인 (쓰기 잠금)
+     * 잠금 읽기는 트랜잭션 시작 시점의 스냅샷이 아니라 최신 커밋 행을 읽으므로, 변경 문이 반영한 행이 없을 때
+     * 행이 삭제된 것인지 다른 트랜잭션이 먼저 변경한 것인지 구분할 수 있습니다.
+     * 반영에 실패한 변경이 영속성 컨텍스트에 남아 있을 수 있으므로 조회 전에 flush 하지 않습니다.
+     * 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param id 사용자 ID
+     * @return 행이 있으면 true
+     */
+    @Override
+    public boolean existsByIdForUpdate(Long id) {
+        QUser user = QUser.user;
+
+        return queryFactory.select(user.id).from(user)
+                .where(user.id.eq(id))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setFlushMode(FlushModeType.COMMIT)
+                .fetchFirst() != null;
+    }
+
+    /**
+     * 사용자 ID 범위 (최소, 최대)
+     * ID 구간 단위로 나누어 처리하는 일괄 작업의 시작과 끝을 정할 때 사용합니다.
+     *
+     * @return ID 범위 (사용자가 없으면 빈 값)
+     */
+    @Override
+    public Optional<UserIdRange> findIdRange() {
+        QUser user = QUser.user;
+
+        Tuple range = queryFactory.select(user.id.min(), user.id.max()).from(user).fetchOne();
+        if (range == null || range.get(0, Long.class) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new UserIdRange(range.get(0, Long.class), range.get(1, Long.class)));
+    }
+
+    /**
+     * 상태 변경 대상 사용자의 ID 범위 (최소, 최대)
+     * 이전 실행이 중간에 멈췄더라도 이미 변경된 사용자는 대상에서 빠지므로, 남은 대상의 가장 작은 ID부터 다시 시작할 수 있습니다.
+     *
+     * @param transition 상태 변경 조건
+     * @return 대상 ID 범위 (대상이 없으면 빈 값)
+     */
+    @Override
+    public Optional<UserIdRange> findTransitionIdRange(UserStatusTransition transition) {
+        QUser user = QUser.user;
+
+        Tuple range = queryFactory.select(user.id.min(), user.id.max()).from(user)
+                .where(transitionTarget(transition))
+                .fetchOne();
+        if (range == null || range.get(0, Long.class) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new UserIdRange(range.get(0, Long.class), range.get(1, Long.class)));
+    }
+
+    /**
+     * ID 구간 안의 사용자 상태 일괄 변경
+     * 엔티티를 읽지 않고 하나의 UPDATE 문으로 변경하므로 잠금은 해당 ID 구간의 대상 행에만 걸립니다.
+     * 영속성 컨텍스트와 2차 캐시를 거치지 않으므로 실행 후 영속성 컨텍스트를 비우며,
+     * Hibernate가 사용자 엔티티 캐시 영역을 무효화합니다.
+     * 엔티티 변경과 같이 버전도 1 증가시킵니다.
+     *
+     * @param fromIdExclusive 구간 시작 ID (제외)
+     * @param toIdInclusive   구간 끝 ID (포함)
+     * @param transition      상태 변경 조건
+     * @return 변경된 사용자 수
+     */
+    @Override
+    public long updateStatusInIdRange(long fromIdExclusive, long toIdInclusive, UserStatusTransition transition) {
+        QUser user = QUser.user;
+
+        long updated = queryFactory.update(user)
+                .set(user.status, transition.to())
+                .set(user.updatedAt, LocalDateTime.now())
+                .set(user.version, user.version.add(1L))
+                .where(transitionPredicate(fromIdExclusive, toIdInclusive, transition))
+                .execute();
+
+        entityManager.clear();
+        return updated;
+    }
+
+    /**
+     * 마지막 로그인 일시 일괄 갱신
+     * 사용자마다 한 행씩 같은 UPDATE 문을 JDBC 배치로 묶어 한 번에 전송하며, 행 잠금 순서가 노드마다 같도록 ID 순서로 보냅니다.
+     * 저장된 값보다 이후 일시일 때만 바꾸므로 늦게 도착한 이전 일시가 최신 값을 덮어쓰지 않습니다.
+     * 마지막 로그인 일시는 요약 정보와 ETag에 포함되지 않으므로 버전과 수정 일시는 바꾸지 않고,
+     * 캐시 영역 전체 대신 갱신한 사용자의 엔티티 캐시만 제거합니다.
+     * 커밋 전에 제거하면 커밋 전까지 다른 트랜잭션이 이전 값을 다시 캐시에 넣을 수 있으므로, 커밋된 뒤에 제거합니다.
+     * 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param lastLoginAts 사용자 ID별 마지막 로그인 일시
+     * @return 갱신된 사용자 수 (드라이버가 건별 결과를 알려주지 않으면 전송한 건수)
+     */
+    @Override
+    public long updateLastLoginAt(Map<Long, LocalDateTime> lastLoginAts) {
+        if (lastLoginAts == null || lastLoginAts.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, LocalDateTime> ordered = new TreeMap<>(lastLoginAts);
+        long updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_LAST_LOGIN_AT)) {
+                for (Map.Entry<Long, LocalDateTime> entry : ordered.entrySet()) {
+                    if (entry.getKey() == null || entry.getValue() == null) {
+                        continue;
+                    }
+                    statement.setObject(1, entry.getValue());
+                    statement.setLong(2, entry.getKey());
+                    statement.setObject(3, entry.getValue());
+                    statement.addBatch();
+                }
+
+                long count = 0;
+                for (int result : statement.executeBatch()) {
+                    count += result == Statement.SUCCESS_NO_INFO ? 1 : Math.max(result, 0);
+                }
+                return count;
+            }
+        });
+
+        evictAfterCommit(ordered.keySet());
+        return updated;
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 사용자 엔티티 캐시 제거 (트랜잭션 밖이면 바로 제거, 롤백되면 제거하지 않음)
+     */
+    private void evictAfterCommit(Collection<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(id -> cache.evict(User.class, id));
+                }
+            });
+        } else {
+            ids.forEach(id -> cache.evict(User.class, id));
+        }
+    }
+
+    /**
+     * ID 구간 안에서 상태 일괄 변경 대상인 사용자 조회 (쓰기 잠금)
+     * 같은 트랜잭션에서 이어지는 {@link #updateStatusInIdRange} 가 정확히 이 사용자들만 변경하도록 대상 행을 잠급니다.
+     * 변경 전 상태와 가입 일시가 필요한 집계 갱신에 사용합니다.
+     *
+     * @param fromIdExclusive 구간 시작 ID (제외)
+     * @param toIdInclusive   구간 끝 ID (포함)
+     * @param transition      상태 변경 조건
+     * @return 변경 대상 사용자 요약 목록 (변경 전 상태)
+     */
+    @Override
+    public List<UserSummary> findStatusTransitionTargets(long fromIdExclusive, long toIdInclusive, UserStatusTransition transition) {
+        QUser user = QUser.user;
+
+        return queryFactory.select(USER_SUMMARY).from(user)
+                .where(transitionPredicate(fromIdExclusive, toIdInclusive, transition))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    /**
+     * 상태 일괄 변경 대상 조건
+     */
+    private BooleanBuilder transitionPredicate(long fromIdExclusive, long toIdInclusive, UserStatusTransition transition) {
+        if (transition == null) {
+            throw new InvalidValueException("transition", null);
+        }
+        if (toIdInclusive < fromIdExclusive) {
+            throw new InvalidValueException("toIdInclusive", toIdInclusive);
+        }
+
+        QUser user = QUser.user;
+
+        return new BooleanBuilder()
+                .and(user.id.gt(fromIdExclusive))
+                .and(user.id.loe(toIdInclusive))
+                .and(transitionTarget(transition));
+    }
+
+    /**
+     * 상태 일괄 변경 대상 조건 (ID 구간 제외)
+     */
+    private BooleanBuilder transitionTarget(UserStatusTransition transition) {
+        if (transition == null) {
+            throw new InvalidValueException("transition", null);
+        }
+
+        QUser user = QUser.user;
+
+        BooleanBuilder where = new BooleanBuilder()
+                .and(user.status.in(transition.from()));
+        if (transition.lastLoginBefore() != null) {
+            where.and(user.lastLoginAt.lt(transition.lastLoginBefore())
+                    .or(user.lastLoginAt.isNull().and(user.createdAt.lt(transition.lastLoginBefore()))));
+        }
+        return where;
+    }
+
+    /**
+     * 전체 순회용 쿼리 (ID 순, fetchSize 힌트 적용)
+     */
+    private JPAQuery<User> scanQuery(UserSearchCondition condition, int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new InvalidValueException("fetchSize", fetchSize);
+        }
+
+        QUser user = QUser.user;
+
+        return queryFactory.selectFrom(user)
+                .where(searchPredicate(condition))
+                .orderBy(user.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+    }
+
+    /**
+     * 검색 조건을 QueryDSL 조건식으로 변환
+     */
+    private BooleanBuilder searchPredicate(UserSearchCondition condition) {
         QUser user = QUser.user;
 
         BooleanBuilder builder = new BooleanBuilder();
 
+        if (condition == null || condition.isEmpty()) {
+            return builder;
+        }
+
         if (StringUtils.hasText(condition.getEmail())) {
             builder.and(user.email.eq(condition.getEmail()));
         }
@@ -83,6 +719,10 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
             builder.and(user.name.contains(condition.getName()));
         }
 
+        if (condition.getStatus() != null) {
+            builder.and(user.status.eq(condition.getStatus()));
+        }
+
         // 날짜 범위 조건 적용
         if (condition.getDateRange() != null && !condition.getDateRange().isEmpty()) {
             if (condition.getFromDate() != null && condition.getToDate() != null) {
@@ -94,23 +734,115 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
             }
         }
 
-        List<User> content = queryFactory.selectFrom(user).where(builder).offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
+        return builder;
+    }
+
+    /**
+     * 검색 조건 형태별로 캐시된 JPQL로 쿼리 생성 후 값 바인딩
+     */
+    private <T> TypedQuery<T> searchQuery(Class<T> resultType, Select select, Shape shape, UserSearchCondition condition) {
+        TypedQuery<T> query = entityManager.createQuery(UserSearchQueries.jpql(select, shape), resultType);
+
+        return UserSearchQueries.bind(query, shape, condition);
+    }
+
+    /**
+     * 조건에 맞는 결과를 OFFSET 방식으로 조회
+     * 전체 개수를 내용으로 알 수 있는 경우(첫 페이지가 덜 찬 경우, 마지막 페이지)에는 count 쿼리를 생략합니다.
+     */
+    private <T> Page<T> fetchPage(Class<T> resultType, Select select, UserSearchCondition condition, Pageable pageable) {
+        Shape shape = Shape.of(condition);
+
+        List<T> content = searchQuery(resultType, select, shape, condition)
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(shape, condition));
+    }
+
+    /**
+     * 조건에 맞는 결과를 전체 개수 없이 조회
+     * 다음 페이지 존재 여부를 알기 위해 페이지 크기보다 하나 더 조회합니다.
+     */
+    private <T> Slice<T> fetchSlice(Class<T> resultType, Select select, UserSearchCondition condition, Pageable pageable) {
+        Shape shape = Shape.of(condition);
+
+        List<T> content = searchQuery(resultType, select, shape, condition)
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        List<T> page = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+
+        return new SliceImpl<>(page, pageable, hasNext);
+    }
+
+    /**
+     * 후보 ID 목록을 메모리에서 페이징한 뒤 해당 페이지의 ID만 IN 조건으로 조회
+     * 전체 개수는 후보 ID 수로 알 수 있으므로 count 쿼리를 실행하지 않습니다.
+     */
+    private <T> Page<T> fetchPageByIds(Expression<T> projection, List<Long> ids, Pageable pageable) {
+        if (ids == null) {
+            throw new InvalidValueException("ids", null);
+        }
+        if (pageable == null) {
+            throw new InvalidValueException("pageable", null);
+        }
+
+        QUser user = QUser.user;
+
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        List<Long> pageIds = ids.subList(from, to);
 
-        Long totalCount = queryFactory.select(user.count()).from(user).where(builder).fetchOne();
+        List<T> content = pageIds.isEmpty()
+                ? List.of()
+                : queryFactory.select(projection).from(user).where(user.id.in(pageIds)).orderBy(user.id.asc()).fetch();
 
-        return new PageImpl<>(content, pageable, totalCount != null ? totalCount : 0L);
+        return new PageImpl<>(content, pageable, ids.size());
     }
 
     /**
-     * 모든 사용자 조회 (페이징)
+     * 커서 위치 이후의 결과를 (createdAt, id) 순으로 조회
+     * 다음 페이지 존재 여부를 알기 위해 요청 개수보다 하나 더 조회합니다.
      */
-    private Page<User> findAllUsers(Pageable pageable) {
+    private <T> CursorSlice<T> fetchAfter(Expression<T> projection, Predicate predicate, UserCursor cursor, int size,
+                                          Function<T, UserCursor> cursorOf) {
+        if (size <= 0) {
+            throw new InvalidValueException("size", size);
+        }
+
         QUser user = QUser.user;
 
-        List<User> content = queryFactory.selectFrom(user).offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
+        List<T> content = queryFactory.select(projection).from(user)
+                .where(predicate, after(cursor))
+                .orderBy(user.createdAt.asc(), user.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        if (content.size() <= size) {
+            return CursorSlice.of(content, null);
+        }
+
+        List<T> page = content.subList(0, size);
+        return CursorSlice.of(page, cursorOf.apply(page.get(size - 1)));
+    }
+
+    /**
+     * 커서 위치 이후 조건
+     * 선행 범위 조건(createdAt >= ?)을 함께 두어 (created_at, id) 인덱스의 범위 탐색을 유도합니다.
+     */
+    private BooleanExpression after(UserCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
 
-        Long totalCount = queryFactory.select(user.count()).from(user).fetchOne();
+        QUser user = QUser.user;
 
-        return new PageImpl<>(content, pageable, totalCount != null ? totalCount : 0L);
+        return user.createdAt.goe(cursor.getCreatedAt())
+                .and(user.createdAt.gt(cursor.getCreatedAt())
+                        .or(user.id.gt(cursor.getId())));
     }
 }
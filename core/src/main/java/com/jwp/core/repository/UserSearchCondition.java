@@ -1,7 +1,9 @@
 package com.jwp.core.repository;
 
+import com.jwp.core.domain.UserStatus;
 import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.util.StringUtils;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
  * 다양한 조건으로 사용자를 검색할 때 사용되는 조건 객체입니다.
  */
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserSearchCondition {
     /** 검색할 이메일 */
@@ -21,6 +24,9 @@ public class UserSearchCondition {
     /** 검색할 이름 */
     private String name;
 
+    /** 검색할 상태 */
+    private UserStatus status;
+
     /** 검색 날짜 범위 */
     private DateRange dateRange = DateRange.empty();
 
@@ -29,9 +35,10 @@ public class UserSearchCondition {
      * 롬복의 @Builder를 통해 생성하는 것을 권장합니다.
      */
     @Builder
-    protected UserSearchCondition(String email, String name, DateRange dateRange) {
+    protected UserSearchCondition(String email, String name, UserStatus status, DateRange dateRange) {
         this.email = email;
         this.name = name;
+        this.status = status;
         this.dateRange = dateRange != null ? dateRange : DateRange.empty();
     }
 
@@ -101,6 +108,29 @@ public class UserSearchCondition {
      */
     public boolean isEmpty() {
         return !StringUtils.hasText(this.email) &&
+               !StringUtils.hasText(this.name) &&
+               this.status == null &&
+               (dateRange == null || dateRange.isEmpty());
+    }
+
+    /**
+     * 이름 외의 조건이 없는지 확인
+     * @return 이름만 지정된 경우 true
+     */
+    public boolean isNameOnly() {
+        return StringUtils.hasText(this.name) &&
+               !StringUtils.hasText(this.email) &&
+               this.status == null &&
+               (dateRange == null || dateRange.isEmpty());
+    }
+
+    /**
+     * 상태 외의 조건이 없는지 확인
+     * @return 상태만 지정된 경우 true
+     */
+    public boolean isStatusOnly() {
+        return this.status != null &&
+               !StringUtils.hasText(this.email) &&
                !StringUtils.hasText(this.name) &&
                (dateRange == null || dateRange.isEmpty());
     }
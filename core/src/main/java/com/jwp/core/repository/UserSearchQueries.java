@@ -0,0 +1,155 @@
+package com.jwp.core.repository;
+
+import jakarta.persistence.Query;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 조건 형태별 JPQL 캐시
+ * 검색 조건은 값과 관계없이 어떤 필드가 지정되었는지(형태)에 따라 몇 가지 쿼리로만 나뉘므로,
+ * 형태별로 파라미터화된 JPQL을 한 번만 만들어 두고 호출마다 값만 바인딩합니다.
+ * 같은 JPQL 문자열은 Hibernate 쿼리 플랜 캐시에서 재사용되므로 호출마다 반복되던 쿼리 직렬화와 파싱이 생략됩니다.
+ */
+final class UserSearchQueries {
+
+    /** LIKE 검색 시 사용하는 이스케이프 문자 */
+    private static final char LIKE_ESCAPE = '!';
+
+    private static final Map<Key, String> CACHE = new ConcurrentHashMap<>();
+
+    private UserSearchQueries() {
+    }
+
+    /**
+     * 조회 대상
+     */
+    enum Select {
+        /** 사용자 엔티티 */
+        ENTITY("select u from User u"),
+        /** 사용자 요약 정보 프로젝션 */
+        SUMMARY("select new com.jwp.core.repository.UserSummary(u.id, u.email, u.name, u.status, u.createdAt, u.updatedAt, u.version) from User u"),
+        /** 사용자 수 */
+        COUNT("select count(u) from User u");
+
+        private final String clause;
+
+        Select(String clause) {
+            this.clause = clause;
+        }
+    }
+
+    /**
+     * 검색 조건 형태 (지정된 필드와 날짜 범위 경계)
+     *
+     * @param email    이메일 조건 여부
+     * @param name     이름 조건 여부
+     * @param status   상태 조건 여부
+     * @param fromDate 시작 일시 조건 여부
+     * @param toDate   종료 일시 조건 여부
+     */
+    record Shape(boolean email, boolean name, boolean status, boolean fromDate, boolean toDate) {
+
+        /**
+         * 검색 조건의 형태
+         *
+         * @param condition 검색 조건 (null이면 조건 없음)
+         * @return 검색 조건 형태
+         */
+        static Shape of(UserSearchCondition condition) {
+            if (condition == null) {
+                return new Shape(false, false, false, false, false);
+            }
+
+            return new Shape(
+                    StringUtils.hasText(condition.getEmail()),
+                    StringUtils.hasText(condition.getName()),
+                    condition.getStatus() != null,
+                    condition.getFromDate() != null,
+                    condition.getToDate() != null);
+        }
+    }
+
+    private record Key(Select select, Shape shape) {
+    }
+
+    /**
+     * 검색 조건 형태에 맞는 JPQL
+     *
+     * @param select 조회 대상
+     * @param shape  검색 조건 형태
+     * @return 파라미터화된 JPQL
+     */
+    static String jpql(Select select, Shape shape) {
+        return CACHE.computeIfAbsent(new Key(select, shape), UserSearchQueries::render);
+    }
+
+    /**
+     * 검색 조건 값 바인딩
+     *
+     * @param query     JPQL로 생성한 쿼리
+     * @param shape     쿼리를 만든 검색 조건 형태
+     * @param condition 검색 조건
+     * @param <Q>       쿼리 타입
+     * @return 값이 바인딩된 쿼리
+     */
+    static <Q extends Query> Q bind(Q query, Shape shape, UserSearchCondition condition) {
+        if (shape.email()) {
+            query.setParameter("email", condition.getEmail());
+        }
+        if (shape.name()) {
+            query.setParameter("name", "%" + escapeLike(condition.getName()) + "%");
+        }
+        if (shape.status()) {
+            query.setParameter("status", condition.getStatus());
+        }
+        if (shape.fromDate()) {
+            query.setParameter("fromDate", condition.getFromDate());
+        }
+        if (shape.toDate()) {
+            query.setParameter("toDate", condition.getToDate());
+        }
+        return query;
+    }
+
+    private static String render(Key key) {
+        Shape shape = key.shape();
+        List<String> clauses = new ArrayList<>();
+
+        if (shape.email()) {
+            clauses.add("u.email = :email");
+        }
+        if (shape.name()) {
+            clauses.add("u.name like :name escape '" + LIKE_ESCAPE + "'");
+        }
+        if (shape.status()) {
+            clauses.add("u.status = :status");
+        }
+        if (shape.fromDate() && shape.toDate()) {
+            clauses.add("u.createdAt between :fromDate and :toDate");
+        } else if (shape.fromDate()) {
+            clauses.add("u.createdAt >= :fromDate");
+        } else if (shape.toDate()) {
+            clauses.add("u.createdAt <= :toDate");
+        }
+
+        if (clauses.isEmpty()) {
+            return key.select().clause;
+        }
+        return key.select().clause + " where " + String.join(" and ", clauses);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,14 @@
+package com.jwp.core.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.jwp.core.domain.UserSignupRollup;
+import com.jwp.core.domain.UserSignupRollupId;
+
+/**
+ * 가입 통계 집계 레포지토리
+ * 기본 CRUD는 Spring Data JPA로, 증감과 구간 조회는 QueryDsl로 처리합니다.
+ */
+public interface UserSignupRollupRepository extends JpaRepository<UserSignupRollup, UserSignupRollupId>,
+        UserSignupRollupRepositoryCustom {
+}
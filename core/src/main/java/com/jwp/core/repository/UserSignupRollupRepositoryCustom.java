@@ -0,0 +1,16 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.UserSignupRollup;
+import com.jwp.core.domain.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserSignupRollupRepositoryCustom {
+    void increment(LocalDateTime bucketStart, UserStatus status, long delta);
+    List<UserSignupRollup> findInRange(LocalDateTime fromBucket, LocalDateTime to);
+    List<UserSignupRollup> findBeforeForUpdate(LocalDateTime bucketStart);
+    long deleteBefore(LocalDateTime bucketStart);
+    long insertCountedBefore(LocalDateTime closedBefore);
+    void insertAll(List<UserSignupRollup> rollups);
+}
@@ -0,0 +1,209 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.QUserSignupRollup;
+import com.jwp.core.domain.UserSignupRollup;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.exception.common.InvalidValueException;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가입 통계 집계 레포지토리 구현체
+ * 집계 값은 엔티티를 읽지 않고 INSERT ... ON DUPLICATE KEY UPDATE 문으로 증감하므로 동시에 가입이 몰려도 갱신이 유실되지 않습니다.
+ */
+public class UserSignupRollupRepositoryImpl implements UserSignupRollupRepositoryCustom {
+
+    /**
+     * 일괄 저장 시 flush 단위
+     */
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    /**
+     * 집계 값 증감 (행이 없으면 생성)
+     */
+    private static final String UPSERT_INCREMENT =
+            "insert into user_signup_rollup (bucket_start, status, user_count) values (:bucketStart, :status, :delta) "
+                    + "on duplicate key update user_count = user_count + :delta";
+
+    /**
+     * 기준 이전에 가입한 사용자를 구간, 상태별로 세어 집계 행으로 저장 (%1$s: 구간 시작 시각 식)
+     */
+    private static final String INSERT_COUNTED_BEFORE =
+            "insert into user_signup_rollup (bucket_start, status, user_count) "
+                    + "select %1$s, status, count(*) from users "
+                    + "where created_at is not null and created_at < :closedBefore "
+                    + "group by %1$s, status";
+
+    /** 구간 시작 시각 식 (MariaDB) */
+    private static final String MARIADB_BUCKET = "date_format(created_at, '%Y-%m-%d %H:00:00')";
+
+    /** 구간 시작 시각 식 (H2) */
+    private static final String H2_BUCKET = "date_trunc('HOUR', created_at)";
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 생성자
+     *
+     * @param entityManager JPA 엔티티 매니저
+     */
+    public UserSignupRollupRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    /**
+     * 집계 값 증감
+     * 집계 행이 없으면 증감값으로 새 행을 만들고, 있으면 증감값을 더하는 문 하나로 호출한 트랜잭션 안에서 처리합니다.
+     * 같은 구간에 처음 가입이 동시에 들어와도 중복 키 오류 없이 한쪽이 만든 행에 다른 쪽이 더합니다.
+     * (MariaDB, MySQL 모드 H2 공통 문법)
+     *
+     * @param bucketStart 구간 시작 시각
+     * @param status      사용자 상태
+     * @param delta       증감할 값
+     */
+    @Override
+    public void increment(LocalDateTime bucketStart, UserStatus status, long delta) {
+        if (bucketStart == null) {
+            throw new InvalidValueException("bucketStart", null);
+        }
+        if (status == null) {
+            throw new InvalidValueException("status", null);
+        }
+
+        entityManager.createNativeQuery(UPSERT_INCREMENT)
+                .setParameter("bucketStart", bucketStart)
+                .setParameter("status", status.name())
+                .setParameter("delta", delta)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(UserSignupRollup.class)
+                .executeUpdate();
+    }
+
+    /**
+     * 구간 시작 시각이 범위 안에 있는 집계 조회
+     *
+     * @param fromBucket 첫 구간 시작 시각 (포함)
+     * @param to         마지막 구간 시작 시각 (포함)
+     * @return 집계 목록 (구간 시작 시각 오름차순)
+     */
+    @Override
+    public List<UserSignupRollup> findInRange(LocalDateTime fromBucket, LocalDateTime to) {
+        if (fromBucket == null) {
+            throw new InvalidValueException("fromBucket", null);
+        }
+        if (to == null) {
+            throw new InvalidValueException("to", null);
+        }
+
+        QUserSignupRollup rollup = QUserSignupRollup.userSignupRollup;
+
+        return queryFactory.selectFrom(rollup)
+                .where(rollup.id.bucketStart.between(fromBucket, to))
+                .orderBy(rollup.id.bucketStart.asc())
+                .fetch();
+    }
+
+    /**
+     * 구간 시작 시각이 기준 이전인 집계 삭제
+     *
+     * @param bucketStart 기준 구간 시작 시각 (제외)
+     * @return 삭제된 행 수
+     */
+    @Override
+    public long deleteBefore(LocalDateTime bucketStart) {
+        if (bucketStart == null) {
+            throw new InvalidValueException("bucketStart", null);
+        }
+
+        QUserSignupRollup rollup = QUserSignupRollup.userSignupRollup;
+
+        long deleted = queryFactory.delete(rollup)
+                .where(rollup.id.bucketStart.lt(bucketStart))
+                .execute();
+        entityManager.clear();
+        return deleted;
+    }
+
+    /**
+     * 구간 시작 시각이 기준 이전인 집계를 쓰기 잠금으로 조회
+     * 재계산 중에는 지난 구간의 집계 증감이 잠금을 기다리므로, 재계산이 센 사용자 수와 커밋 후의 증감이 겹치지 않습니다.
+     * (MariaDB는 범위 잠금으로 아직 없는 구간 행의 생성도 함께 기다리게 합니다)
+     *
+     * @param bucketStart 기준 구간 시작 시각 (제외)
+     * @return 잠근 집계 목록
+     */
+    @Override
+    public List<UserSignupRollup> findBeforeForUpdate(LocalDateTime bucketStart) {
+        if (bucketStart == null) {
+            throw new InvalidValueException("bucketStart", null);
+        }
+
+        QUserSignupRollup rollup = QUserSignupRollup.userSignupRollup;
+
+        return queryFactory.selectFrom(rollup)
+                .where(rollup.id.bucketStart.lt(bucketStart))
+                .orderBy(rollup.id.bucketStart.asc(), rollup.id.status.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    /**
+     * 기준 이전에 가입한 사용자를 구간, 상태별로 세어 저장
+     * 사용자 테이블을 애플리케이션으로 읽어 오지 않고 INSERT ... SELECT ... GROUP BY 문 하나로 집계합니다.
+     * 같은 구간의 집계 행이 없어야 하므로 {@link #deleteBefore} 로 먼저 지워야 합니다.
+     *
+     * @param closedBefore 기준 일시 (구간 시작 시각, 제외)
+     * @return 저장된 집계 행 수
+     */
+    @Override
+    public long insertCountedBefore(LocalDateTime closedBefore) {
+        if (closedBefore == null) {
+            throw new InvalidValueException("closedBefore", null);
+        }
+
+        String bucket = dialect() instanceof H2Dialect ? H2_BUCKET : MARIADB_BUCKET;
+        return entityManager.createNativeQuery(INSERT_COUNTED_BEFORE.formatted(bucket))
+                .setParameter("closedBefore", closedBefore)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(UserSignupRollup.class)
+                .executeUpdate();
+    }
+
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+    }
+
+    /**
+     * 집계 일괄 저장
+     * 키를 직접 지정하는 엔티티이므로 save() 대신 persist로 저장해 행마다 존재 여부를 조회하지 않습니다.
+     *
+     * @param rollups 저장할 집계 목록 (같은 키의 행이 없어야 함)
+     */
+    @Override
+    public void insertAll(List<UserSignupRollup> rollups) {
+        if (rollups == null) {
+            throw new InvalidValueException("rollups", null);
+        }
+
+        for (int i = 0; i < rollups.size(); i++) {
+            entityManager.persist(rollups.get(i));
+            if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,14 @@
+package com.jwp.core.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.jwp.core.domain.UserStatusCount;
+import com.jwp.core.domain.UserStatusCountId;
+
+/**
+ * 상태별 사용자 수 카운터 레포지토리
+ * 기본 CRUD는 Spring Data JPA로, 증감과 합계 조회, 보정은 QueryDsl로 처리합니다.
+ */
+public interface UserStatusCountRepository extends JpaRepository<UserStatusCount, UserStatusCountId>,
+        UserStatusCountRepositoryCustom {
+}
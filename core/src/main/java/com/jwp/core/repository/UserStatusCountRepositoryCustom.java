@@ -0,0 +1,15 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.domain.UserStatusCount;
+
+import java.util.List;
+import java.util.Map;
+
+public interface UserStatusCountRepositoryCustom {
+    void increment(UserStatus status, int shard, long delta);
+    Map<UserStatus, Long> sumByStatus();
+    List<UserStatusCount> findAllForUpdate();
+    long reset(UserStatus status, long userCount);
+    void insertAll(List<UserStatusCount> counts);
+}
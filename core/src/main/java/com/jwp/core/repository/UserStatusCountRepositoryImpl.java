@@ -0,0 +1,146 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.QUserStatusCount;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.domain.UserStatusCount;
+import com.jwp.core.exception.common.InvalidValueException;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.query.NativeQuery;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상태별 사용자 수 카운터 레포지토리 구현체
+ * 카운터 값은 엔티티를 읽지 않고 INSERT ... ON DUPLICATE KEY UPDATE 문으로 증감하므로 동시에 가입이 몰려도 갱신이 유실되지 않습니다.
+ */
+public class UserStatusCountRepositoryImpl implements UserStatusCountRepositoryCustom {
+
+    /**
+     * 카운터 값 증감 (행이 없으면 생성)
+     */
+    private static final String UPSERT_INCREMENT =
+            "insert into user_status_count (status, shard, user_count) values (:status, :shard, :delta) "
+                    + "on duplicate key update user_count = user_count + :delta";
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 생성자
+     *
+     * @param entityManager JPA 엔티티 매니저
+     */
+    public UserStatusCountRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    /**
+     * 카운터 값 증감
+     * 카운터 행이 없으면 증감값으로 새 행을 만들고, 있으면 증감값을 더하는 문 하나로 호출한 트랜잭션 안에서 처리합니다.
+     * 같은 샤드에 처음 증감이 동시에 들어와도 중복 키 오류 없이 한쪽이 만든 행에 다른 쪽이 더합니다.
+     * (MariaDB, MySQL 모드 H2 공통 문법)
+     *
+     * @param status 사용자 상태
+     * @param shard  샤드 번호
+     * @param delta  증감할 값
+     */
+    @Override
+    public void increment(UserStatus status, int shard, long delta) {
+        if (status == null) {
+            throw new InvalidValueException("status", null);
+        }
+
+        entityManager.createNativeQuery(UPSERT_INCREMENT)
+                .setParameter("status", status.name())
+                .setParameter("shard", shard)
+                .setParameter("delta", delta)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(UserStatusCount.class)
+                .executeUpdate();
+    }
+
+    /**
+     * 상태별 사용자 수 (모든 샤드의 합)
+     *
+     * @return 상태별 사용자 수 (카운터 행이 없는 상태는 제외)
+     */
+    @Override
+    public Map<UserStatus, Long> sumByStatus() {
+        QUserStatusCount count = QUserStatusCount.userStatusCount;
+        NumberExpression<Long> sum = count.userCount.sum();
+
+        Map<UserStatus, Long> sums = new EnumMap<>(UserStatus.class);
+        for (Tuple tuple : queryFactory.select(count.id.status, sum).from(count).groupBy(count.id.status).fetch()) {
+            Long value = tuple.get(sum);
+            sums.put(tuple.get(count.id.status), value != null ? value : 0L);
+        }
+        return sums;
+    }
+
+    /**
+     * 모든 카운터 행을 쓰기 잠금으로 조회
+     * 보정 중에는 카운터 증감이 잠금을 기다리므로, 보정 트랜잭션이 센 사용자 수와 커밋 후의 증감이 겹치지 않습니다.
+     *
+     * @return 카운터 목록
+     */
+    @Override
+    public List<UserStatusCount> findAllForUpdate() {
+        QUserStatusCount count = QUserStatusCount.userStatusCount;
+
+        return queryFactory.selectFrom(count)
+                .orderBy(count.id.status.asc(), count.id.shard.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    /**
+     * 상태의 사용자 수를 0번 샤드에 모으고 나머지 샤드는 0으로 변경
+     *
+     * @param status    사용자 상태
+     * @param userCount 사용자 수
+     * @return 0번 샤드의 변경된 행 수 (행이 없으면 0)
+     */
+    @Override
+    public long reset(UserStatus status, long userCount) {
+        if (status == null) {
+            throw new InvalidValueException("status", null);
+        }
+
+        QUserStatusCount count = QUserStatusCount.userStatusCount;
+
+        queryFactory.update(count)
+                .set(count.userCount, 0L)
+                .where(count.id.status.eq(status), count.id.shard.ne(0))
+                .execute();
+        long updated = queryFactory.update(count)
+                .set(count.userCount, userCount)
+                .where(count.id.status.eq(status), count.id.shard.eq(0))
+                .execute();
+        entityManager.clear();
+        return updated;
+    }
+
+    /**
+     * 카운터 일괄 저장
+     * 키를 직접 지정하는 엔티티이므로 save() 대신 persist로 저장해 행마다 존재 여부를 조회하지 않습니다.
+     *
+     * @param counts 저장할 카운터 목록 (같은 키의 행이 없어야 함)
+     */
+    @Override
+    public void insertAll(List<UserStatusCount> counts) {
+        if (counts == null) {
+            throw new InvalidValueException("counts", null);
+        }
+
+        counts.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.exception.common.InvalidValueException;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 사용자 상태 일괄 변경 조건
+ * 현재 상태가 from 중 하나인 사용자를 to 상태로 바꾸며,
+ * lastLoginBefore가 지정되면 그 이전부터 로그인하지 않은 사용자만 대상으로 합니다.
+ * 로그인 기록이 없는 사용자는 가입 일시를 마지막 로그인 일시로 봅니다.
+ *
+ * @param from            변경 대상 현재 상태
+ * @param to              변경할 상태
+ * @param lastLoginBefore 마지막 로그인 기준 일시 (null이면 로그인 기록과 무관)
+ */
+public record UserStatusTransition(Set<UserStatus> from, UserStatus to, LocalDateTime lastLoginBefore) {
+
+    public UserStatusTransition {
+        if (from == null || from.isEmpty()) {
+            throw new InvalidValueException("from", from);
+        }
+        if (to == null) {
+            throw new InvalidValueException("to", null);
+        }
+        if (from.contains(to)) {
+            throw new InvalidValueException("to", to);
+        }
+        from = Set.copyOf(from);
+    }
+
+    /**
+     * 휴면 전환 조건 (기준 일시 이전부터 로그인하지 않은 활성 사용자 → 비활성)
+     *
+     * @param lastLoginBefore 마지막 로그인 기준 일시
+     * @return 상태 변경 조건
+     */
+    public static UserStatusTransition dormant(LocalDateTime lastLoginBefore) {
+        if (lastLoginBefore == null) {
+            throw new InvalidValueException("lastLoginBefore", null);
+        }
+        return new UserStatusTransition(EnumSet.of(UserStatus.ACTIVE), UserStatus.INACTIVE, lastLoginBefore);
+    }
+}
@@ -0,0 +1,45 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 요약 정보
+ * 목록 조회용 읽기 전용 모델로, 비밀번호 등 목록에 필요 없는 컬럼은 조회하지 않으며
+ * 영속성 컨텍스트에 엔티티로 등록되지 않습니다.
+ *
+ * @param id 사용자 ID
+ * @param email 이메일
+ * @param name 이름
+ * @param status 상태
+ * @param createdAt 생성일시
+ * @param updatedAt 수정일시
+ * @param version 버전 (변경될 때마다 증가)
+ */
+public record UserSummary(
+        Long id,
+        String email,
+        String name,
+        UserStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version) {
+
+    /**
+     * 엔티티로부터 요약 정보 생성
+     * @param user 사용자 엔티티
+     * @return 사용자 요약 정보
+     */
+    public static UserSummary from(User user) {
+        return new UserSummary(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getStatus(),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
+                user.getVersion());
+    }
+}
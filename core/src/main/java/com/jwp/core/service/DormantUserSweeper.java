@@ -0,0 +1,147 @@
+package com.jwp.core.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwp.core.repository.ScheduledJobLockRepository;
+import com.jwp.core.repository.UserStatusTransition;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 휴면 사용자 정리 작업
+ * 오랫동안 로그인하지 않은 활성 사용자를 주기적으로 비활성(INACTIVE) 상태로 바꿉니다.
+ * 사용량이 적은 시간대에 실행하며, 작은 ID 구간 단위로 나누어 구간 사이에 쉬고
+ * 최대 실행 시간이 지나면 멈추므로 사용자 테이블에 긴 잠금을 잡지 않습니다.
+ *
+ * <p>모든 노드에서 같은 시각에 예약되지만, 예약 작업 잠금(scheduled_job_lock)을 가져간 한 노드만 실행합니다.
+ * 마지막 로그인 일시는 노드마다 버퍼에 모았다가 비우기 주기마다 반영되므로, 자기 노드의 버퍼를 비운 뒤
+ * 다른 노드의 버퍼도 한 번 이상 비워질 때까지 기다렸다가 시작합니다.</p>
+ */
+@Slf4j
+@Component
+public class DormantUserSweeper {
+
+    /** 예약 작업 잠금 이름 (V7 마이그레이션) */
+    static final String LOCK_NAME = "dormant-user-sweep";
+
+    private final UserCommandService userCommandService;
+    private final UserLastLoginBuffer lastLoginBuffer;
+    private final ScheduledJobLockRepository jobLockRepository;
+    private final TransactionTemplate lockTransaction;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final Duration inactiveAfter;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Duration maxDuration;
+    private final Duration otherNodesFlushWait;
+
+    /**
+     * 생성자
+     * @param userCommandService 사용자 명령 서비스
+     * @param lastLoginBuffer 마지막 로그인 일시 쓰기 버퍼
+     * @param jobLockRepository 예약 작업 잠금 레포지토리
+     * @param transactionManager 잠금 획득, 해제 트랜잭션에 사용할 트랜잭션 매니저
+     * @param enabled 작업 사용 여부
+     * @param inactiveAfterDays 마지막 로그인 후 휴면으로 보기까지의 일 수
+     * @param chunkSize 한 트랜잭션에서 처리할 ID 구간 크기
+     * @param pauseMillis 구간 사이 대기 시간
+     * @param maxDurationMillis 한 번 실행할 때의 최대 실행 시간
+     * @param lastLoginFlushIntervalMillis 마지막 로그인 일시 버퍼 비우기 주기
+     */
+    public DormantUserSweeper(UserCommandService userCommandService,
+                              UserLastLoginBuffer lastLoginBuffer,
+                              ScheduledJobLockRepository jobLockRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${summy.user.dormant.enabled:true}") boolean enabled,
+                              @Value("${summy.user.dormant.inactive-after-days:365}") long inactiveAfterDays,
+                              @Value("${summy.user.dormant.chunk-size:1000}") int chunkSize,
+                              @Value("${summy.user.dormant.pause-millis:200}") long pauseMillis,
+                              @Value("${summy.user.dormant.max-duration-millis:1800000}") long maxDurationMillis,
+                              @Value("${summy.user.last-login.flush-interval-millis:5000}") long lastLoginFlushIntervalMillis) {
+        this.userCommandService = userCommandService;
+        this.lastLoginBuffer = lastLoginBuffer;
+        this.jobLockRepository = jobLockRepository;
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.inactiveAfter = Duration.ofDays(inactiveAfterDays);
+        this.chunkSize = chunkSize;
+        this.pause = Duration.ofMillis(pauseMillis);
+        this.maxDuration = Duration.ofMillis(maxDurationMillis);
+        // 비우기는 이전 비우기가 끝난 뒤 주기만큼 지나 시작하므로, 비우는 데 걸리는 시간까지 주기 두 번을 기다림
+        this.otherNodesFlushWait = Duration.ofMillis(lastLoginFlushIntervalMillis * 2);
+    }
+
+    /**
+     * 휴면 사용자 비활성화 (기본: 매일 새벽 4시)
+     * 다른 노드가 실행 중이면 건너뜁니다.
+     * 방금 로그인한 사용자가 휴면으로 바뀌지 않도록, 자기 노드의 버퍼를 먼저 비우고 다른 노드의 버퍼가 비워질 때까지 기다립니다.
+     */
+    @Scheduled(cron = "${summy.user.dormant.cron:0 0 4 * * *}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(inactiveAfter);
+        // 마지막 구간이 최대 실행 시간을 넘겨 끝나도 실행 중에 잠금이 만료되지 않도록 최대 실행 시간만큼 여유를 둠
+        LocalDateTime lockedUntil = now.plus(otherNodesFlushWait).plus(maxDuration.multipliedBy(2));
+        try {
+            if (!Boolean.TRUE.equals(lockTransaction.execute(status ->
+                    jobLockRepository.tryAcquire(LOCK_NAME, nodeId, now, lockedUntil)))) {
+                log.info("휴면 사용자 비활성화 건너뜀 (다른 노드에서 실행 중)");
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("휴면 사용자 비활성화 잠금 획득 실패", e);
+            return;
+        }
+
+        try {
+            lastLoginBuffer.flush();
+            if (!awaitOtherNodesFlush()) {
+                log.info("휴면 사용자 비활성화 중단 (인터럽트)");
+                return;
+            }
+            long updated = userCommandService.transitionStatus(
+                    UserStatusTransition.dormant(cutoff), chunkSize, pause, maxDuration);
+            log.info("휴면 사용자 비활성화 완료: {}명 (기준 일시 {})", updated, cutoff);
+        } catch (RuntimeException e) {
+            log.warn("휴면 사용자 비활성화 실패 (기준 일시 {})", cutoff, e);
+        } finally {
+            release();
+        }
+    }
+
+    private boolean awaitOtherNodesFlush() {
+        if (otherNodesFlushWait.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(otherNodesFlushWait);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void release() {
+        try {
+            lockTransaction.executeWithoutResult(status -> jobLockRepository.release(LOCK_NAME, nodeId, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("휴면 사용자 비활성화 잠금 해제 실패 (만료 일시가 지나면 풀림)", e);
+        }
+    }
+}
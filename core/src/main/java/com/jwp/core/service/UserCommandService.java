@@ -1,39 +1,96 @@
 package com.jwp.core.service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.jwp.core.domain.User;
+import com.jwp.core.domain.event.UserChangedEvent;
 import com.jwp.core.exception.BusinessException;
 import com.jwp.core.exception.ErrorCode;
 import com.jwp.core.exception.user.UserDomainException;
+import com.jwp.core.repository.UserIdRange;
 import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserStatusTransition;
+import com.jwp.core.repository.UserSummary;
 
 import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 사용자 명령 서비스
  * 상태 변경 작업을 처리하는 CQRS의 Command 부분을 담당합니다.
  */
+@Slf4j
 @Service
 @Transactional
 public class UserCommandService {
 
+    /** 이메일 유니크 제약 이름 (V1 마이그레이션) */
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     private final UserRepository userRepository;
     private final UserQueryService userQueryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSignupStatistics signupStatistics;
+    private final UserStatusCounter userStatusCounter;
+    private final UserSummaryCache userSummaryCache;
+    private final UserEmailCache userEmailCache;
+    private final UserEmailBloomFilter userEmailBloomFilter;
+    private final UserSearchCache userSearchCache;
+    private final TransactionTemplate chunkTransaction;
 
     /**
      * 생성자
      * @param userRepository 사용자 레포지토리
      * @param userQueryService 사용자 조회 서비스
+     * @param eventPublisher 사용자 변경 이벤트 발행자
+     * @param signupStatistics 가입 통계 서비스
+     * @param userStatusCounter 상태별 사용자 수 카운터
+     * @param userSummaryCache 사용자 요약 정보 캐시 (상태 일괄 변경 후 무효화)
+     * @param userEmailCache 이메일별 사용자 ID 캐시 (생성 시 기록)
+     * @param userEmailBloomFilter 가입된 이메일 블룸 필터 (생성 시 중복 확인 생략 판단, 생성 시 추가)
+     * @param userSearchCache 사용자 검색 결과 캐시 (변경 커밋 시 쓰기 버전 증가)
+     * @param transactionManager 일괄 변경 구간별 트랜잭션에 사용할 트랜잭션 매니저
      */
-    public UserCommandService(UserRepository userRepository, UserQueryService userQueryService) {
+    public UserCommandService(UserRepository userRepository,
+                              UserQueryService userQueryService,
+                              ApplicationEventPublisher eventPublisher,
+                              UserSignupStatistics signupStatistics,
+                              UserStatusCounter userStatusCounter,
+                              UserSummaryCache userSummaryCache,
+                              UserEmailCache userEmailCache,
+                              UserEmailBloomFilter userEmailBloomFilter,
+                              UserSearchCache userSearchCache,
+                              PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.userQueryService = userQueryService;
+        this.eventPublisher = eventPublisher;
+        this.signupStatistics = signupStatistics;
+        this.userStatusCounter = userStatusCounter;
+        this.userSummaryCache = userSummaryCache;
+        this.userEmailCache = userEmailCache;
+        this.userEmailBloomFilter = userEmailBloomFilter;
+        this.userSearchCache = userSearchCache;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
     }
 
     /**
      * 사용자 생성
+     * 블룸 필터가 확실히 가입되지 않은 이메일이라고 판단하면 이메일 중복 조회 없이 저장합니다.
+     * 동시에 같은 이메일로 가입하는 경우 등은 이메일 유니크 제약이 막으며, 이때도 이메일 중복 예외로 응답합니다.
+     * 다른 제약 위반은 이메일 중복으로 바꾸지 않고 그대로 던집니다.
      * @param user 생성할 사용자 정보
      * @return 생성된 사용자
      */
@@ -42,18 +99,61 @@ public class UserCommandService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "사용자 정보는 필수입니다.");
         }
 
-        if (userQueryService.existsByEmail(user.getEmail())) {
+        if (userEmailBloomFilter.mightContain(user.getEmail()) && userQueryService.existsByEmail(user.getEmail())) {
             throw UserDomainException.emailDuplication(user.getEmail());
         }
 
-        return userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+            userRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (violatesEmailUniqueness(e)) {
+                throw UserDomainException.emailDuplication(user.getEmail());
+            }
+            throw e;
+        }
+        userEmailBloomFilter.add(savedUser.getEmail());
+        userEmailCache.created(savedUser);
+        userSearchCache.writeCommitted();
+        signupStatistics.recordCreated(savedUser);
+        userStatusCounter.recordCreated(savedUser);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
+        return savedUser;
+    }
+
+    /**
+     * 사용자 일괄 생성
+     * 한 트랜잭션에서 모두 저장하며, INSERT 는 JDBC 배치로 전송됩니다.
+     * 이메일 중복 확인은 호출하는 쪽에서 미리 해야 하며, 그 사이 같은 이메일이 생성되면 전체가 롤백됩니다.
+     * @param users 생성할 사용자 목록
+     * @return 생성된 사용자 목록 (입력 순서)
+     */
+    public List<User> createUsers(List<User> users) {
+        if (users == null || users.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "생성할 사용자 목록은 필수입니다.");
+        }
+
+        List<User> savedUsers = userRepository.saveAll(users);
+        userRepository.flush();
+        savedUsers.forEach(savedUser -> {
+            userEmailBloomFilter.add(savedUser.getEmail());
+            userEmailCache.created(savedUser);
+        });
+        userSearchCache.writeCommitted();
+        signupStatistics.recordCreated(savedUsers);
+        userStatusCounter.recordCreated(savedUsers);
+        savedUsers.forEach(savedUser -> eventPublisher.publishEvent(UserChangedEvent.created(savedUser)));
+        return savedUsers;
     }
 
     /**
      * 사용자 정보 업데이트 (ID 기반)
+     * 사용자는 한 번만 조회하며(2차 캐시에 있으면 조회 쿼리 없음), 변경은 ID와 버전을 조건으로 한 UPDATE 문 하나로 바로 반영합니다.
      * @param userId 대상 사용자 ID
      * @param newName 새로운 이름
      * @return 업데이트된 사용자
+     * @throws UserDomainException 사용자가 없거나 조회 후 다른 요청이 삭제한 경우 (USER_NOT_FOUND), 조회 후 다른 요청이 먼저 변경한 경우 (USER_CONFLICT)
      */
     public User updateUserInfo(Long userId, String newName) {
         validateUserId(userId);
@@ -61,7 +161,11 @@ public class UserCommandService {
 
         User user = userQueryService.findById(userId);
         user.update(newName);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        flushAffectingOneRow(userId);
+        userSearchCache.writeCommitted();
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+        return savedUser;
     }
 
     /**
@@ -79,7 +183,10 @@ public class UserCommandService {
         return userQueryService.findByEmail(email)
                 .map(user -> {
                     user.update(newName);
-                    return userRepository.save(user);
+                    User savedUser = userRepository.save(user);
+                    userSearchCache.writeCommitted();
+                    eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+                    return savedUser;
                 })
                 .orElseThrow(() -> UserDomainException.userNotFound(email));
     }
@@ -97,19 +204,29 @@ public class UserCommandService {
         return userQueryService.findByEmail(email)
                 .map(user -> {
                     user.changePassword(newPassword);
-                    return userRepository.save(user);
+                    User savedUser = userRepository.save(user);
+                    eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+                    return savedUser;
                 })
                 .orElseThrow(() -> UserDomainException.userNotFound(email));
     }
 
     /**
      * 사용자 삭제 (ID 기반)
+     * 사용자는 한 번만 조회하며(2차 캐시에 있으면 조회 쿼리 없음), 삭제는 ID와 버전을 조건으로 한 DELETE 문 하나로 바로 반영합니다.
+     * 조회한 사용자 정보로 가입 통계, 상태별 사용자 수, 변경 이벤트를 갱신합니다.
      * @param userId 삭제할 사용자 ID
+     * @throws UserDomainException 사용자가 없거나 조회 후 다른 요청이 삭제한 경우 (USER_NOT_FOUND), 조회 후 다른 요청이 먼저 변경한 경우 (USER_CONFLICT)
      */
     public void deleteUser(Long userId) {
         validateUserId(userId);
         User user = userQueryService.findById(userId);
         userRepository.delete(user);
+        flushAffectingOneRow(userId);
+        userSearchCache.writeCommitted();
+        signupStatistics.recordDeleted(user);
+        userStatusCounter.recordDeleted(user);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user));
     }
 
     /**
@@ -127,6 +244,123 @@ public class UserCommandService {
         }
 
         userRepository.delete(user);
+        userSearchCache.writeCommitted();
+        signupStatistics.recordDeleted(user);
+        userStatusCounter.recordDeleted(user);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user));
+    }
+
+    /**
+     * 사용자 상태 일괄 변경
+     * 변경 대상 사용자의 ID 범위를 chunkSize 크기의 구간으로 나누어 구간마다 짧은 트랜잭션으로 UPDATE 문을 실행합니다.
+     * 구간 사이에는 pause만큼 쉬어 다른 요청이 잠금을 기다리지 않도록 하고,
+     * maxDuration이 지나면 남은 구간은 처리하지 않고 멈춥니다.
+     * 이미 변경된 사용자는 대상에서 빠지므로, 다음 실행은 남은 대상 중 가장 작은 ID부터 시작해 변경한 구간을 다시 훑지 않습니다.
+     * 가입 통계와 상태별 사용자 수 카운터는 구간마다 같은 트랜잭션에서 갱신하며, 사용자별 변경 이벤트는 발행하지 않습니다.
+     * 대신 구간이 커밋되면 변경된 사용자의 요약 정보 캐시를 무효화하고 검색 결과 캐시의 쓰기 버전을 올립니다.
+     *
+     * @param transition 상태 변경 조건
+     * @param chunkSize 한 트랜잭션에서 처리할 ID 구간 크기
+     * @param pause 구간 사이 대기 시간 (null이면 대기하지 않음)
+     * @param maxDuration 최대 실행 시간 (null이면 제한 없음)
+     * @return 변경된 사용자 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long transitionStatus(UserStatusTransition transition, int chunkSize, Duration pause, Duration maxDuration) {
+        if (transition == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "상태 변경 조건은 필수입니다.");
+        }
+        if (chunkSize <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "구간 크기는 1 이상이어야 합니다.");
+        }
+
+        UserIdRange range = userRepository.findTransitionIdRange(transition).orElse(null);
+        if (range == null) {
+            return 0;
+        }
+
+        long deadline = maxDuration != null ? System.nanoTime() + maxDuration.toNanos() : Long.MAX_VALUE;
+        long updated = 0;
+        long lastId = range.minId() - 1;
+        while (lastId < range.maxId()) {
+            long fromId = lastId;
+            long toId = Math.min(fromId + chunkSize, range.maxId());
+            List<Long> changedIds = new ArrayList<>();
+            Long chunkUpdated = chunkTransaction.execute(status -> {
+                List<UserSummary> targets = userRepository.findStatusTransitionTargets(fromId, toId, transition);
+                long count = userRepository.updateStatusInIdRange(fromId, toId, transition);
+                signupStatistics.recordTransition(targets, transition.to());
+                userStatusCounter.recordTransition(targets, transition.to());
+                targets.forEach(target -> changedIds.add(target.id()));
+                return count;
+            });
+            userSummaryCache.invalidateAll(changedIds);
+            if (!changedIds.isEmpty()) {
+                userSearchCache.writeCommitted();
+            }
+            updated += chunkUpdated != null ? chunkUpdated : 0L;
+            lastId = toId;
+
+            if (lastId >= range.maxId()) {
+                break;
+            }
+            if (System.nanoTime() >= deadline) {
+                log.info("사용자 상태 일괄 변경 중단 (최대 실행 시간 초과): {}, 마지막 ID {}", transition, lastId);
+                break;
+            }
+            if (!sleep(pause)) {
+                log.info("사용자 상태 일괄 변경 중단 (인터럽트): {}, 마지막 ID {}", transition, lastId);
+                break;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 대기 중인 UPDATE/DELETE 문을 바로 실행
+     * 사용자 변경 문은 ID와 조회한 버전을 조건으로 하므로, 반영한 행이 없으면 조회 이후 다른 요청이 사용자를 삭제하거나 변경한 것입니다.
+     * 최신 커밋 행을 잠금 읽기로 확인해, 행이 없을 때만 사용자 없음 예외를, 남아 있으면 변경 충돌(409) 예외를 던집니다.
+     */
+    private void flushAffectingOneRow(Long userId) {
+        try {
+            userRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            if (userRepository.existsByIdForUpdate(userId)) {
+                throw UserDomainException.conflict("ID: " + userId);
+            }
+            throw UserDomainException.userNotFound("ID: " + userId);
+        }
+    }
+
+    /**
+     * 이메일 유니크 제약 위반인지 확인
+     * Hibernate가 제약 이름을 알아낸 경우 그 이름으로, 아니면 드라이버 메시지에 제약 이름이 있는지로 판단합니다
+     * (MariaDB: "for key 'uk_users_email'", H2: "PUBLIC.UK_USERS_EMAIL_INDEX_...").
+     */
+    private static boolean violatesEmailUniqueness(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(EMAIL_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().toLowerCase(Locale.ROOT).contains(EMAIL_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sleep(Duration pause) {
+        if (pause == null || pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     // 유효성 검증 메소드
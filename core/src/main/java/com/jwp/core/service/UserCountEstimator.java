@@ -0,0 +1,105 @@
+package com.jwp.core.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserSearchCondition;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 수 근사치 제공자
+ * 검색 조건별 count 결과를 보관해 두고 백그라운드에서 주기적으로 갱신합니다.
+ * 요청 처리 중에는 처음 보는 조건에 대해서만 count 쿼리를 실행합니다.
+ */
+@Slf4j
+@Component
+public class UserCountEstimator {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxEntries;
+    private final long maxIdleMillis;
+
+    private final Map<UserSearchCondition, Estimate> estimates = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     * @param userRepository 사용자 레포지토리
+     * @param transactionManager 트랜잭션 매니저
+     * @param maxEntries 보관할 최대 검색 조건 수
+     * @param maxIdleMillis 조회되지 않은 검색 조건을 제거하기까지의 시간
+     */
+    public UserCountEstimator(UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${summy.user.count-estimate.max-entries:1000}") int maxEntries,
+                              @Value("${summy.user.count-estimate.max-idle-millis:600000}") long maxIdleMillis) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxEntries = maxEntries;
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    /**
+     * 검색 조건에 해당하는 사용자 수 근사치
+     * @param condition 검색 조건
+     * @return 마지막으로 갱신된 사용자 수
+     */
+    public long estimate(UserSearchCondition condition) {
+        Estimate estimate = estimates.get(condition);
+        if (estimate != null) {
+            estimate.touch();
+            return estimate.count;
+        }
+
+        long count = userRepository.countByCondition(condition);
+        if (estimates.size() < maxEntries) {
+            estimates.putIfAbsent(condition, new Estimate(count));
+        }
+        return count;
+    }
+
+    /**
+     * 보관 중인 근사치 갱신
+     * 오랫동안 조회되지 않은 검색 조건은 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${summy.user.count-estimate.refresh-interval-millis:60000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        estimates.entrySet().removeIf(entry -> now - entry.getValue().lastAccessedAt > maxIdleMillis);
+
+        estimates.forEach((condition, estimate) -> {
+            try {
+                Long count = readOnlyTransaction.execute(status -> userRepository.countByCondition(condition));
+                estimate.count = count != null ? count : 0L;
+            } catch (RuntimeException e) {
+                log.warn("사용자 수 근사치 갱신 실패: {}", condition, e);
+            }
+        });
+    }
+
+    /**
+     * 검색 조건별 근사치
+     */
+    private static final class Estimate {
+        private volatile long count;
+        private volatile long lastAccessedAt;
+
+        private Estimate(long count) {
+            this.count = count;
+            this.lastAccessedAt = System.currentTimeMillis();
+        }
+
+        private void touch() {
+            this.lastAccessedAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.jwp.core.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입된 이메일 블룸 필터
+ * 가입 시 이메일 중복 확인 전에 "확실히 없음"을 메모리에서 판단하여, 대부분의 신규 이메일은 존재 여부 조회 없이 저장합니다.
+ * "있을 수 있음"이면 기존처럼 존재 여부를 조회하며, 최종 중복 방지는 이메일 유니크 제약이 담당합니다.
+ *
+ * <p>애플리케이션 시작 후 백그라운드에서 전체 사용자 이메일을 ID 순으로 읽어 구축하며, 이후 생성되는 이메일은 바로 추가합니다.
+ * 구축이 끝나기 전에는 항상 "있을 수 있음"으로 응답합니다.
+ * 삭제된 이메일은 제거할 수 없으므로 "있을 수 있음"으로 남지만 (존재 여부 조회로 확인), 없는 이메일을 있다고 놓치는 일은 없습니다.</p>
+ *
+ * <p>추가된 이메일 수가 설정한 예상 개수를 넘으면 오탐률이 올라가므로, 두 배 크기로 새 필터를 백그라운드에서 다시 구축한 뒤 교체합니다.
+ * 재구축 중에 추가되는 이메일은 기존 필터와 새 필터에 모두 추가합니다.</p>
+ *
+ * <p>MariaDB 기본 collation과 같이 대소문자를 구분하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class UserEmailBloomFilter {
+
+    /** 구축 시 한 번에 읽을 사용자 수 */
+    private static final int BUILD_CHUNK_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long expectedInsertions;
+
+    private final AtomicBoolean building = new AtomicBoolean();
+    private volatile Bits active;
+    private volatile Bits next;
+
+    /**
+     * 생성자
+     * @param userRepository 사용자 레포지토리
+     * @param transactionManager 트랜잭션 매니저
+     * @param enabled 필터 사용 여부
+     * @param expectedInsertions 예상 이메일 수 (넘으면 두 배 크기로 재구축)
+     * @param falsePositiveRate 목표 오탐률
+     */
+    public UserEmailBloomFilter(UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${summy.user.email-bloom.enabled:true}") boolean enabled,
+                                @Value("${summy.user.email-bloom.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${summy.user.email-bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("summy.user.email-bloom.expected-insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("summy.user.email-bloom.false-positive-rate must be between 0 and 1");
+        }
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 필터 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled && building.compareAndSet(false, true)) {
+            startBuild(new Bits(expectedInsertions, falsePositiveRate));
+        }
+    }
+
+    /**
+     * 이메일이 가입되어 있을 수 있는지 확인
+     * @param email 이메일
+     * @return false이면 확실히 가입되지 않은 이메일, true이면 가입되어 있을 수 있음 (구축 전에는 항상 true)
+     */
+    public boolean mightContain(String email) {
+        Bits bits = active;
+        return bits == null || email == null || bits.mightContain(hash(email));
+    }
+
+    /**
+     * 가입된 이메일 추가
+     * 추가된 이메일이 예상 개수를 넘으면 두 배 크기로 재구축을 시작합니다.
+     * @param email 이메일
+     */
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+
+        long hash = hash(email);
+        Bits bits = active;
+        Bits rebuilding = next;
+        if (rebuilding != null) {
+            rebuilding.add(hash);
+        }
+        if (bits != null && bits.add(hash) > bits.capacity && building.compareAndSet(false, true)) {
+            log.info("가입 이메일 블룸 필터 포화 ({}건), 두 배 크기로 재구축", bits.capacity);
+            Bits larger = new Bits(bits.capacity * 2, falsePositiveRate);
+            larger.add(hash);
+            startBuild(larger);
+        }
+    }
+
+    /**
+     * 구축이 끝나 사용 중인지 여부
+     * @return 사용 중이면 true
+     */
+    public boolean isReady() {
+        return active != null;
+    }
+
+    /**
+     * 사용 중인 필터의 용량 (재구축되면 두 배로 늘어남)
+     * @return 예상 이메일 수 (구축 전이면 0)
+     */
+    long capacity() {
+        Bits bits = active;
+        return bits != null ? bits.capacity : 0L;
+    }
+
+    /**
+     * 설정한 크기로 필터를 구축 (호출한 스레드에서 실행)
+     */
+    void build() {
+        building.set(true);
+        Bits target = new Bits(expectedInsertions, falsePositiveRate);
+        next = target;
+        build(target);
+    }
+
+    /**
+     * target을 구축 중인 필터로 등록하고 백그라운드 구축 시작 (building 플래그를 획득한 뒤 호출)
+     */
+    private void startBuild(Bits target) {
+        next = target;
+        Thread builder = new Thread(() -> build(target), "user-email-bloom-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 전체 사용자 이메일을 ID 순으로 읽어 target에 추가한 뒤 사용 중인 필터로 교체
+     * 구축 중에 생성된 이메일은 add()에서 target에도 추가됩니다.
+     */
+    private void build(Bits target) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long lastId = 0L;
+            List<UserSummary> chunk;
+            do {
+                long after = lastId;
+                chunk = readOnlyTransaction.execute(status -> userRepository.findSummariesAfterId(after, BUILD_CHUNK_SIZE));
+                if (chunk == null || chunk.isEmpty()) {
+                    break;
+                }
+
+                chunk.forEach(user -> target.add(hash(user.email())));
+                lastId = chunk.get(chunk.size() - 1).id();
+            } while (chunk.size() == BUILD_CHUNK_SIZE);
+
+            active = target;
+            log.info("가입 이메일 블룸 필터 구축 완료: {}건 (용량 {}), {}ms",
+                    target.count.get(), target.capacity, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("가입 이메일 블룸 필터 구축 실패", e);
+        } finally {
+            if (next == target) {
+                next = null;
+            }
+            building.set(false);
+        }
+    }
+
+    /**
+     * 정규화한 이메일의 64비트 해시 (FNV-1a)
+     */
+    private static long hash(String email) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 비트 배열과 해시 함수 개수
+     * 해시 하나에서 두 값을 만들어 k개의 위치를 계산합니다 (Kirsch-Mitzenmacher).
+     */
+    static final class Bits {
+
+        private final long capacity;
+        private final long size;
+        private final int hashFunctions;
+        private final AtomicLongArray words;
+        private final AtomicLong count = new AtomicLong();
+
+        Bits(long capacity, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            long wordCount = Math.min((bits + 63) / 64, Integer.MAX_VALUE - 8);
+            this.capacity = capacity;
+            this.size = wordCount * 64;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) size / capacity * Math.log(2)));
+            this.words = new AtomicLongArray((int) wordCount);
+        }
+
+        /**
+         * @return 추가한 뒤의 추가 횟수 (재구축 중 생성된 이메일은 두 번 셀 수 있어 실제 개수 이상)
+         */
+        long add(long hash) {
+            long first = hash;
+            long second = mix(hash) | 1;
+            for (int i = 0; i < hashFunctions; i++) {
+                long index = Math.floorMod(first + i * second, size);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+            return count.incrementAndGet();
+        }
+
+        boolean mightContain(long hash) {
+            long first = hash;
+            long second = mix(hash) | 1;
+            for (int i = 0; i < hashFunctions; i++) {
+                long index = Math.floorMod(first + i * second, size);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 64비트 정수 혼합 (SplitMix64 마무리 단계)
+         */
+        private static long mix(long value) {
+            value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+            value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+            return value ^ (value >>> 31);
+        }
+    }
+}
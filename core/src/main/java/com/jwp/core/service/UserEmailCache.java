@@ -0,0 +1,149 @@
+package com.jwp.core.service;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
+import com.jwp.core.domain.User;
+import com.jwp.core.domain.event.UserChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 이메일별 사용자 ID 로컬 캐시
+ * 가입된 이메일은 사용자 ID를, 가입되지 않은 이메일은 짧은 시간 동안 "없음"을 저장하여
+ * 존재하지 않는 이메일 확인 요청이 매번 데이터베이스로 가지 않도록 합니다.
+ * 키는 앞뒤 공백을 없애고 소문자로 바꾼 이메일입니다 (MariaDB 기본 collation과 같이 대소문자 구분 없음).
+ *
+ * <p>일관성 유지:</p>
+ * <ul>
+ *   <li>생성: 저장한 트랜잭션 안에서 바로 ID를 기록하고, 롤백되면 제거합니다.
+ *       커밋 전부터 기록되므로 커밋된 이메일이 "없음"으로 응답되는 순간이 없습니다.</li>
+ *   <li>삭제: 커밋 후 (UserChangedEvent) 제거합니다.
+ *       공유 계층을 사용하면 다른 노드의 무효화 알림에 포함된 사용자 ID의 항목도 제거합니다.
+ *       알림에는 ID만 있으므로 저장된 항목을 훑어 값으로 찾습니다.</li>
+ *   <li>캐시에 없는 이메일은 키별로 한 번만 조회하며, 조회 중에 기록된 값은 조회 결과로 덮어쓰지 않습니다.</li>
+ * </ul>
+ *
+ * <p>적중률 등 통계는 cache.gets 등의 메트릭(cache=user-email)으로 노출됩니다.</p>
+ */
+@Component
+public class UserEmailCache implements MeterBinder {
+
+    /** 메트릭 캐시 이름 */
+    public static final String NAME = "user-email";
+
+    /** 가입되지 않은 이메일 표시 */
+    private static final long MISSING = -1L;
+
+    private final Cache<String, Long> cache;
+
+    /**
+     * 생성자
+     * @param remoteTier 공유 캐시 계층 (사용하지 않으면 UserSummaryRemoteTier.none())
+     * @param maximumSize 최대 항목 수
+     * @param expireAfterWriteMillis 가입된 이메일 항목 만료 시간 (밀리초)
+     * @param negativeExpireAfterWriteMillis 가입되지 않은 이메일 항목 만료 시간 (밀리초)
+     */
+    public UserEmailCache(UserSummaryRemoteTier remoteTier,
+                          @Value("${summy.user.email-cache.maximum-size:100000}") long maximumSize,
+                          @Value("${summy.user.email-cache.expire-after-write-millis:600000}") long expireAfterWriteMillis,
+                          @Value("${summy.user.email-cache.negative-expire-after-write-millis:5000}") long negativeExpireAfterWriteMillis) {
+        long positiveNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterWriteMillis);
+        long negativeNanos = TimeUnit.MILLISECONDS.toNanos(negativeExpireAfterWriteMillis);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String email, Long id, long currentTime) {
+                        return id == MISSING ? negativeNanos : positiveNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, Long id, long currentTime, long currentDuration) {
+                        return expireAfterCreate(email, id, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, Long id, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        remoteTier.subscribe(ids -> {
+            Set<Long> changed = Set.copyOf(ids);
+            cache.asMap().values().removeIf(changed::contains);
+        });
+    }
+
+    /**
+     * 이메일의 사용자 ID 조회
+     * 캐시에 없으면 loader로 조회하여 결과("없음" 포함)를 저장합니다.
+     * @param email 이메일
+     * @param loader 이메일로 사용자 ID를 조회하는 함수 (없으면 null 반환)
+     * @return 사용자 ID (가입되지 않은 이메일이면 null)
+     */
+    public Long getId(String email, Function<String, Long> loader) {
+        Long id = cache.get(normalize(email), key -> {
+            Long loaded = loader.apply(email);
+            return loaded != null ? loaded : MISSING;
+        });
+        return id == MISSING ? null : id;
+    }
+
+    /**
+     * 사용자 생성 기록
+     * 트랜잭션 안이면 롤백 시 기록을 제거합니다.
+     * @param user 저장된 사용자 (ID 할당 완료)
+     */
+    public void created(User user) {
+        String key = normalize(user.getEmail());
+        cache.put(key, user.getId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        cache.invalidate(key);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 커밋된 사용자 삭제 반영
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 반영합니다.
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.ChangeType.DELETED && event.email() != null) {
+            cache.invalidate(normalize(event.email()));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, NAME);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
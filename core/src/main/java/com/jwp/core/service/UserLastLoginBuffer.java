@@ -0,0 +1,204 @@
+package com.jwp.core.service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwp.core.exception.BusinessException;
+import com.jwp.core.exception.ErrorCode;
+import com.jwp.core.repository.UserRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마지막 로그인 일시 쓰기 버퍼
+ * 로그인할 때마다 사용자 행을 갱신하지 않고, 사용자별 마지막 로그인 일시를 메모리에 모았다가 주기적으로 한 번에 갱신합니다.
+ * 같은 사용자가 여러 번 로그인해도 가장 늦은 일시 하나만 남기므로, 자주 로그인하는 사용자일수록 UPDATE 수가 크게 줄어듭니다.
+ *
+ * <p>데이터베이스에 반영되기까지의 지연은 비우기 주기(와 비우는 데 걸린 시간)를 넘지 않으며,
+ * 쌓인 사용자 수가 최대치에 이르면 주기를 기다리지 않고 기록한 스레드에서 바로 비웁니다.
+ * 갱신에 실패한 항목은 다시 버퍼에 넣어 다음 주기에 재시도하고, 애플리케이션 종료 시 남은 항목을 모두 비웁니다.</p>
+ */
+@Slf4j
+@Component
+public class UserLastLoginBuffer implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate newTransaction;
+    private final int batchSize;
+    private final int maxPending;
+
+    /** 반영 대기 중인 사용자 ID별 마지막 로그인 일시 */
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /** 주기 작업과 즉시 비우기가 같은 항목을 동시에 쓰지 않도록 비우기를 한 번에 하나씩 실행 */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicLong flushed = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * 생성자
+     * @param userRepository 사용자 레포지토리
+     * @param transactionManager 트랜잭션 매니저
+     * @param batchSize 한 트랜잭션에서 갱신할 사용자 수
+     * @param maxPending 즉시 비우기를 시작할 대기 사용자 수
+     */
+    public UserLastLoginBuffer(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${summy.user.last-login.batch-size:500}") int batchSize,
+                               @Value("${summy.user.last-login.max-pending:100000}") int maxPending) {
+        if (batchSize < 1 || maxPending < 1) {
+            throw new IllegalArgumentException("summy.user.last-login.batch-size and max-pending must be positive");
+        }
+        this.userRepository = userRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 현재 시각으로 로그인 기록
+     * @param userId 로그인한 사용자 ID
+     */
+    public void record(Long userId) {
+        record(userId, LocalDateTime.now());
+    }
+
+    /**
+     * 로그인 기록
+     * 이미 더 늦은 일시가 기록되어 있으면 무시합니다.
+     * @param userId 로그인한 사용자 ID
+     * @param loginAt 로그인 일시
+     */
+    public void record(Long userId, LocalDateTime loginAt) {
+        if (userId == null || loginAt == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "사용자 ID와 로그인 일시는 필수입니다.");
+        }
+
+        pending.merge(userId, loginAt, UserLastLoginBuffer::latest);
+        if (closed || pending.size() >= maxPending) {
+            flushIfIdle();
+        }
+    }
+
+    /**
+     * 반영 대기 중인 사용자 수
+     * @return 대기 사용자 수
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 버퍼 비우기 (기본: 5초마다)
+     * 항목은 꺼낼 때의 값과 같을 때만 버퍼에서 제거하므로, 비우는 도중 들어온 더 늦은 로그인은 버퍼에 남아 다음 주기에 반영됩니다.
+     * @return 갱신된 사용자 수
+     */
+    @Scheduled(fixedDelayString = "${summy.user.last-login.flush-interval-millis:5000}")
+    public long flush() {
+        flushLock.lock();
+        try {
+            return drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 항목 반영
+     * 웹 서버가 처리 중인 요청을 마친 뒤 빈이 정리되므로, 종료 직전의 로그인까지 반영됩니다.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("종료 시 마지막 로그인 일시를 반영하지 못함: {}명", pending.size());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("summy.user.last-login.pending", pending, Map::size)
+                .description("반영 대기 중인 마지막 로그인 일시 수")
+                .register(registry);
+        FunctionCounter.builder("summy.user.last-login.flushed", flushed, AtomicLong::get)
+                .description("버퍼에서 데이터베이스로 반영한 마지막 로그인 일시 수")
+                .register(registry);
+    }
+
+    /**
+     * 다른 스레드가 비우는 중이 아니면 바로 비웁니다 (비우는 중이면 그 작업에 맡기고 기다리지 않음).
+     */
+    private void flushIfIdle() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private long drain() {
+        long updated = 0;
+        Map<Long, LocalDateTime> batch = new TreeMap<>();
+        Iterator<Map.Entry<Long, LocalDateTime>> entries = pending.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Long, LocalDateTime> entry = entries.next();
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+            if (batch.size() >= batchSize) {
+                if (!write(batch)) {
+                    return updated;
+                }
+                updated += batch.size();
+                batch = new TreeMap<>();
+            }
+        }
+
+        if (!batch.isEmpty() && write(batch)) {
+            updated += batch.size();
+        }
+        return updated;
+    }
+
+    /**
+     * 한 배치 갱신 (실패하면 버퍼에 되돌려 다음 주기에 재시도)
+     */
+    private boolean write(Map<Long, LocalDateTime> batch) {
+        try {
+            newTransaction.executeWithoutResult(status -> userRepository.updateLastLoginAt(batch));
+            flushed.addAndGet(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            batch.forEach((userId, loginAt) -> pending.merge(userId, loginAt, UserLastLoginBuffer::latest));
+            log.warn("마지막 로그인 일시 반영 실패, 다음 주기에 재시도: {}명", batch.size(), e);
+            return false;
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
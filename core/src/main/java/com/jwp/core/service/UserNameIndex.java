@@ -0,0 +1,468 @@
+package com.jwp.core.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
+import com.jwp.core.domain.event.UserChangedEvent;
+import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 이름 n-gram 인덱스
+ * 이름의 글자(코드 포인트) 단위 unigram과 bigram으로 역색인을 만들어
+ * {@code name LIKE '%x%'} 전체 스캔 없이 부분 일치 후보 ID를 찾습니다.
+ * 한글은 음절 하나가 코드 포인트 하나이므로 두 글자 이름도 음절 단위로 색인됩니다.
+ *
+ * <p>애플리케이션 시작 후 백그라운드에서 전체 사용자를 읽어 구축하며,
+ * 이후에는 커밋된 사용자 변경 이벤트로 갱신합니다. 구축이 끝나기 전에는 검색 결과를 제공하지 않으므로
+ * 호출하는 쪽은 데이터베이스 검색으로 대체해야 합니다.</p>
+ *
+ * <p>변경 이벤트는 변경을 처리한 노드에서만 발행되므로, 다른 노드의 변경은 공유 캐시 계층의 무효화 알림
+ * (UserSummaryRemoteTier)으로 받아 해당 사용자를 주 데이터베이스에서 다시 읽어 반영합니다.
+ * 알림이 없으면 다른 노드의 변경을 알 수 없으므로, 기본값으로는 공유 계층을 사용할 때만 (summy.user.redis-cache.enabled) 켜집니다.
+ * pub/sub 알림은 전달이 보장되지 않으므로 주기적으로 (summy.user.name-index.rebuild-cron) 데이터베이스에서 다시 구축하여
+ * 놓친 알림으로 틀어진 항목을 바로잡습니다.
+ * 다시 구축하는 동안에는 새 구조에 따로 읽고 기존 인덱스로 계속 검색하며, 끝나면 교체합니다 (그동안 메모리를 두 배로 사용).</p>
+ *
+ * <p>MariaDB 기본 collation과 같이 대소문자를 구분하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class UserNameIndex {
+
+    /** 인덱스 구축 시 한 번에 읽을 사용자 수 */
+    private static final int BUILD_CHUNK_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate primaryTransaction;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, String> names = new HashMap<>();
+    private Map<String, PostingList> postings = new HashMap<>();
+    private final Set<Long> changedDuringBuild = new HashSet<>();
+    private boolean building;
+    private volatile boolean ready;
+
+    /**
+     * 생성자
+     * @param userRepository 사용자 레포지토리
+     * @param transactionManager 트랜잭션 매니저
+     * @param remoteTier 다른 노드의 변경 알림을 받을 공유 캐시 계층 (사용하지 않으면 UserSummaryRemoteTier.none())
+     * @param enabled 인덱스 사용 여부 (기본값은 공유 계층 사용 여부)
+     */
+    public UserNameIndex(UserRepository userRepository,
+                         PlatformTransactionManager transactionManager,
+                         UserSummaryRemoteTier remoteTier,
+                         @Value("${summy.user.name-index.enabled:${summy.user.redis-cache.enabled:false}}") boolean enabled) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 읽기 전용이 아니어야 복제본 대신 변경이 커밋된 주 데이터베이스를 읽음
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        if (enabled) {
+            remoteTier.subscribe(this::refresh);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 인덱스 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        Thread builder = new Thread(this::build, "user-name-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 주기적으로 데이터베이스에서 다시 구축하여 놓친 변경 알림 보정
+     */
+    @Scheduled(cron = "${summy.user.name-index.rebuild-cron:0 10 * * * *}")
+    public void rebuild() {
+        if (enabled) {
+            build();
+        }
+    }
+
+    /**
+     * 전체 사용자를 ID 순으로 새 구조에 읽어 기존 인덱스와 교체
+     * 구축 중에도 기존 인덱스는 변경 이벤트로 갱신되고 검색에 사용되며,
+     * 구축 중에 변경된 사용자는 구축 시점에 읽은 값 대신 기존 인덱스의 값으로 교체합니다.
+     * 이미 구축 중이면 아무 일도 하지 않습니다.
+     */
+    public void build() {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                return;
+            }
+            building = true;
+            changedDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Map<Long, String> builtNames = new HashMap<>();
+        Map<String, PostingList> builtPostings = new HashMap<>();
+        try {
+            long lastId = 0L;
+            List<UserSummary> chunk;
+            do {
+                long after = lastId;
+                chunk = readOnlyTransaction.execute(status -> userRepository.findSummariesAfterId(after, BUILD_CHUNK_SIZE));
+                if (chunk == null || chunk.isEmpty()) {
+                    break;
+                }
+
+                chunk.forEach(user -> put(builtNames, builtPostings, user.id(), user.name()));
+                lastId = chunk.get(chunk.size() - 1).id();
+            } while (chunk.size() == BUILD_CHUNK_SIZE);
+
+            swap(builtNames, builtPostings);
+            log.info("사용자 이름 인덱스 구축 완료: {}명, {}ms", size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                changedDuringBuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("사용자 이름 인덱스 구축 실패", e);
+        }
+    }
+
+    /**
+     * 커밋된 사용자 변경 반영
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.ChangeType.DELETED) {
+            remove(event.userId());
+        } else {
+            index(event.userId(), event.name());
+        }
+    }
+
+    /**
+     * 다른 노드에서 변경된 사용자를 주 데이터베이스에서 다시 읽어 반영
+     * 같은 사용자의 알림이 연달아 와도 나중에 읽은 값이 남도록 한 번에 하나씩 처리합니다.
+     * @param ids 변경된 사용자 ID 목록
+     */
+    public synchronized void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<UserSummary> users = primaryTransaction.execute(status -> userRepository.findAllByIdsOrdered(List.copyOf(ids)));
+            Map<Long, String> found = new HashMap<>();
+            if (users != null) {
+                users.forEach(user -> found.put(user.id(), user.name()));
+            }
+            for (Long id : ids) {
+                if (found.containsKey(id)) {
+                    index(id, found.get(id));
+                } else {
+                    remove(id);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("다른 노드의 사용자 변경 반영 실패: {}건, {}", ids.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 이름 색인 (이미 있으면 교체)
+     * @param id 사용자 ID
+     * @param name 사용자 이름
+     */
+    public void index(Long id, String name) {
+        if (id == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                changedDuringBuild.add(id);
+            }
+            put(names, postings, id, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 색인 제거
+     * @param id 사용자 ID
+     */
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                changedDuringBuild.add(id);
+            }
+            remove(names, postings, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이름에 키워드가 포함된 사용자 ID 검색
+     * @param keyword 검색할 이름 (부분 일치)
+     * @return 오름차순으로 정렬된 사용자 ID 목록, 인덱스가 준비되지 않았으면 빈 Optional
+     */
+    public Optional<List<Long>> search(String keyword) {
+        if (!ready || !StringUtils.hasText(keyword)) {
+            return Optional.empty();
+        }
+
+        String normalized = normalize(keyword);
+        List<String> grams = queryGrams(normalized);
+        // bigram 교집합은 후보일 뿐이므로 세 글자 이상이면 실제 포함 여부를 확인
+        boolean verify = normalized.codePointCount(0, normalized.length()) > 2;
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+
+            List<PostingList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return Optional.of(List.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            PostingList smallest = lists.get(0);
+            List<Long> result = new ArrayList<>();
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.get(i);
+                if (containsInAll(lists, id) && (!verify || names.get(id).contains(normalized))) {
+                    result.add(id);
+                }
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 가능 여부
+     * @return 인덱스 구축이 끝났으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 사용자 수
+     * @return 사용자 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 구축한 구조로 교체
+     * 구축 중에 변경된 사용자는 변경 이벤트가 반영된 기존 인덱스의 값을 옮깁니다.
+     */
+    private void swap(Map<Long, String> builtNames, Map<String, PostingList> builtPostings) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : changedDuringBuild) {
+                String current = names.get(id);
+                if (current != null) {
+                    put(builtNames, builtPostings, id, current);
+                } else {
+                    remove(builtNames, builtPostings, id);
+                }
+            }
+            names = builtNames;
+            postings = builtPostings;
+            building = false;
+            changedDuringBuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void put(Map<Long, String> names, Map<String, PostingList> postings, long id, String name) {
+        String normalized = name != null ? normalize(name) : "";
+        String previous = names.put(id, normalized);
+        if (previous != null) {
+            if (previous.equals(normalized)) {
+                return;
+            }
+            removeGrams(postings, id, previous);
+        }
+
+        for (String gram : indexGrams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    private static void remove(Map<Long, String> names, Map<String, PostingList> postings, long id) {
+        String removed = names.remove(id);
+        if (removed != null) {
+            removeGrams(postings, id, removed);
+        }
+    }
+
+    private static void removeGrams(Map<String, PostingList> postings, long id, String normalized) {
+        for (String gram : indexGrams(normalized)) {
+            PostingList list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<PostingList> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인할 n-gram (unigram + bigram)
+     */
+    private static Set<String> indexGrams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색할 n-gram (한 글자면 unigram, 그 외에는 bigram)
+     */
+    private static List<String> queryGrams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return List.of(normalized);
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * 오름차순으로 정렬된 사용자 ID 목록
+     * 박싱 없이 long 배열로 보관하여 대량의 사용자에서도 메모리 사용을 줄입니다.
+     */
+    private static final class PostingList {
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    return;
+                }
+                insert(-index - 1, id);
+                return;
+            }
+            insert(size, id);
+        }
+
+        private void insert(int index, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private long get(int index) {
+            return ids[index];
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+}
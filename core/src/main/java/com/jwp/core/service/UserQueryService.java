@@ -1,7 +1,9 @@
 package com.jwp.core.service;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,10 +11,22 @@ import com.jwp.core.domain.User;
 import com.jwp.core.exception.BusinessException;
 import com.jwp.core.exception.ErrorCode;
 import com.jwp.core.exception.user.UserDomainException;
+import com.jwp.core.repository.CursorSlice;
+import com.jwp.core.repository.TotalCountMode;
+import com.jwp.core.repository.UserCursor;
 import com.jwp.core.repository.UserRepository;
 import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserSummary;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 사용자 조회 서비스
@@ -22,25 +36,62 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class UserQueryService {
 
+    /** 커서 기반 조회 시 한 번에 조회할 수 있는 최대 개수 */
+    private static final int MAX_CURSOR_SIZE = 1000;
+
+    /** 내보내기 시 DB 커서에서 한 번에 가져올 행 수 */
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    /** ID, 이메일 목록 조회 시 한 번에 조회할 수 있는 최대 개수 */
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final UserCountEstimator userCountEstimator;
+    private final UserNameIndex userNameIndex;
+    private final UserSummaryCache userSummaryCache;
+    private final UserEmailCache userEmailCache;
+    private final UserSearchCache userSearchCache;
+    private final UserStatusCounter userStatusCounter;
 
     /**
      * 생성자
      * @param userRepository 사용자 레포지토리
+     * @param userCountEstimator 사용자 수 근사치 제공자
+     * @param userNameIndex 사용자 이름 인덱스
+     * @param userSummaryCache 사용자 요약 정보 캐시
+     * @param userEmailCache 이메일별 사용자 ID 캐시
+     * @param userSearchCache 사용자 검색 결과 캐시
+     * @param userStatusCounter 상태별 사용자 수 카운터
      */
-    public UserQueryService(UserRepository userRepository) {
+    public UserQueryService(UserRepository userRepository,
+                            UserCountEstimator userCountEstimator,
+                            UserNameIndex userNameIndex,
+                            UserSummaryCache userSummaryCache,
+                            UserEmailCache userEmailCache,
+                            UserSearchCache userSearchCache,
+                            UserStatusCounter userStatusCounter) {
         this.userRepository = userRepository;
+        this.userCountEstimator = userCountEstimator;
+        this.userNameIndex = userNameIndex;
+        this.userSummaryCache = userSummaryCache;
+        this.userEmailCache = userEmailCache;
+        this.userSearchCache = userSearchCache;
+        this.userStatusCounter = userStatusCounter;
     }
 
     /**
      * 이메일로 사용자 조회
+     * 이메일별 사용자 ID 캐시로 가입되지 않은 이메일은 데이터베이스 조회 없이 응답하고,
+     * 가입된 이메일은 ID로 엔티티(2차 캐시)를 가져옵니다.
+     * 캐시에 없는 이메일은 이메일 유니크 인덱스로 ID만 읽어 저장한 뒤 같은 방법으로 가져옵니다.
      * @param email 조회할 이메일
      * @return 조회된 사용자 (Optional)
      */
     public Optional<User> findByEmail(String email) {
         validateEmail(email);
-        User user = userRepository.findByEmail(email);
-        return Optional.ofNullable(user);
+
+        Long id = findIdByEmail(email);
+        return id != null ? userRepository.findById(id) : Optional.empty();
     }
 
     /**
@@ -57,18 +108,77 @@ public class UserQueryService {
                 .orElseThrow(() -> UserDomainException.userNotFound("ID: " + id));
     }
 
+    /**
+     * 사용자 ID로 요약 정보 조회 (캐시 사용)
+     * 수정할 엔티티가 필요 없는 단건 조회에 사용하며, 캐시에 있으면 데이터베이스를 조회하지 않습니다.
+     * @param id 사용자 ID
+     * @return 사용자 요약 정보
+     */
+    public UserSummary findSummaryById(Long id) {
+        if (id == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "사용자 ID는 필수입니다.");
+        }
+
+        UserSummary summary = userSummaryCache.get(id,
+                key -> userRepository.findAllByIdsOrdered(List.of(key)).stream().findFirst().orElse(null));
+        if (summary == null) {
+            throw UserDomainException.userNotFound("ID: " + id);
+        }
+        return summary;
+    }
+
+    /**
+     * ID 목록으로 사용자 일괄 조회
+     * @param ids 조회할 사용자 ID 목록
+     * @return 요청 순서대로 정렬된 사용자 요약 목록 (존재하지 않는 ID는 제외)
+     */
+    public List<UserSummary> findAllByIdsOrdered(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "조회할 사용자 ID는 필수입니다.");
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("한 번에 조회할 수 있는 사용자는 최대 %d명입니다.", MAX_BATCH_SIZE));
+        }
+
+        return userRepository.findAllByIdsOrdered(ids);
+    }
+
     /**
      * 이메일 중복 확인
+     * 이메일별 사용자 ID 캐시를 사용하며, 가입되지 않은 이메일도 짧은 시간 동안 캐시됩니다.
      * @param email 확인할 이메일
      * @return 중복 여부
      */
     public boolean existsByEmail(String email) {
         validateEmail(email);
-        return userRepository.existsByEmail(email);
+        return findIdByEmail(email) != null;
+    }
+
+    /**
+     * 여러 이메일의 중복 확인
+     * 이메일마다 조회하지 않고 IN 조건 조회로 한 번에 확인합니다.
+     * @param emails 확인할 이메일 목록 (최대 1000개)
+     * @return 이미 사용 중인 이메일
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이메일 목록은 필수입니다.");
+        }
+        if (emails.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("한 번에 확인할 수 있는 이메일은 최대 %d개입니다.", MAX_BATCH_SIZE));
+        }
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(userRepository.findExistingEmails(emails));
     }
 
     /**
      * 사용자 이름으로 검색
+     * 이름 인덱스가 준비되어 있으면 후보 ID로 조회하고, 아니면 LIKE 검색으로 조회합니다.
      * @param name 검색할 이름
      * @param pageable 페이징 정보
      * @return 페이징된 사용자 목록
@@ -78,11 +188,14 @@ public class UserQueryService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "검색할 이름은 필수입니다.");
         }
 
-        return userRepository.findByNameContaining(name, pageable);
+        return userNameIndex.search(name)
+                .map(ids -> userRepository.findPageByIds(ids, pageable))
+                .orElseGet(() -> userRepository.findByNameContaining(name, pageable));
     }
 
     /**
      * 조건에 따른 사용자 검색
+     * 조건이 없거나 상태만 지정된 경우 전체 개수는 count 쿼리 대신 상태별 사용자 수 카운터로 계산합니다.
      * @param condition 검색 조건
      * @param pageable 페이징 정보
      * @return 페이징된 사용자 목록
@@ -92,10 +205,175 @@ public class UserQueryService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "페이징 정보는 필수입니다.");
         }
 
+        Optional<List<Long>> candidateIds = nameCandidates(condition);
+        if (candidateIds.isPresent()) {
+            return userRepository.findPageByIds(candidateIds.get(), pageable);
+        }
+
+        OptionalLong counted = userStatusCounter.count(condition);
+        if (counted.isPresent()) {
+            return countedPage(userRepository.searchSliceByCondition(condition, pageable), counted.getAsLong());
+        }
+
         return userRepository.searchByCondition(condition, pageable);
     }
 
+    /**
+     * 조건에 따른 사용자 목록 검색 (전체 개수 계산 방식 지정)
+     * 엔티티 대신 요약 정보 프로젝션으로 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+     * 이름만으로 검색하는 경우 이름 인덱스의 후보 ID로 조회하며, 이때는 전체 개수를 추가 비용 없이 알 수 있습니다.
+     * 조건이 없거나 상태만 지정된 경우에는 계산 방식과 관계없이 상태별 사용자 수 카운터의 정확한 값을 전체 개수로 사용합니다.
+     * 같은 조건과 페이지의 결과는 검색 결과 캐시에 ID 목록으로 저장되며, 적중하면 ID 조회 한 번으로 응답합니다.
+     * @param condition 검색 조건
+     * @param pageable 페이징 정보
+     * @param totalCountMode 전체 개수 계산 방식
+     * @return EXACT, APPROXIMATE는 전체 개수를 포함한 Page, NONE은 Slice
+     */
+    public Slice<UserSummary> searchUsers(UserSearchCondition condition, Pageable pageable, TotalCountMode totalCountMode) {
+        if (pageable == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "페이징 정보는 필수입니다.");
+        }
+
+        return userSearchCache.get(condition, pageable, totalCountMode,
+                () -> searchSummaries(condition, pageable, totalCountMode),
+                userRepository::findAllByIdsOrdered);
+    }
+
+    private Slice<UserSummary> searchSummaries(UserSearchCondition condition, Pageable pageable, TotalCountMode totalCountMode) {
+        Optional<List<Long>> candidateIds = nameCandidates(condition);
+        if (candidateIds.isPresent()) {
+            return userRepository.findSummaryPageByIds(candidateIds.get(), pageable);
+        }
+
+        if (totalCountMode == TotalCountMode.NONE) {
+            return userRepository.searchSummarySliceByCondition(condition, pageable);
+        }
+
+        OptionalLong counted = userStatusCounter.count(condition);
+        if (counted.isPresent()) {
+            return countedPage(userRepository.searchSummarySliceByCondition(condition, pageable), counted.getAsLong());
+        }
+
+        if (totalCountMode == null || totalCountMode == TotalCountMode.EXACT) {
+            return userRepository.searchSummariesByCondition(condition, pageable);
+        }
+
+        Slice<UserSummary> slice = userRepository.searchSummarySliceByCondition(condition, pageable);
+        return new PageImpl<>(slice.getContent(), pageable, approximateTotal(condition, slice));
+    }
+
+    /**
+     * 사용자 이름으로 검색 (커서 기반)
+     * @param name 검색할 이름
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size 조회할 개수
+     * @return 커서 기반 사용자 목록
+     */
+    public CursorSlice<User> findByNameContaining(String name, UserCursor cursor, int size) {
+        if (name == null || name.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "검색할 이름은 필수입니다.");
+        }
+        validateCursorSize(size);
+
+        return userRepository.findByNameContaining(name, cursor, size);
+    }
+
+    /**
+     * 조건에 따른 사용자 목록 검색 (커서 기반)
+     * @param condition 검색 조건
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지는 null)
+     * @param size 조회할 개수
+     * @return 커서 기반 사용자 요약 목록
+     */
+    public CursorSlice<UserSummary> searchUsers(UserSearchCondition condition, UserCursor cursor, int size) {
+        validateCursorSize(size);
+
+        return userRepository.searchSummariesByCondition(condition, cursor, size);
+    }
+
+    /**
+     * 조건에 맞는 사용자 내보내기
+     * 페이지마다 OFFSET 조회와 전체 개수 조회를 반복하는 대신, 하나의 읽기 전용 트랜잭션에서 DB 커서로 ID 순으로 읽으면서
+     * 한 건씩 콜백에 전달합니다. 읽은 엔티티는 바로 준영속 상태가 되므로 사용자 수와 관계없이 메모리 사용량이 일정합니다.
+     * 콜백에서 예외가 발생하면 (클라이언트 연결 종료 등) 커서를 닫아 조회를 중단하고 예외를 그대로 전달합니다.
+     * @param condition 검색 조건 (null이면 전체)
+     * @param consumer 사용자별 처리 콜백
+     * @return 내보낸 사용자 수
+     */
+    public long exportUsers(UserSearchCondition condition, Consumer<? super UserSummary> consumer) {
+        if (consumer == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "내보내기 콜백은 필수입니다.");
+        }
+
+        long exported = 0;
+        try (Stream<User> users = userRepository.streamByCondition(condition, EXPORT_FETCH_SIZE)) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(UserSummary.from(iterator.next()));
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * 이름만으로 검색하는 조건의 후보 ID
+     * 이메일, 날짜 범위 조건이 함께 있으면 해당 조건의 인덱스로 범위가 먼저 좁혀지므로 데이터베이스 검색을 그대로 사용합니다.
+     */
+    private Optional<List<Long>> nameCandidates(UserSearchCondition condition) {
+        if (condition == null || !condition.isNameOnly()) {
+            return Optional.empty();
+        }
+
+        return userNameIndex.search(condition.getName());
+    }
+
+    /**
+     * 카운터로 계산한 전체 개수로 페이지 구성
+     * 조회 중에 다른 트랜잭션이 커밋되어 카운터와 내용이 어긋나더라도, 현재 페이지와 다음 페이지 존재 여부에 맞도록 보정합니다.
+     */
+    private static <T> Page<T> countedPage(Slice<T> slice, long counted) {
+        long offset = slice.getPageable().getOffset();
+        long seen = offset + slice.getNumberOfElements();
+        long total;
+        if (slice.hasNext()) {
+            total = Math.max(counted, seen + 1);
+        } else {
+            total = slice.hasContent() ? seen : Math.min(counted, offset);
+        }
+
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * 근사 전체 개수 계산
+     * 마지막 페이지이면 정확한 값을 알 수 있으므로 근사치를 사용하지 않고,
+     * 근사치가 현재 페이지보다 작으면 다음 페이지가 있다는 사실과 맞도록 보정합니다.
+     */
+    private long approximateTotal(UserSearchCondition condition, Slice<?> slice) {
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return seen;
+        }
+
+        return Math.max(userCountEstimator.estimate(condition), seen + 1);
+    }
+
     // 유효성 검증 메소드
+    private void validateCursorSize(int size) {
+        if (size <= 0 || size > MAX_CURSOR_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("조회 개수는 1 이상 %d 이하여야 합니다.", MAX_CURSOR_SIZE));
+        }
+    }
+
+    /**
+     * 이메일별 사용자 ID 캐시로 ID 조회 (캐시에 없으면 이메일 유니크 인덱스로 ID만 읽음)
+     */
+    private Long findIdByEmail(String email) {
+        return userEmailCache.getId(email, key -> userRepository.findIdByEmail(key).orElse(null));
+    }
+
     private void validateEmail(String email) {
         if (email == null || email.isBlank()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이메일은 필수입니다.");
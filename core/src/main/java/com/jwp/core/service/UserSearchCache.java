@@ -0,0 +1,194 @@
+package com.jwp.core.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.TotalCountMode;
+import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserSummary;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자 검색 결과 로컬 캐시
+ * 검색 조건, 페이지 위치, 정렬, 전체 개수 계산 방식이 같은 요청의 결과를 저장하여 목록 조회와 전체 개수 조회를 반복하지 않습니다.
+ * 결과는 사용자 ID 배열과 전체 개수, 다음 페이지 여부만 저장하고, 적중하면 ID로 요약 정보를 한 번에 조회합니다.
+ * 저장 용량은 항목 수가 아닌 저장된 ID 수로 제한합니다.
+ *
+ * <p>무효화는 전역 쓰기 버전으로 처리합니다. 사용자 변경이 커밋되면 UserCommandService가 버전을 올리고,
+ * 공유 계층을 사용하면 다른 노드의 무효화 알림을 받을 때도 올립니다.
+ * 조회 시작 시점의 버전과 저장된 항목의 버전이 다르면 사용하지 않습니다.
+ * 조회를 시작한 뒤 커밋된 변경이 있으면 그 결과는 이전 버전으로 저장되므로, 변경 이후에는 변경 전 결과를 응답하지 않습니다.
+ * 읽기 복제본 라우팅을 사용하면 변경이 커밋된 뒤 read-your-writes 고정 시간 동안은 검색 결과를 저장하지 않습니다.
+ * 그 사이의 검색은 아직 변경을 반영하지 않은 복제본을 읽었을 수 있으므로, 새 버전으로 저장하면 변경 전 결과가 계속 응답되기 때문입니다.</p>
+ *
+ * <p>적중률 등 통계는 cache.gets 등의 메트릭(cache=user-search)으로 노출됩니다.</p>
+ */
+@Component
+public class UserSearchCache implements MeterBinder {
+
+    /** 메트릭 캐시 이름 */
+    public static final String NAME = "user-search";
+
+    private final Cache<Key, Entry> cache;
+    private final boolean enabled;
+    private final long replicaLagMillis;
+    private final AtomicLong writeVersion = new AtomicLong();
+    private volatile long lastWriteCommittedAt;
+
+    /**
+     * 생성자
+     * @param remoteTier 공유 캐시 계층 (사용하지 않으면 UserSummaryRemoteTier.none())
+     * @param enabled 캐시 사용 여부
+     * @param maximumIds 저장할 수 있는 사용자 ID 총 개수
+     * @param expireAfterWriteMillis 저장 후 만료 시간 (밀리초)
+     * @param routingEnabled 읽기 복제본 라우팅 사용 여부
+     * @param readYourWritesMillis 변경 후 검색 결과를 저장하지 않을 시간 (밀리초, 라우팅을 사용할 때만 적용)
+     */
+    public UserSearchCache(UserSummaryRemoteTier remoteTier,
+                           @Value("${summy.user.search-cache.enabled:true}") boolean enabled,
+                           @Value("${summy.user.search-cache.maximum-ids:1000000}") long maximumIds,
+                           @Value("${summy.user.search-cache.expire-after-write-millis:60000}") long expireAfterWriteMillis,
+                           @Value("${summy.datasource.routing.enabled:false}") boolean routingEnabled,
+                           @Value("${summy.datasource.routing.read-your-writes-millis:3000}") long readYourWritesMillis) {
+        this.enabled = enabled;
+        this.replicaLagMillis = routingEnabled ? readYourWritesMillis : 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumIds)
+                .weigher((Key key, Entry entry) -> Math.max(1, entry.ids().length))
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMillis))
+                .recordStats()
+                .build();
+        remoteTier.subscribe(ids -> committed());
+    }
+
+    /**
+     * 캐시된 검색 결과를 반환하고, 없으면 loader로 검색하여 저장합니다.
+     * 변경이 커밋된 직후(읽기 복제본이 따라오지 못했을 수 있는 동안)에 검색한 결과는 저장하지 않습니다.
+     * @param condition 검색 조건
+     * @param pageable 페이징 정보 (페이징하지 않는 요청은 저장하지 않음)
+     * @param totalCountMode 전체 개수 계산 방식
+     * @param loader 검색 함수
+     * @param contentLoader ID 목록으로 요청 순서대로 요약 정보를 조회하는 함수
+     * @return 검색 결과 (loader의 결과가 Page이면 Page, 아니면 Slice)
+     */
+    public Slice<UserSummary> get(UserSearchCondition condition,
+                                  Pageable pageable,
+                                  TotalCountMode totalCountMode,
+                                  Supplier<Slice<UserSummary>> loader,
+                                  Function<List<Long>, List<UserSummary>> contentLoader) {
+        if (!enabled || pageable.isUnpaged()) {
+            return loader.get();
+        }
+
+        long version = writeVersion.get();
+        Key key = Key.of(condition, pageable, totalCountMode);
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.version() == version) {
+            List<Long> ids = Arrays.stream(entry.ids()).boxed().toList();
+            List<UserSummary> content = ids.isEmpty() ? List.of() : contentLoader.apply(ids);
+            return entry.total() != null
+                    ? new PageImpl<>(content, pageable, entry.total())
+                    : new SliceImpl<>(content, pageable, entry.hasNext());
+        }
+
+        Slice<UserSummary> result = loader.get();
+        if (System.currentTimeMillis() - lastWriteCommittedAt < replicaLagMillis) {
+            return result;
+        }
+        long[] ids = result.getContent().stream().mapToLong(UserSummary::id).toArray();
+        Long total = result instanceof Page<UserSummary> page ? page.getTotalElements() : null;
+        cache.put(key, new Entry(version, ids, total, result.hasNext()));
+        return result;
+    }
+
+    /**
+     * 쓰기 버전 증가
+     * 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 올립니다.
+     * 롤백되면 올리지 않습니다.
+     */
+    public void writeCommitted() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed();
+                }
+            });
+        } else {
+            committed();
+        }
+    }
+
+    private void committed() {
+        lastWriteCommittedAt = System.currentTimeMillis();
+        writeVersion.incrementAndGet();
+    }
+
+    /**
+     * 현재 쓰기 버전
+     * @return 쓰기 버전
+     */
+    public long version() {
+        return writeVersion.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, NAME);
+    }
+
+    /**
+     * 캐시 키
+     * 빈 문자열 조건은 조건 없음과 같게 정규화합니다 (검색 시 무시되므로).
+     */
+    record Key(String email, String name, UserStatus status, LocalDateTime from, LocalDateTime to,
+               long offset, int size, Sort sort, TotalCountMode totalCountMode) {
+
+        static Key of(UserSearchCondition condition, Pageable pageable, TotalCountMode totalCountMode) {
+            return new Key(
+                    condition != null && StringUtils.hasText(condition.getEmail()) ? condition.getEmail() : null,
+                    condition != null && StringUtils.hasText(condition.getName()) ? condition.getName() : null,
+                    condition != null ? condition.getStatus() : null,
+                    condition != null ? condition.getFromDate() : null,
+                    condition != null ? condition.getToDate() : null,
+                    pageable.getOffset(),
+                    pageable.getPageSize(),
+                    pageable.getSort(),
+                    totalCountMode != null ? totalCountMode : TotalCountMode.EXACT);
+        }
+    }
+
+    /**
+     * 저장된 검색 결과
+     * @param version 조회를 시작한 시점의 쓰기 버전
+     * @param ids 사용자 ID (결과 순서)
+     * @param total 전체 개수 (Slice로 조회한 경우 null)
+     * @param hasNext 다음 페이지 존재 여부
+     */
+    record Entry(long version, long[] ids, Long total, boolean hasNext) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.jwp.core.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserSignupRollup;
+import com.jwp.core.domain.UserSignupRollupId;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.exception.BusinessException;
+import com.jwp.core.exception.ErrorCode;
+import com.jwp.core.repository.DateRange;
+import com.jwp.core.repository.SignupHistogram;
+import com.jwp.core.repository.SignupHistogram.Bucket;
+import com.jwp.core.repository.SignupHistogram.Granularity;
+import com.jwp.core.repository.UserSignupRollupRepository;
+import com.jwp.core.repository.UserSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입 통계 서비스
+ * 가입자 수를 한 시간 구간, 상태별로 미리 집계해 두고 히스토그램 조회 시 집계 행만 읽습니다.
+ * 집계 값은 UserCommandService가 사용자를 생성/삭제하거나 상태를 일괄 변경할 때 같은 트랜잭션에서 증감하며,
+ * 집계에서 벗어난 값은 주기적인 재계산 작업으로 보정됩니다.
+ */
+@Slf4j
+@Service
+public class UserSignupStatistics {
+
+    /** 한 번에 조회할 수 있는 최대 구간 수 */
+    public static final int MAX_BUCKETS = 1000;
+
+    private final UserSignupRollupRepository rollupRepository;
+    private final TransactionTemplate newTransaction;
+
+    /**
+     * 생성자
+     * @param rollupRepository 가입 통계 집계 레포지토리
+     * @param transactionManager 트랜잭션 매니저
+     */
+    public UserSignupStatistics(UserSignupRollupRepository rollupRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 사용자 생성 반영
+     * @param user 생성된 사용자 (가입 일시가 없으면 반영하지 않음)
+     */
+    @Transactional
+    public void recordCreated(User user) {
+        add(user.getCreatedAt(), user.getStatus(), 1);
+    }
+
+    /**
+     * 여러 사용자 생성 반영
+     * 같은 구간, 상태의 사용자는 합쳐서 한 번만 증가시킵니다.
+     * @param users 생성된 사용자 목록
+     */
+    @Transactional
+    public void recordCreated(List<User> users) {
+        Map<UserSignupRollupId, Long> created = new HashMap<>();
+        for (User user : users) {
+            if (user.getCreatedAt() != null && user.getStatus() != null) {
+                created.merge(new UserSignupRollupId(UserSignupRollup.bucketOf(user.getCreatedAt()), user.getStatus()), 1L, Long::sum);
+            }
+        }
+
+        created.forEach((key, count) -> add(key.getBucketStart(), key.getStatus(), count));
+    }
+
+    /**
+     * 사용자 삭제 반영
+     * @param user 삭제된 사용자 (가입 일시가 없으면 반영하지 않음)
+     */
+    @Transactional
+    public void recordDeleted(User user) {
+        add(user.getCreatedAt(), user.getStatus(), -1);
+    }
+
+    /**
+     * 상태 일괄 변경 반영
+     * 변경 전 상태의 집계에서 빼고 변경 후 상태의 집계에 더합니다.
+     * @param users 상태가 변경된 사용자 (변경 전 상태)
+     * @param to 변경된 상태
+     */
+    @Transactional
+    public void recordTransition(List<UserSummary> users, UserStatus to) {
+        Map<UserSignupRollupId, Long> moved = new HashMap<>();
+        for (UserSummary user : users) {
+            if (user.createdAt() != null && user.status() != to) {
+                moved.merge(new UserSignupRollupId(UserSignupRollup.bucketOf(user.createdAt()), user.status()), 1L, Long::sum);
+            }
+        }
+
+        moved.forEach((key, count) -> {
+            add(key.getBucketStart(), key.getStatus(), -count);
+            add(key.getBucketStart(), to, count);
+        });
+    }
+
+    /**
+     * 가입 추이 히스토그램 조회
+     * 구간은 조회 기간의 시작 일시가 속한 구간부터 종료 일시가 속한 구간까지이며,
+     * 양 끝 구간은 기간과 일부만 겹쳐도 구간 전체의 가입자 수를 포함합니다.
+     *
+     * @param range 조회 기간 (시작, 종료 일시 필수)
+     * @param granularity 구간 단위
+     * @return 가입 추이 히스토그램
+     */
+    @Transactional(readOnly = true)
+    public SignupHistogram histogram(DateRange range, Granularity granularity) {
+        if (range == null || range.getFrom() == null || range.getTo() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "조회 기간의 시작, 종료 일시는 필수입니다.");
+        }
+        if (granularity == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "구간 단위는 필수입니다.");
+        }
+        if (granularity.bucketCount(range.getFrom(), range.getTo()) > MAX_BUCKETS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("조회 구간은 최대 %d개까지 가능합니다.", MAX_BUCKETS));
+        }
+
+        LocalDateTime first = granularity.truncate(range.getFrom());
+        Map<LocalDateTime, Map<UserStatus, Long>> counts = new TreeMap<>();
+        for (UserSignupRollup rollup : rollupRepository.findInRange(first, range.getTo())) {
+            if (rollup.getUserCount() > 0) {
+                counts.computeIfAbsent(granularity.truncate(rollup.getId().getBucketStart()), start -> new EnumMap<>(UserStatus.class))
+                        .merge(rollup.getId().getStatus(), rollup.getUserCount(), Long::sum);
+            }
+        }
+
+        List<Bucket> buckets = new ArrayList<>();
+        for (LocalDateTime start = first; !start.isAfter(range.getTo()); start = granularity.next(start)) {
+            buckets.add(new Bucket(start, counts.getOrDefault(start, Map.of())));
+        }
+        return new SignupHistogram(granularity, buckets);
+    }
+
+    /**
+     * 집계 재계산 (기본: 매일 새벽 4시 30분)
+     * 주 데이터베이스의 한 트랜잭션에서 지난 구간(현재 시각이 속한 구간 이전)의 집계 행을 먼저 잠근 뒤,
+     * 지우고 사용자 테이블을 INSERT ... SELECT ... GROUP BY 문 하나로 다시 집계합니다.
+     * 재계산 중에 들어온 지난 구간의 증감은 잠금을 기다렸다가 재계산 값 위에 더해지고,
+     * 진행 중인 구간은 교체하지 않으므로 재계산 중에 들어온 가입도 유실되지 않습니다.
+     */
+    @Scheduled(cron = "${summy.user.signup-rollup.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        LocalDateTime closedBefore = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        try {
+            Long rebuilt = newTransaction.execute(status -> {
+                rollupRepository.findBeforeForUpdate(closedBefore);
+                rollupRepository.deleteBefore(closedBefore);
+                return rollupRepository.insertCountedBefore(closedBefore);
+            });
+            log.info("가입 통계 재계산 완료: {}개 집계 행 (기준 {})", rebuilt, closedBefore);
+        } catch (RuntimeException e) {
+            log.warn("가입 통계 재계산 실패 (기준 {})", closedBefore, e);
+        }
+    }
+
+    /**
+     * 집계 값 증감 (호출한 트랜잭션에 참여)
+     * 집계 행이 없으면 같은 문에서 만들므로 별도 트랜잭션(추가 커넥션)을 쓰지 않습니다.
+     */
+    private void add(LocalDateTime createdAt, UserStatus status, long delta) {
+        if (createdAt == null || status == null || delta == 0) {
+            return;
+        }
+
+        rollupRepository.increment(UserSignupRollup.bucketOf(createdAt), status, delta);
+    }
+}
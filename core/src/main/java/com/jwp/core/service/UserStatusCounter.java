@@ -0,0 +1,167 @@
+package com.jwp.core.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.domain.UserStatusCount;
+import com.jwp.core.domain.UserStatusCountId;
+import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserStatusCountRepository;
+import com.jwp.core.repository.UserSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상태별 사용자 수 카운터
+ * 전체 사용자 수와 상태별 사용자 수를 카운터 테이블에 정확한 값으로 유지해, 목록 조회 시 사용자 테이블에 count 쿼리를 실행하지 않습니다.
+ * 카운터 값은 UserCommandService가 사용자를 생성/삭제하거나 상태를 일괄 변경할 때 같은 트랜잭션에서 증감하며,
+ * 주기적인 보정 작업으로 사용자 테이블의 count 결과와 다시 맞춥니다.
+ *
+ * <p>상태마다 카운터 행을 여러 샤드로 나누고 증감할 때마다 임의의 샤드를 고르므로,
+ * 동시에 들어온 가입 트랜잭션이 한 행의 잠금을 기다리며 줄을 서지 않습니다.</p>
+ */
+@Slf4j
+@Service
+public class UserStatusCounter {
+
+    private final UserStatusCountRepository countRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate newTransaction;
+
+    /**
+     * 생성자
+     * @param countRepository 상태별 사용자 수 카운터 레포지토리
+     * @param userRepository 사용자 레포지토리
+     * @param transactionManager 트랜잭션 매니저
+     */
+    public UserStatusCounter(UserStatusCountRepository countRepository,
+                             UserRepository userRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.countRepository = countRepository;
+        this.userRepository = userRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 사용자 생성 반영
+     * @param user 생성된 사용자
+     */
+    @Transactional
+    public void recordCreated(User user) {
+        add(user.getStatus(), 1);
+    }
+
+    /**
+     * 여러 사용자 생성 반영
+     * 같은 상태의 사용자는 합쳐서 한 번만 증가시킵니다.
+     * @param users 생성된 사용자 목록
+     */
+    @Transactional
+    public void recordCreated(List<User> users) {
+        Map<UserStatus, Long> created = new EnumMap<>(UserStatus.class);
+        for (User user : users) {
+            if (user.getStatus() != null) {
+                created.merge(user.getStatus(), 1L, Long::sum);
+            }
+        }
+
+        created.forEach(this::add);
+    }
+
+    /**
+     * 사용자 삭제 반영
+     * @param user 삭제된 사용자
+     */
+    @Transactional
+    public void recordDeleted(User user) {
+        add(user.getStatus(), -1);
+    }
+
+    /**
+     * 상태 일괄 변경 반영
+     * 변경 전 상태의 카운터에서 빼고 변경 후 상태의 카운터에 더합니다.
+     * 트랜잭션 사이의 교착 상태를 피하도록 상태 순서대로 증감합니다.
+     * @param users 상태가 변경된 사용자 (변경 전 상태)
+     * @param to 변경된 상태
+     */
+    @Transactional
+    public void recordTransition(List<UserSummary> users, UserStatus to) {
+        Map<UserStatus, Long> deltas = new EnumMap<>(UserStatus.class);
+        for (UserSummary user : users) {
+            if (user.status() != null && user.status() != to) {
+                deltas.merge(user.status(), -1L, Long::sum);
+                deltas.merge(to, 1L, Long::sum);
+            }
+        }
+
+        deltas.forEach(this::add);
+    }
+
+    /**
+     * 검색 조건에 맞는 사용자 수
+     * 조건이 없으면 전체 사용자 수를, 상태만 지정되어 있으면 해당 상태의 사용자 수를 카운터 합계로 계산합니다.
+     * @param condition 검색 조건 (null이면 조건 없음)
+     * @return 사용자 수 (카운터로 알 수 없는 조건이면 비어 있음)
+     */
+    @Transactional(readOnly = true)
+    public OptionalLong count(UserSearchCondition condition) {
+        if (condition == null || condition.isEmpty()) {
+            return OptionalLong.of(countRepository.sumByStatus().values().stream().mapToLong(Long::longValue).sum());
+        }
+        if (condition.isStatusOnly()) {
+            return OptionalLong.of(countRepository.sumByStatus().getOrDefault(condition.getStatus(), 0L));
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * 카운터 보정 (기본: 매일 새벽 4시 45분)
+     * 모든 카운터 행을 잠근 뒤 상태별 사용자 수를 세어 0번 샤드에 모으고 나머지 샤드는 0으로 바꿉니다.
+     * 보정 중에 들어온 증감은 잠금을 기다렸다가 보정 값 위에 더해지므로 유실되지 않습니다.
+     */
+    @Scheduled(cron = "${summy.user.status-count.reconcile-cron:0 45 4 * * *}")
+    public void reconcile() {
+        try {
+            Map<UserStatus, Long> counts = newTransaction.execute(status -> {
+                countRepository.findAllForUpdate();
+                Map<UserStatus, Long> counted = userRepository.countByStatus();
+                for (UserStatus userStatus : UserStatus.values()) {
+                    long userCount = counted.getOrDefault(userStatus, 0L);
+                    if (countRepository.reset(userStatus, userCount) == 0) {
+                        countRepository.insertAll(List.of(new UserStatusCount(new UserStatusCountId(userStatus, 0), userCount)));
+                    }
+                }
+                return counted;
+            });
+            log.info("상태별 사용자 수 카운터 보정 완료: {}", counts);
+        } catch (RuntimeException e) {
+            log.warn("상태별 사용자 수 카운터 보정 실패", e);
+        }
+    }
+
+    /**
+     * 임의의 샤드 카운터 값 증감 (호출한 트랜잭션에 참여)
+     * 카운터 행이 없으면 같은 문에서 만들므로 별도 트랜잭션(추가 커넥션)을 쓰지 않습니다.
+     */
+    private void add(UserStatus status, long delta) {
+        if (status == null || delta == 0) {
+            return;
+        }
+
+        countRepository.increment(status, ThreadLocalRandom.current().nextInt(UserStatusCount.SHARDS), delta);
+    }
+}
@@ -0,0 +1,162 @@
+package com.jwp.core.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
+import com.jwp.core.domain.event.UserChangedEvent;
+import com.jwp.core.repository.UserSummary;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자 ID별 요약 정보 로컬 캐시
+ * 영속성 컨텍스트에 묶인 엔티티 대신 불변 스냅샷(UserSummary)을 저장하므로 여러 요청이 공유해도 안전합니다.
+ * 크기 제한을 넘으면 Caffeine의 W-TinyLFU 정책으로 자주 쓰이지 않는 항목부터 제거하고, 저장 후 일정 시간이 지나면 만료됩니다.
+ *
+ * <p>사용자 변경이 커밋된 뒤 (UserChangedEvent, 상태 일괄 변경) 해당 항목을 제거합니다.
+ * 조회 중인 키를 제거하면 조회가 끝날 때까지 기다린 뒤 제거하므로, 커밋 전 값을 읽은 조회 결과가 남지 않습니다.
+ * 읽기 복제본 라우팅을 사용하면 항목을 제거한 뒤 read-your-writes 고정 시간 동안은 그 사용자를 읽어도 저장하지 않습니다
+ * (로컬, 공유 계층 모두). 그 사이의 조회는 아직 변경을 반영하지 않은 복제본을 읽었을 수 있기 때문입니다.
+ * 그 밖의 경우에도 오래된 값은 만료 시간 이상 남지 않습니다.</p>
+ *
+ * <p>공유 계층(UserSummaryRemoteTier, Redis)을 사용하면 로컬에 없는 항목은 공유 계층, 데이터베이스 순으로 읽고,
+ * 데이터베이스에서 읽은 값은 공유 계층에도 저장합니다. 항목을 제거할 때는 공유 계층에서도 제거하고
+ * 무효화 알림을 발행하여 다른 노드의 로컬 항목도 제거합니다.</p>
+ *
+ * <p>적중률 등 통계는 cache.gets, cache.evictions 등의 메트릭(cache=user-summary)으로 노출됩니다.</p>
+ */
+@Component
+public class UserSummaryCache implements MeterBinder {
+
+    /** 메트릭 캐시 이름 */
+    public static final String NAME = "user-summary";
+
+    private final Cache<Long, UserSummary> cache;
+    private final UserSummaryRemoteTier remoteTier;
+
+    /** 최근에 변경되어 복제본이 따라올 때까지 읽은 값을 저장하지 않을 사용자 ID (읽기 복제본 라우팅을 쓰지 않으면 null) */
+    private final Cache<Long, Boolean> recentlyChanged;
+
+    /**
+     * 생성자
+     * @param remoteTier 공유 캐시 계층 (사용하지 않으면 UserSummaryRemoteTier.none())
+     * @param maximumSize 최대 항목 수
+     * @param expireAfterWriteMillis 저장 후 만료 시간 (밀리초)
+     * @param routingEnabled 읽기 복제본 라우팅 사용 여부
+     * @param readYourWritesMillis 변경 후 읽은 값을 저장하지 않을 시간 (밀리초, 라우팅을 사용할 때만 적용)
+     */
+    public UserSummaryCache(UserSummaryRemoteTier remoteTier,
+                            @Value("${summy.user.summary-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${summy.user.summary-cache.expire-after-write-millis:60000}") long expireAfterWriteMillis,
+                            @Value("${summy.datasource.routing.enabled:false}") boolean routingEnabled,
+                            @Value("${summy.datasource.routing.read-your-writes-millis:3000}") long readYourWritesMillis) {
+        this.remoteTier = remoteTier;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMillis))
+                .recordStats()
+                .build();
+        this.recentlyChanged = routingEnabled && readYourWritesMillis > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(Duration.ofMillis(readYourWritesMillis))
+                        .build()
+                : null;
+        remoteTier.subscribe(ids -> {
+            markChanged(ids);
+            cache.invalidateAll(ids);
+        });
+    }
+
+    /**
+     * 캐시된 요약 정보를 반환하고, 없으면 공유 계층이나 loader로 읽어 저장합니다.
+     * loader가 null을 반환하면 (사용자 없음) 저장하지 않습니다.
+     * 최근에 변경된 사용자는 복제본이 따라올 때까지 캐시를 거치지 않고 loader로 읽기만 합니다.
+     * @param id 사용자 ID
+     * @param loader 요약 정보 로더
+     * @return 사용자 요약 정보 (없으면 null)
+     */
+    public UserSummary get(Long id, Function<Long, UserSummary> loader) {
+        if (recentlyChanged != null && recentlyChanged.getIfPresent(id) != null) {
+            return loader.apply(id);
+        }
+
+        return cache.get(id, key -> {
+            UserSummary shared = remoteTier.get(key);
+            if (shared != null) {
+                return shared;
+            }
+
+            UserSummary loaded = loader.apply(key);
+            if (loaded != null) {
+                remoteTier.put(loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 항목 제거 (공유 계층, 다른 노드 포함)
+     * @param id 사용자 ID
+     */
+    public void invalidate(Long id) {
+        invalidateAll(List.of(id));
+    }
+
+    /**
+     * 여러 항목 제거 (공유 계층, 다른 노드 포함)
+     * @param ids 사용자 ID 목록
+     */
+    public void invalidateAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        markChanged(ids);
+        remoteTier.evictAndBroadcast(ids);
+        cache.invalidateAll(ids);
+    }
+
+    private void markChanged(Collection<Long> ids) {
+        if (recentlyChanged != null) {
+            ids.forEach(id -> recentlyChanged.put(id, Boolean.TRUE));
+        }
+    }
+
+    /**
+     * 캐시 통계
+     * @return 적중, 실패, 제거 횟수 등
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 커밋된 사용자 변경 반영
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 반영합니다.
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.userId() != null) {
+            invalidate(event.userId());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, NAME);
+    }
+}
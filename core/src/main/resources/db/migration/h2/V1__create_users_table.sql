@@ -0,0 +1,13 @@
+-- 사용자 테이블 (H2: 로컬 개발, 테스트용)
+create table users (
+    id            bigint generated by default as identity,
+    email         varchar(100) not null,
+    name          varchar(50)  not null,
+    password      varchar(255) not null,
+    status        varchar(20)  not null,
+    last_login_at timestamp(6),
+    created_at    timestamp(6),
+    updated_at    timestamp(6),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
@@ -0,0 +1,3 @@
+-- 사용자 검색/정렬 경로별 인덱스 (mariadb/V2__add_user_search_indexes.sql 과 동일하게 유지)
+create index idx_users_created_at_id on users (created_at, id);
+create index idx_users_status_created_at on users (status, created_at);
@@ -0,0 +1,14 @@
+-- 가입 통계 시간별 집계 (mariadb/V3__create_user_signup_rollup.sql 과 동일하게 유지)
+create table user_signup_rollup (
+    bucket_start timestamp(6) not null,
+    status       varchar(20)  not null,
+    user_count   bigint       not null,
+    primary key (bucket_start, status)
+);
+
+-- 기존 사용자 집계
+insert into user_signup_rollup (bucket_start, status, user_count)
+select date_trunc('HOUR', created_at), status, count(*)
+from users
+where created_at is not null
+group by date_trunc('HOUR', created_at), status;
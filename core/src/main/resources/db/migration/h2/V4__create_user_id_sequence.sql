@@ -0,0 +1,6 @@
+-- 사용자 ID 시퀀스 (mariadb/V4__create_user_id_sequence.sql 과 동일하게 유지)
+create sequence user_id_seq start with (select coalesce(max(id), 0) + 50 from users) minvalue 1 increment by 50;
+
+-- 애플리케이션 밖에서 넣는 행도 시퀀스에서 ID를 받도록 identity 대신 시퀀스 기본값 사용
+alter table users alter column id drop identity;
+alter table users alter column id set default next value for user_id_seq;
@@ -0,0 +1,2 @@
+-- 사용자 버전 컬럼 (mariadb/V5__add_user_version.sql 과 동일하게 유지)
+alter table users add column version bigint default 0 not null;
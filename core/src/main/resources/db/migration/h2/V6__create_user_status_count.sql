@@ -0,0 +1,13 @@
+-- 상태별 사용자 수 카운터 (mariadb/V6__create_user_status_count.sql 과 동일하게 유지)
+create table user_status_count (
+    status     varchar(20) not null,
+    shard      int         not null,
+    user_count bigint      not null,
+    primary key (status, shard)
+);
+
+-- 기존 사용자 집계 (0번 샤드)
+insert into user_status_count (status, shard, user_count)
+select status, 0, count(*)
+from users
+group by status;
@@ -0,0 +1,10 @@
+-- 예약 작업 잠금 (mariadb/V7__create_scheduled_job_lock.sql 과 동일하게 유지)
+create table scheduled_job_lock (
+    name         varchar(64)  not null,
+    locked_until timestamp(6) not null,
+    locked_by    varchar(64)  not null,
+    primary key (name)
+);
+
+insert into scheduled_job_lock (name, locked_until, locked_by)
+values ('dormant-user-sweep', '1970-01-01 00:00:00', '');
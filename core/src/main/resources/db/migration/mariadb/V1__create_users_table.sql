@@ -0,0 +1,14 @@
+-- 사용자 테이블
+-- 기존 운영 DB는 이 스키마가 이미 있으므로 baseline(V1)으로 처리되고 V2부터 적용됩니다.
+create table users (
+    id            bigint       not null auto_increment,
+    email         varchar(100) not null,
+    name          varchar(50)  not null,
+    password      varchar(255) not null,
+    status        varchar(20)  not null,
+    last_login_at datetime(6),
+    created_at    datetime(6),
+    updated_at    datetime(6),
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine = InnoDB default charset = utf8mb4;
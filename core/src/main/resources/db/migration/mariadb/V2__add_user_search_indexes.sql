@@ -0,0 +1,7 @@
+-- 사용자 검색/정렬 경로별 인덱스
+-- email = ?                                   : uk_users_email (V1)
+-- created_at 범위 조건, (created_at, id) 키셋 정렬 : idx_users_created_at_id
+-- status = ? + created_at 범위/정렬             : idx_users_status_created_at
+-- name LIKE '%x%' 는 B-tree 인덱스를 사용할 수 없으므로 애플리케이션의 이름 n-gram 인덱스로 처리합니다.
+create index idx_users_created_at_id on users (created_at, id);
+create index idx_users_status_created_at on users (status, created_at);
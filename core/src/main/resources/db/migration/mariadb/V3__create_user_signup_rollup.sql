@@ -0,0 +1,15 @@
+-- 가입 통계 시간별 집계 (시작 시각, 상태별 사용자 수)
+-- 사용자 생성/삭제/상태 일괄 변경 시 같은 트랜잭션에서 증감되며, 주기적인 재계산 작업으로 보정됩니다.
+create table user_signup_rollup (
+    bucket_start datetime(6) not null,
+    status       varchar(20) not null,
+    user_count   bigint      not null,
+    primary key (bucket_start, status)
+) engine = InnoDB default charset = utf8mb4;
+
+-- 기존 사용자 집계
+insert into user_signup_rollup (bucket_start, status, user_count)
+select date_format(created_at, '%Y-%m-%d %H:00:00'), status, count(*)
+from users
+where created_at is not null
+group by date_format(created_at, '%Y-%m-%d %H:00:00'), status;
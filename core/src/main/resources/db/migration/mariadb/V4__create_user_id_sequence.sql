@@ -0,0 +1,14 @@
+-- 사용자 ID 시퀀스 (User.ID_ALLOCATION_SIZE 와 같은 증가값)
+-- Hibernate pooled 최적화기는 시퀀스 값을 할당 블록의 끝으로 사용하므로(값 - 49 ~ 값),
+-- 기존 ID와 겹치지 않도록 현재 최대 ID + 증가값에서 시작합니다.
+set @user_id_seq_start = (select coalesce(max(id), 0) + 50 from users);
+set @create_user_id_seq = concat('create sequence user_id_seq start with ', @user_id_seq_start,
+                                 ' minvalue 1 increment by 50 nocache nocycle');
+prepare create_user_id_seq from @create_user_id_seq;
+execute create_user_id_seq;
+deallocate prepare create_user_id_seq;
+
+-- 애플리케이션 밖에서 직접 넣는 행도 시퀀스에서 ID를 받도록 auto_increment 대신 시퀀스 기본값을 사용합니다.
+-- auto_increment(max(id) + 1)는 애플리케이션이 메모리에 받아 둔 블록 안의 ID를 차지해 이후 저장이 기본 키 충돌로 실패하지만,
+-- 시퀀스 값 하나를 쓰면 그 값으로 끝나는 블록 전체가 소비되므로 애플리케이션이 받는 블록과 겹치지 않습니다.
+alter table users modify id bigint not null default (next value for user_id_seq);
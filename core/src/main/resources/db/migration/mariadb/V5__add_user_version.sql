@@ -0,0 +1,4 @@
+-- 사용자 버전 컬럼 (User.version, JPA @Version)
+-- 변경될 때마다 1씩 증가하며, 사용자 조회 API의 ETag로 사용합니다.
+-- 상태 일괄 변경(UPDATE 문)도 같은 방식으로 증가시킵니다.
+alter table users add column version bigint not null default 0;
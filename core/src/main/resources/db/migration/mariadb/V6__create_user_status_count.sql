@@ -0,0 +1,15 @@
+-- 상태별 사용자 수 카운터 (상태, 샤드별 사용자 수)
+-- 상태별 사용자 수는 같은 상태의 모든 샤드 값의 합이며, 가입이 몰려도 한 행에 잠금이 집중되지 않도록 샤드마다 나누어 증감합니다.
+-- 사용자 생성/삭제/상태 일괄 변경 시 같은 트랜잭션에서 증감되며, 주기적인 보정 작업으로 0번 샤드에 다시 모읍니다.
+create table user_status_count (
+    status     varchar(20) not null,
+    shard      int         not null,
+    user_count bigint      not null,
+    primary key (status, shard)
+) engine = InnoDB default charset = utf8mb4;
+
+-- 기존 사용자 집계 (0번 샤드)
+insert into user_status_count (status, shard, user_count)
+select status, 0, count(*)
+from users
+group by status;
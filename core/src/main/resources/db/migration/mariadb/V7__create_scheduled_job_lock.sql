@@ -0,0 +1,12 @@
+-- 예약 작업 잠금 (작업 이름, 잠금 만료 일시, 잠금을 가진 노드)
+-- 여러 API 노드가 같은 예약 작업을 동시에 실행하지 않도록, 만료된 행만 UPDATE로 가져가는 방식으로 잠급니다.
+-- 잠금을 가진 노드가 중간에 종료되어도 만료 일시가 지나면 다른 노드가 다시 가져갈 수 있습니다.
+create table scheduled_job_lock (
+    name         varchar(64) not null,
+    locked_until datetime(6) not null,
+    locked_by    varchar(64) not null,
+    primary key (name)
+) engine = InnoDB default charset = utf8mb4;
+
+insert into scheduled_job_lock (name, locked_until, locked_by)
+values ('dormant-user-sweep', '1970-01-01 00:00:00', '');
@@ -0,0 +1,69 @@
+package com.jwp.core.config.cache;
+
+import com.jwp.core.repository.UserSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 공유 캐시 계층 (Redis 대체)
+ * connect()로 만든 계층은 같은 저장소와 무효화 채널을 공유하므로, 여러 노드의 로컬 캐시를 한 프로세스에서 재현할 수 있습니다.
+ * 무효화 알림은 발행한 스레드에서 바로 전달합니다.
+ */
+public class InMemoryUserSummaryTier implements UserSummaryRemoteTier {
+
+    private final Map<Long, UserSummary> store;
+    private final List<InMemoryUserSummaryTier> nodes;
+    private final List<Consumer<Collection<Long>>> listeners = new CopyOnWriteArrayList<>();
+
+    public InMemoryUserSummaryTier() {
+        this(new ConcurrentHashMap<>(), new CopyOnWriteArrayList<>());
+    }
+
+    private InMemoryUserSummaryTier(Map<Long, UserSummary> store, List<InMemoryUserSummaryTier> nodes) {
+        this.store = store;
+        this.nodes = nodes;
+        nodes.add(this);
+    }
+
+    /**
+     * 같은 저장소에 연결된 다른 노드의 계층
+     */
+    public InMemoryUserSummaryTier connect() {
+        return new InMemoryUserSummaryTier(store, nodes);
+    }
+
+    /**
+     * 공유 저장소에 있는지 확인
+     */
+    public boolean contains(Long id) {
+        return store.containsKey(id);
+    }
+
+    @Override
+    public UserSummary get(Long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public void put(UserSummary summary) {
+        store.put(summary.id(), summary);
+    }
+
+    @Override
+    public void evictAndBroadcast(Collection<Long> ids) {
+        ids.forEach(store::remove);
+        nodes.stream()
+                .filter(node -> node != this)
+                .forEach(node -> node.listeners.forEach(listener -> listener.accept(ids)));
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<Long>> listener) {
+        listeners.add(listener);
+    }
+}
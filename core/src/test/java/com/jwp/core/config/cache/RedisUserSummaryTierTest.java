@@ -0,0 +1,67 @@
+package com.jwp.core.config.cache;
+
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.UserSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisUserSummaryTierTest {
+
+    @Test
+    @DisplayName("요약 정보를 해시로 저장했다가 그대로 복원 (null 필드 제외)")
+    void hash_RoundTrip() {
+        // given
+        UserSummary summary = new UserSummary(7L, "user@example.com", "사용자", UserStatus.SUSPENDED,
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5, 600_000), null, 3L);
+
+        // when
+        Map<String, String> hash = RedisUserSummaryTier.toHash(summary);
+        UserSummary restored = RedisUserSummaryTier.fromHash(7L, hash);
+
+        // then
+        assertThat(hash).doesNotContainKey("updatedAt");
+        assertThat(restored).isEqualTo(summary);
+    }
+
+    @Test
+    @DisplayName("무효화 알림은 발행 노드 ID와 사용자 ID 목록으로 구성")
+    void message_Encoding() {
+        assertThat(RedisUserSummaryTier.encode("node-1", List.of(1L, 2L, 3L))).isEqualTo("node-1:1,2,3");
+        assertThat(RedisUserSummaryTier.decode("1,2,3")).containsExactly(1L, 2L, 3L);
+        assertThat(RedisUserSummaryTier.decode("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 스크립트 인자는 만료 시간, 버전, 필드와 값 순서")
+    void putArguments_ShouldStartWithTimeToLiveAndVersion() {
+        // given
+        UserSummary summary = new UserSummary(7L, "user@example.com", null, UserStatus.ACTIVE, null, null, 4L);
+
+        // when
+        Object[] arguments = RedisUserSummaryTier.putArguments(summary, Duration.ofMinutes(10));
+
+        // then
+        assertThat(arguments).hasSize(2 + 3 * 2);
+        assertThat(arguments[0]).isEqualTo("600000");
+        assertThat(arguments[1]).isEqualTo("4");
+        assertThat(List.of(arguments).subList(2, arguments.length))
+                .containsSubsequence("email", "user@example.com")
+                .containsSubsequence("status", "ACTIVE")
+                .containsSubsequence("version", "4");
+    }
+
+    @Test
+    @DisplayName("무효화 스크립트 키는 사용자마다 요약 정보 키와 무효화 표식 키를 번갈아 전달")
+    void evictKeys_ShouldPairSummaryAndMarker() {
+        assertThat(RedisUserSummaryTier.evictKeys(List.of(1L, 2L))).containsExactly(
+                "summy:user:summary:1", "summy:user:evicted:1",
+                "summy:user:summary:2", "summy:user:evicted:2");
+    }
+}
@@ -0,0 +1,66 @@
+package com.jwp.core.config.cache;
+
+import com.jwp.core.domain.User;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserEntityCacheEvictorTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private org.hibernate.Cache hibernateCache;
+
+    @Test
+    @DisplayName("다른 노드의 무효화 알림을 받으면 사용자 엔티티 캐시와 자연 키 캐시를 제거")
+    void remoteInvalidation_EvictsEntityAndNaturalIdCache() {
+        // given
+        InMemoryUserSummaryTier tierA = new InMemoryUserSummaryTier();
+        new UserEntityCacheEvictor(tierA.connect(), entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(hibernateCache);
+
+        // when
+        tierA.evictAndBroadcast(List.of(1L, 2L));
+
+        // then
+        verify(cache).evict(User.class, 1L);
+        verify(cache).evict(User.class, 2L);
+        verify(hibernateCache).evictNaturalIdData(User.class);
+    }
+
+    @Test
+    @DisplayName("이 노드가 발행한 무효화는 다시 제거하지 않음 (2차 캐시는 Hibernate가 직접 갱신)")
+    void ownInvalidation_IsIgnored() {
+        // given
+        InMemoryUserSummaryTier tier = new InMemoryUserSummaryTier();
+        new UserEntityCacheEvictor(tier, entityManagerFactory);
+
+        // when
+        tier.evictAndBroadcast(List.of(1L));
+
+        // then
+        verifyNoInteractions(entityManagerFactory);
+    }
+}
@@ -0,0 +1,127 @@
+package com.jwp.core.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 테스트
+ * H2 인메모리 DB 두 개를 주 데이터베이스와 복제본으로 사용하며,
+ * 각 DB의 node 테이블에 저장된 이름으로 어느 쪽에서 조회했는지 확인합니다.
+ */
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select lag_seconds from replica_lag";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("routing_primary", "primary");
+        replica = database("routing_replica", "replica");
+        new JdbcTemplate(replica).execute("create table replica_lag (lag_seconds bigint)");
+        new JdbcTemplate(replica).update("insert into replica_lag values (0)");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), LAG_QUERY, "lag_seconds", 5);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 읽기-쓰기 트랜잭션은 주 데이터베이스에서 조회")
+    void routesByTransactionReadOnlyFlag() {
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWriteTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 주 데이터베이스로 대체")
+    void fallsBackToPrimary_WhenReplicaLags() {
+        // given
+        new JdbcTemplate(replica).update("update replica_lag set lag_seconds = 30");
+
+        // when
+        routingDataSource.checkReplicas();
+
+        // then
+        assertThat(routingDataSource.availableReplicas()).isEmpty();
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+
+        // 복제가 따라잡으면 다시 복제본 사용
+        new JdbcTemplate(replica).update("update replica_lag set lag_seconds = 1");
+        routingDataSource.checkReplicas();
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 주 데이터베이스로 대체")
+    void fallsBackToPrimary_WhenReplicaIsDown() {
+        // given
+        replica.shutdown();
+
+        // when
+        routingDataSource.checkReplicas();
+
+        // then
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후에는 고정 시간 동안 읽기 전용 트랜잭션도 주 데이터베이스에서 조회")
+    void pinsToPrimary_AfterWrite() throws InterruptedException {
+        // given
+        ReplicaRoutingContext.pinPrimary(Duration.ofMillis(200));
+
+        // when & then
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+
+        Thread.sleep(250);
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static EmbeddedDatabase database(String databaseName, String nodeName) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(databaseName)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", nodeName);
+        return database;
+    }
+}
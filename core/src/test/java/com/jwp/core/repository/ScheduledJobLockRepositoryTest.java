@@ -0,0 +1,59 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.TestApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@DisplayName("ScheduledJobLockRepository 테스트")
+class ScheduledJobLockRepositoryTest {
+
+    private static final String LOCK_NAME = "dormant-user-sweep";
+
+    @Autowired
+    private ScheduledJobLockRepository lockRepository;
+
+    @Test
+    @DisplayName("잠금 획득 - 만료 전에는 다른 노드가 가져가지 못하고, 해제하면 바로 가져감")
+    void tryAcquire_ShouldBeExclusiveUntilReleased() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        // when & then
+        assertThat(lockRepository.tryAcquire(LOCK_NAME, "node-1", now, now.plusMinutes(10))).isTrue();
+        assertThat(lockRepository.tryAcquire(LOCK_NAME, "node-2", now.plusSeconds(1), now.plusMinutes(10))).isFalse();
+
+        lockRepository.release(LOCK_NAME, "node-2", now.plusSeconds(2));
+        assertThat(lockRepository.tryAcquire(LOCK_NAME, "node-2", now.plusSeconds(3), now.plusMinutes(10))).isFalse();
+
+        lockRepository.release(LOCK_NAME, "node-1", now.plusSeconds(4));
+        assertThat(lockRepository.tryAcquire(LOCK_NAME, "node-2", now.plusSeconds(5), now.plusMinutes(10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("잠금 획득 - 가진 노드가 해제하지 못해도 만료 일시가 지나면 다른 노드가 가져감")
+    void tryAcquire_ShouldTakeOverExpiredLock() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        lockRepository.tryAcquire(LOCK_NAME, "node-1", now, now.plusMinutes(10));
+
+        // when & then
+        assertThat(lockRepository.tryAcquire(LOCK_NAME, "node-2", now.plusMinutes(11), now.plusMinutes(20))).isTrue();
+    }
+
+    @Test
+    @DisplayName("잠금 획득 - 잠금 행이 없는 작업은 획득하지 못함")
+    void tryAcquire_UnknownJob_ReturnsFalse() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(lockRepository.tryAcquire("unknown-job", "node-1", now, now.plusMinutes(10))).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+package com.jwp.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.jwp.core.exception.common.InvalidValueException;
+
+@DisplayName("UserCursor 테스트")
+class UserCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 토큰을 디코딩하면 같은 위치를 가리킨다")
+    void encode_ShouldRoundTrip_WhenDecoded() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+        UserCursor cursor = UserCursor.of(createdAt, 42L);
+
+        // when
+        UserCursor decoded = UserCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 첫 페이지(null)로 해석된다")
+    void decode_ShouldReturnNull_WhenTokenIsBlank() {
+        assertThat(UserCursor.decode(null)).isNull();
+        assertThat(UserCursor.decode("")).isNull();
+        assertThat(UserCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 예외 발생")
+    void decode_ShouldThrowException_WhenTokenIsMalformed() {
+        assertThatThrownBy(() -> UserCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidValueException.class);
+        assertThatThrownBy(() -> UserCursor.decode("%%%"))
+                .isInstanceOf(InvalidValueException.class);
+    }
+
+    @Test
+    @DisplayName("생성일시나 ID가 없으면 예외 발생")
+    void of_ShouldThrowException_WhenValueIsMissing() {
+        assertThatThrownBy(() -> UserCursor.of(null, 1L))
+                .isInstanceOf(InvalidValueException.class);
+        assertThatThrownBy(() -> UserCursor.of(LocalDateTime.now(), null))
+                .isInstanceOf(InvalidValueException.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.TestApplication;
+import com.jwp.core.domain.User;
+import com.jwp.core.support.Benchmark;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 대량 삽입 벤치마크 (IDENTITY 방식 vs 시퀀스 블록 할당 + JDBC 배치)
+ * 변경 전: IDENTITY 전략에서 Hibernate가 하던 것처럼 한 건씩 INSERT 후 생성된 키를 읽습니다.
+ * 변경 후: User 엔티티를 그대로 persist 하며, 시퀀스 블록 할당과 hibernate.jdbc.batch_size 설정으로 배치 전송됩니다.
+ * 결과는 테스트 로그의 "[benchmark]" 줄에 남습니다.
+ * 실행: ./gradlew :core:test --tests '*UserInsertBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=info"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("사용자 대량 삽입 벤치마크")
+class UserInsertBenchmarkTest {
+
+    private static final int USER_COUNT = 100_000;
+    private static final int FLUSH_SIZE = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("10만 건 삽입 시간 비교")
+    void compareIdentityAndBatchedSequenceInserts() {
+        createIdentityTable();
+        int identityInserted = Benchmark.once("identity(row-by-row) " + USER_COUNT + " users",
+                () -> insertRowByRowWithGeneratedKeys("identity")).value();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Benchmark.once("sequence+batch " + USER_COUNT + " users", () -> persistWithSequenceBatching("batched"));
+
+        log.info("[benchmark] sequence+batch statements={}", statistics.getPrepareStatementCount());
+        assertThat(identityInserted).isEqualTo(USER_COUNT);
+        assertThat(count()).isEqualTo(USER_COUNT);
+    }
+
+    /**
+     * users.id 는 이제 시퀀스로 채우므로, 변경 전 방식은 같은 구조에 IDENTITY 키를 가진 임시 테이블에 넣습니다.
+     */
+    private void createIdentityTable() {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("""
+                        create local temporary table users_identity (
+                            id bigint generated by default as identity primary key,
+                            email varchar(100) not null unique,
+                            name varchar(50) not null,
+                            password varchar(255) not null,
+                            status varchar(20) not null,
+                            created_at timestamp(6)
+                        ) transactional""");
+            }
+        });
+    }
+
+    /**
+     * 변경 전 방식: IDENTITY 컬럼에 건마다 INSERT 를 실행하고 생성된 키를 읽음
+     * @return 삽입한 행 수
+     */
+    private int insertRowByRowWithGeneratedKeys(String prefix) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            int inserted = 0;
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into users_identity (email, name, password, status, created_at) values (?, ?, ?, 'ACTIVE', ?)",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                for (int i = 0; i < USER_COUNT; i++) {
+                    insert.setString(1, prefix + i + "@example.com");
+                    insert.setString(2, prefix + i);
+                    insert.setString(3, "password");
+                    insert.setTimestamp(4, now);
+                    inserted += insert.executeUpdate();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+            return inserted;
+        });
+    }
+
+    /**
+     * 변경 후 방식: 엔티티를 persist 하고 FLUSH_SIZE 건마다 flush
+     * @return 저장한 사용자 수
+     */
+    private int persistWithSequenceBatching(String prefix) {
+        for (int i = 0; i < USER_COUNT; i++) {
+            entityManager.persist(User.builder()
+                    .email(prefix + i + "@example.com")
+                    .name(prefix + i)
+                    .password("password")
+                    .build());
+            if ((i + 1) % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return USER_COUNT;
+    }
+
+    private long count() {
+        return entityManager.createQuery("select count(u) from User u", Long.class).getSingleResult();
+    }
+}
@@ -6,6 +6,7 @@ import com.jwp.core.domain.UserStatus;
 import com.jwp.core.exception.common.InvalidValueException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,10 +15,16 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -67,6 +74,12 @@ class UserRepositoryImplTest {
                 .status(UserStatus.ACTIVE)
                 .build();
 
+        // 테스트에서는 Auditing이 적용되지 않으므로 생성일시를 직접 지정
+        LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ReflectionTestUtils.setField(user1, "createdAt", baseTime);
+        ReflectionTestUtils.setField(user2, "createdAt", baseTime.plusHours(1));
+        ReflectionTestUtils.setField(user3, "createdAt", baseTime.plusHours(2));
+
         // 테스트용 사용자 저장
         userRepository.saveAll(List.of(user1, user2, user3));
     }
@@ -201,4 +214,386 @@ class UserRepositoryImplTest {
         assertThatThrownBy(() -> repository.searchByCondition(condition, pageable))
                 .isInstanceOf(InvalidValueException.class);
     }
+
+    @Test
+    @DisplayName("커서 기반 검색 - 커서를 따라가면 생성일시 순으로 모든 사용자를 한 번씩 조회")
+    void searchByCondition_ShouldWalkAllUsers_WhenFollowingCursor() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+
+        // when
+        CursorSlice<User> firstPage = repository.searchByCondition(condition, null, 2);
+        CursorSlice<User> secondPage = repository.searchByCondition(condition, firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting("email")
+                .containsExactly("user1@example.com", "user2@example.com");
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).extracting("email")
+                .containsExactly("admin@example.com");
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 기반 검색 - 생성일시가 같으면 ID 순으로 이어서 조회")
+    void searchByCondition_ShouldBreakTiesById_WhenCreatedAtIsEqual() {
+        // given
+        entityManager.flush();
+        entityManager.createNativeQuery("update users set created_at = ?1 where id = ?2")
+                .setParameter(1, user1.getCreatedAt())
+                .setParameter(2, user2.getId())
+                .executeUpdate();
+        entityManager.clear();
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+
+        // when
+        CursorSlice<User> firstPage = repository.searchByCondition(condition, null, 1);
+        CursorSlice<User> secondPage = repository.searchByCondition(condition, firstPage.getNextCursor(), 1);
+
+        // then
+        assertThat(firstPage.getContent()).extracting("email").containsExactly("user1@example.com");
+        assertThat(secondPage.getContent()).extracting("email").containsExactly("user2@example.com");
+        assertThat(secondPage.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 기반 이름 검색 - 조건에 맞는 사용자만 커서 이후부터 조회")
+    void findByNameContaining_ShouldReturnUsersAfterCursor_WhenCursorGiven() {
+        // given
+        UserCursor cursor = UserCursor.from(user1);
+
+        // when
+        CursorSlice<User> page = repository.findByNameContaining("사용자", cursor, 10);
+
+        // then
+        assertThat(page.getContent()).extracting("name").containsExactly("사용자2");
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 기반 검색 시 조회 개수가 0 이하이면 예외 발생")
+    void searchByCondition_ShouldThrowException_WhenSizeIsNotPositive() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+
+        // when & then
+        assertThatThrownBy(() -> repository.searchByCondition(condition, null, 0))
+                .isInstanceOf(InvalidValueException.class);
+    }
+
+    @Test
+    @DisplayName("슬라이스 검색 - 전체 개수 없이 다음 페이지 존재 여부만 반환")
+    void searchSliceByCondition_ShouldReportHasNext_WithoutTotalCount() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+
+        // when
+        Slice<User> firstSlice = repository.searchSliceByCondition(condition, PageRequest.of(0, 2));
+        Slice<User> lastSlice = repository.searchSliceByCondition(condition, PageRequest.of(1, 2));
+
+        // then
+        assertThat(firstSlice.getContent()).hasSize(2);
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(lastSlice.getContent()).hasSize(1);
+        assertThat(lastSlice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지 검색 - 마지막 페이지에서도 전체 개수가 정확하게 계산")
+    void searchByCondition_ShouldKeepExactTotal_OnLastPage() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().name("사용자").build();
+
+        // when
+        Page<User> lastPage = repository.searchByCondition(condition, PageRequest.of(1, 1));
+
+        // then
+        assertThat(lastPage.getContent()).extracting("name").hasSize(1);
+        assertThat(lastPage.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 사용자 수 조회")
+    void countByCondition_ShouldCountMatchingUsers() {
+        assertThat(repository.countByCondition(UserSearchCondition.builder().name("사용자").build())).isEqualTo(2);
+        assertThat(repository.countByCondition(UserSearchCondition.builder().build())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("요약 정보 검색 - 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회")
+    void searchSummariesByCondition_ShouldReturnSummaries_WithoutManagingEntities() {
+        // given
+        entityManager.flush();
+        entityManager.clear();
+        UserSearchCondition condition = UserSearchCondition.builder().name("사용자").build();
+
+        // when
+        Page<UserSummary> page = repository.searchSummariesByCondition(condition, PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(UserSummary::email)
+                .containsExactlyInAnyOrder("user1@example.com", "user2@example.com");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("요약 정보 커서 검색 - 엔티티 커서 검색과 같은 순서로 조회")
+    void searchSummariesByCondition_ShouldFollowCursorOrder() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+
+        // when
+        CursorSlice<UserSummary> firstPage = repository.searchSummariesByCondition(condition, null, 2);
+        CursorSlice<UserSummary> secondPage = repository.searchSummariesByCondition(condition, firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(UserSummary::email)
+                .containsExactly("user1@example.com", "user2@example.com");
+        assertThat(secondPage.getContent()).extracting(UserSummary::email)
+                .containsExactly("admin@example.com");
+    }
+
+    @Test
+    @DisplayName("후보 ID 목록 페이징 - count 쿼리 없이 후보 수를 전체 개수로 사용")
+    void findPageByIds_ShouldPageOverCandidateIds() {
+        // given
+        List<Long> ids = List.of(user1.getId(), user2.getId(), user3.getId());
+
+        // when
+        Page<User> firstPage = repository.findPageByIds(ids, PageRequest.of(0, 2));
+        Page<UserSummary> secondPage = repository.findSummaryPageByIds(ids, PageRequest.of(1, 2));
+
+        // then
+        assertThat(firstPage.getContent()).extracting("email")
+                .containsExactly("user1@example.com", "user2@example.com");
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(secondPage.getContent()).extracting(UserSummary::email)
+                .containsExactly("admin@example.com");
+        assertThat(repository.findPageByIds(ids, PageRequest.of(5, 2)).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ID 이후 사용자 요약 정보 조회 - ID 순으로 나누어 읽기")
+    void findSummariesAfterId_ShouldReadInIdOrder() {
+        // when
+        List<UserSummary> first = repository.findSummariesAfterId(0L, 2);
+        List<UserSummary> rest = repository.findSummariesAfterId(first.get(1).id(), 2);
+
+        // then
+        assertThat(first).extracting(UserSummary::id).containsExactly(user1.getId(), user2.getId());
+        assertThat(rest).extracting(UserSummary::id).containsExactly(user3.getId());
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회 - ID 순으로 조회하고 엔티티를 영속성 컨텍스트에 남기지 않음")
+    void streamByCondition_ShouldStreamInIdOrder_WithoutManagingEntities() {
+        // given
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<User> users;
+        try (Stream<User> stream = repository.streamByCondition(null, 2)) {
+            users = stream.toList();
+        }
+
+        // then
+        assertThat(users).extracting(User::getId).containsExactly(user1.getId(), user2.getId(), user3.getId());
+        assertThat(users).noneMatch(entityManager::contains);
+    }
+
+    @Test
+    @DisplayName("콜백 순회 - 배치마다 변경 내용을 반영하고 영속성 컨텍스트를 비움")
+    void scanByCondition_ShouldFlushChanges_AndClearPeriodically() {
+        // given
+        entityManager.flush();
+        entityManager.clear();
+        UserSearchCondition condition = UserSearchCondition.builder().name("사용자").build();
+        List<Integer> managedCounts = new ArrayList<>();
+
+        // when
+        long processed = repository.scanByCondition(condition, 1, user -> {
+            managedCounts.add(entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+            user.update(user.getName() + "-migrated");
+        });
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        assertThat(managedCounts).containsOnly(1);
+        assertThat(userRepository.findById(user1.getId())).get().extracting(User::getName).isEqualTo("사용자1-migrated");
+        assertThat(userRepository.findById(user3.getId())).get().extracting(User::getName).isEqualTo("관리자");
+    }
+
+    @Test
+    @DisplayName("콜백 순회 - 잘못된 배치 크기")
+    void scanByCondition_ShouldThrowException_WhenBatchSizeIsNotPositive() {
+        assertThatThrownBy(() -> repository.scanByCondition(null, 0, user -> { }))
+                .isInstanceOf(InvalidValueException.class);
+    }
+
+    @Test
+    @DisplayName("이름 검색 - LIKE 특수문자는 문자 그대로 비교")
+    void searchByCondition_ShouldEscapeLikeWildcards_InName() {
+        // given
+        userRepository.save(User.builder()
+                .email("percent@example.com")
+                .name("100%_할인")
+                .password("password")
+                .build());
+
+        // when
+        Page<User> percent = repository.searchByCondition(UserSearchCondition.builder().name("%").build(), PageRequest.of(0, 10));
+        Page<User> underscore = repository.searchByCondition(UserSearchCondition.builder().name("%_").build(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(percent.getContent()).extracting("email").containsExactly("percent@example.com");
+        assertThat(underscore.getContent()).extracting("email").containsExactly("percent@example.com");
+    }
+
+    @Test
+    @DisplayName("ID 목록 일괄 조회 - 요청 순서 유지, 없는 ID와 중복 ID 처리")
+    void findAllByIdsOrdered_ShouldPreserveRequestOrder() {
+        // given
+        List<Long> ids = List.of(user3.getId(), -1L, user1.getId(), user3.getId());
+
+        // when
+        List<UserSummary> users = repository.findAllByIdsOrdered(ids);
+
+        // then
+        assertThat(users).extracting(UserSummary::id).containsExactly(user3.getId(), user1.getId());
+        assertThat(repository.findAllByIdsOrdered(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이메일로 ID 조회 - 없으면 빈 값")
+    void findIdByEmail_ShouldReturnIdOnly() {
+        // when & then
+        assertThat(repository.findIdByEmail("user1@example.com")).contains(user1.getId());
+        assertThat(repository.findIdByEmail("none@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이메일 목록 중 가입된 이메일 조회 - 중복 입력은 한 번만 반환")
+    void findExistingEmails_ShouldReturnRegisteredEmailsOnly() {
+        // when
+        List<String> emails = repository.findExistingEmails(
+                List.of("user1@example.com", "new@example.com", "admin@example.com", "user1@example.com"));
+
+        // then
+        assertThat(emails).containsExactlyInAnyOrder("user1@example.com", "admin@example.com");
+    }
+
+    @Test
+    @DisplayName("ID 범위 조회 - 최소, 최대 ID 반환")
+    void findIdRange_ShouldReturnMinAndMaxId() {
+        // when
+        UserIdRange range = repository.findIdRange().orElseThrow();
+
+        // then
+        assertThat(range.minId()).isEqualTo(user1.getId());
+        assertThat(range.maxId()).isEqualTo(user3.getId());
+    }
+
+    @Test
+    @DisplayName("상태 변경 대상 ID 범위 조회 - 대상 사용자의 최소, 최대 ID 반환")
+    void findTransitionIdRange_ShouldReturnTargetsOnly() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+        ReflectionTestUtils.setField(user1, "lastLoginAt", cutoff.plusDays(1));
+        entityManager.flush();
+
+        // when
+        UserIdRange range = repository.findTransitionIdRange(UserStatusTransition.dormant(cutoff)).orElseThrow();
+
+        // then
+        assertThat(range.minId()).isEqualTo(user2.getId());
+        assertThat(range.maxId()).isEqualTo(user3.getId());
+    }
+
+    @Test
+    @DisplayName("ID 구간 상태 일괄 변경 - 마지막 로그인(없으면 가입 일시)이 기준 이전인 사용자만 변경")
+    void updateStatusInIdRange_ShouldTransitionDormantUsersOnly() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+        ReflectionTestUtils.setField(user1, "lastLoginAt", cutoff.minusDays(1));
+        ReflectionTestUtils.setField(user2, "lastLoginAt", cutoff.plusDays(1));
+        entityManager.flush();
+
+        // when
+        long updated = repository.updateStatusInIdRange(0, user3.getId(), UserStatusTransition.dormant(cutoff));
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(userRepository.findById(user1.getId())).get().extracting(User::getStatus).isEqualTo(UserStatus.INACTIVE);
+        assertThat(userRepository.findById(user2.getId())).get().extracting(User::getStatus).isEqualTo(UserStatus.ACTIVE);
+        assertThat(userRepository.findById(user3.getId())).get().extracting(User::getStatus).isEqualTo(UserStatus.INACTIVE);
+    }
+
+    @Test
+    @DisplayName("ID 구간 상태 일괄 변경 - 구간 밖의 사용자는 변경하지 않음")
+    void updateStatusInIdRange_ShouldOnlyTouchGivenIdRange() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+        entityManager.flush();
+
+        // when
+        long updated = repository.updateStatusInIdRange(user1.getId(), user2.getId(), UserStatusTransition.dormant(cutoff));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(userRepository.findById(user1.getId())).get().extracting(User::getStatus).isEqualTo(UserStatus.ACTIVE);
+        assertThat(userRepository.findById(user2.getId())).get().extracting(User::getStatus).isEqualTo(UserStatus.INACTIVE);
+    }
+
+    @Test
+    @DisplayName("ID 구간 상태 일괄 변경 - 변경된 사용자의 버전을 1 증가")
+    void updateStatusInIdRange_ShouldIncrementVersion() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+        entityManager.flush();
+        Long before = repository.findAllByIdsOrdered(List.of(user2.getId())).get(0).version();
+
+        // when
+        repository.updateStatusInIdRange(user1.getId(), user2.getId(), UserStatusTransition.dormant(cutoff));
+
+        // then
+        assertThat(repository.findAllByIdsOrdered(List.of(user2.getId())).get(0).version()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("마지막 로그인 일시 일괄 갱신 - 저장된 값보다 이후 일시만 반영")
+    void updateLastLoginAt_ShouldOnlyMoveForward() {
+        // given
+        LocalDateTime loginAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        ReflectionTestUtils.setField(user1, "lastLoginAt", loginAt);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        long updated = repository.updateLastLoginAt(Map.of(
+                user1.getId(), loginAt.minusHours(1),
+                user2.getId(), loginAt.plusHours(1)));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(userRepository.findById(user1.getId())).get().extracting(User::getLastLoginAt).isEqualTo(loginAt);
+        assertThat(userRepository.findById(user2.getId())).get().extracting(User::getLastLoginAt).isEqualTo(loginAt.plusHours(1));
+        assertThat(userRepository.findById(user3.getId())).get().extracting(User::getLastLoginAt).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 로그인 일시 일괄 갱신 - 버전은 바꾸지 않음")
+    void updateLastLoginAt_ShouldNotIncrementVersion() {
+        // given
+        entityManager.flush();
+        Long before = repository.findAllByIdsOrdered(List.of(user1.getId())).get(0).version();
+
+        // when
+        repository.updateLastLoginAt(Map.of(user1.getId(), LocalDateTime.of(2025, 1, 1, 9, 0)));
+
+        // then
+        assertThat(repository.findAllByIdsOrdered(List.of(user1.getId())).get(0).version()).isEqualTo(before);
+    }
 }
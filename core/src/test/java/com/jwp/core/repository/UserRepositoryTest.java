@@ -3,6 +3,8 @@ package com.jwp.core.repository;
 import com.jwp.core.TestApplication;
 import com.jwp.core.domain.User;
 import com.jwp.core.domain.UserStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,9 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private User user1;
     private User user2;
     private User user3;
@@ -208,4 +213,26 @@ class UserRepositoryTest {
         assertThat(userPage).isNotNull();
         assertThat(userPage.getContent()).hasSize(3);
     }
+
+    @Test
+    @DisplayName("애플리케이션 밖에서 ID 없이 넣은 행은 시퀀스 블록을 소비해 이후 저장과 ID가 겹치지 않음")
+    void externalInsert_ShouldNotCollideWithAllocatedIdBlock() {
+        // given
+        entityManager.createNativeQuery("""
+                insert into users (email, name, password, status, created_at, updated_at)
+                values ('external@example.com', '외부', 'password', 'ACTIVE', current_timestamp, current_timestamp)
+                """).executeUpdate();
+        Long externalId = ((Number) entityManager.createNativeQuery(
+                "select id from users where email = 'external@example.com'").getSingleResult()).longValue();
+
+        // when
+        List<User> saved = userRepository.saveAll(List.of(
+                User.builder().email("after1@example.com").name("이후1").password("password").build(),
+                User.builder().email("after2@example.com").name("이후2").password("password").build()));
+        userRepository.flush();
+
+        // then
+        assertThat(saved).extracting(User::getId).doesNotContain(externalId);
+        assertThat(externalId).isNotIn(user1.getId(), user2.getId(), user3.getId());
+    }
 }
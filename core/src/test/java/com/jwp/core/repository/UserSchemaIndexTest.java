@@ -0,0 +1,132 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.TestApplication;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.support.SqlStatementRecorder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 테이블 인덱스 테스트
+ * Flyway 마이그레이션으로 만든 스키마에서 UserRepositoryImpl이 검색 조건 형태(UserSearchQueries.Shape)별로
+ * 실제로 생성한 SQL을 StatementInspector로 기록하고, 그 SQL의 H2 실행 계획(EXPLAIN)이 의도한 인덱스를 사용하는지 확인합니다.
+ * 바인딩 값은 실행 계획에 영향을 주지 않으므로 파라미터(?)가 남은 SQL을 그대로 EXPLAIN 합니다.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.jwp.core.support.SqlStatementRecorder")
+@ContextConfiguration(classes = TestApplication.class)
+@DisplayName("사용자 테이블 인덱스 테스트")
+class UserSchemaIndexTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 1, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 1, 1, 2, 0);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.createNativeQuery("""
+                insert into users (email, name, password, status, created_at, updated_at)
+                select concat('user', x, '@example.com'), concat('사용자', x), 'password',
+                       case when mod(x, 2) = 0 then 'ACTIVE' else 'INACTIVE' end,
+                       dateadd('MINUTE', x, timestamp '2024-01-01 00:00:00'), null
+                from system_range(1, 200)
+                """).executeUpdate();
+        SqlStatementRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("이메일 조건 - 이메일 유니크 인덱스 사용")
+    void emailShape_ShouldUseEmailUniqueIndex() {
+        assertThat(explainSearch(UserSearchCondition.builder().email("user1@example.com").build()))
+                .containsIgnoringCase("uk_users_email");
+    }
+
+    @Test
+    @DisplayName("날짜 범위 조건 - (created_at, id) 인덱스 사용")
+    void dateRangeShapes_ShouldUseCreatedAtIndex() {
+        assertThat(explainSearch(UserSearchCondition.dateRange(FROM, TO).build()))
+                .containsIgnoringCase("idx_users_created_at_id");
+        assertThat(explainSearch(UserSearchCondition.fromDate(FROM).build()))
+                .containsIgnoringCase("idx_users_created_at_id");
+        assertThat(explainSearch(UserSearchCondition.toDate(TO).build()))
+                .containsIgnoringCase("idx_users_created_at_id");
+    }
+
+    @Test
+    @DisplayName("이름 + 날짜 범위 조건 - 날짜 범위로 먼저 좁힌 뒤 이름 비교")
+    void nameAndDateRangeShape_ShouldUseCreatedAtIndex() {
+        assertThat(explainSearch(UserSearchCondition.dateRange(FROM, TO).name("사용자1").build()))
+                .containsIgnoringCase("idx_users_created_at_id");
+    }
+
+    @Test
+    @DisplayName("상태 조건만 있는 경우 - (status, created_at) 인덱스 사용")
+    void statusOnlyShape_ShouldUseStatusCreatedAtIndex() {
+        assertThat(explainSearch(UserSearchCondition.builder().status(UserStatus.ACTIVE).build()))
+                .containsIgnoringCase("idx_users_status_created_at");
+    }
+
+    @Test
+    @DisplayName("상태 + 날짜 범위 조건 - (status, created_at) 인덱스 사용")
+    void statusAndDateRangeShape_ShouldUseStatusCreatedAtIndex() {
+        assertThat(explainSearch(UserSearchCondition.toDate(TO).status(UserStatus.ACTIVE).build()))
+                .containsIgnoringCase("idx_users_status_created_at");
+    }
+
+    @Test
+    @DisplayName("이름 부분 일치만 있는 조건 - B-tree 인덱스를 사용할 수 없어 전체 스캔 (이름 n-gram 인덱스 대상)")
+    void nameOnlyShape_CannotUseIndex() {
+        assertThat(explainSearch(UserSearchCondition.builder().name("사용자1").build()))
+                .containsIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("커서 조회 - (created_at, id) 인덱스로 범위 탐색")
+    void cursorQuery_ShouldUseCreatedAtIdIndex() {
+        // when
+        userRepository.searchSummariesByCondition(UserSearchCondition.fromDate(FROM).build(),
+                UserCursor.of(FROM, 60L), 20);
+
+        // then
+        assertThat(explain(SqlStatementRecorder.lastSelect())).containsIgnoringCase("idx_users_created_at_id");
+    }
+
+    /**
+     * 검색 조건 형태에 맞게 생성된 목록 조회 SQL의 실행 계획
+     */
+    private String explainSearch(UserSearchCondition condition) {
+        userRepository.searchSummarySliceByCondition(condition, PAGE);
+        return explain(SqlStatementRecorder.lastSelect());
+    }
+
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql);
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+}
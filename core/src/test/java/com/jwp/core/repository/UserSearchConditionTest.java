@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.jwp.core.domain.UserStatus;
 import com.jwp.core.exception.common.InvalidValueException;
 
 @DisplayName("UserSearchCondition 테스트")
@@ -111,4 +112,25 @@ class UserSearchConditionTest {
         assertThat(fromDateCondition.getFromDate()).isEqualTo(fromDate);
         assertThat(toDateCondition.getToDate()).isEqualTo(toDate);
     }
+
+    @Test
+    @DisplayName("이름만 지정된 조건 확인")
+    void isNameOnly_ShouldBeTrue_OnlyWhenNameIsTheOnlyCondition() {
+        assertThat(UserSearchCondition.builder().name("테스트").build().isNameOnly()).isTrue();
+        assertThat(UserSearchCondition.builder().name("테스트").email("test@example.com").build().isNameOnly()).isFalse();
+        assertThat(UserSearchCondition.dateRange(LocalDateTime.of(2022, 1, 1, 0, 0), null).name("테스트").build().isNameOnly()).isFalse();
+        assertThat(UserSearchCondition.builder().build().isNameOnly()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상태만 지정된 조건 확인")
+    void isStatusOnly_ShouldBeTrue_OnlyWhenStatusIsTheOnlyCondition() {
+        UserSearchCondition statusCondition = UserSearchCondition.builder().status(UserStatus.ACTIVE).build();
+
+        assertThat(statusCondition.isStatusOnly()).isTrue();
+        assertThat(statusCondition.isEmpty()).isFalse();
+        assertThat(statusCondition.isNameOnly()).isFalse();
+        assertThat(UserSearchCondition.builder().status(UserStatus.ACTIVE).name("테스트").build().isStatusOnly()).isFalse();
+        assertThat(UserSearchCondition.builder().build().isStatusOnly()).isFalse();
+    }
 }
@@ -0,0 +1,67 @@
+package com.jwp.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.UserSearchQueries.Select;
+import com.jwp.core.repository.UserSearchQueries.Shape;
+
+@DisplayName("UserSearchQueries 테스트")
+class UserSearchQueriesTest {
+
+    @Test
+    @DisplayName("값이 달라도 형태가 같으면 같은 형태로 판단")
+    void shape_ShouldDependOnlyOnSpecifiedFields() {
+        // given
+        UserSearchCondition first = UserSearchCondition.builder().name("홍길동").build();
+        UserSearchCondition second = UserSearchCondition.builder().name("김철수").build();
+        UserSearchCondition withRange = UserSearchCondition.fromDate(LocalDateTime.of(2024, 1, 1, 0, 0)).name("홍길동").build();
+
+        // then
+        assertThat(Shape.of(first)).isEqualTo(Shape.of(second));
+        assertThat(Shape.of(first)).isNotEqualTo(Shape.of(withRange));
+        assertThat(Shape.of(null)).isEqualTo(Shape.of(UserSearchCondition.builder().build()));
+    }
+
+    @Test
+    @DisplayName("형태별 JPQL은 한 번만 만들어 재사용")
+    void jpql_ShouldBeRenderedOncePerShape() {
+        // given
+        Shape shape = new Shape(true, true, false, false, false);
+
+        // when
+        String first = UserSearchQueries.jpql(Select.ENTITY, shape);
+        String second = UserSearchQueries.jpql(Select.ENTITY, new Shape(true, true, false, false, false));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first).isEqualTo("select u from User u where u.email = :email and u.name like :name escape '!'");
+    }
+
+    @Test
+    @DisplayName("날짜 범위 경계에 따라 다른 조건식 생성")
+    void jpql_ShouldRenderDateRangeBounds() {
+        assertThat(UserSearchQueries.jpql(Select.COUNT, new Shape(false, false, false, true, true)))
+                .isEqualTo("select count(u) from User u where u.createdAt between :fromDate and :toDate");
+        assertThat(UserSearchQueries.jpql(Select.COUNT, new Shape(false, false, false, true, false)))
+                .isEqualTo("select count(u) from User u where u.createdAt >= :fromDate");
+        assertThat(UserSearchQueries.jpql(Select.COUNT, new Shape(false, false, false, false, true)))
+                .isEqualTo("select count(u) from User u where u.createdAt <= :toDate");
+        assertThat(UserSearchQueries.jpql(Select.COUNT, new Shape(false, false, false, false, false)))
+                .isEqualTo("select count(u) from User u");
+    }
+
+    @Test
+    @DisplayName("상태 조건은 상태 값 비교로 생성")
+    void jpql_ShouldRenderStatus() {
+        assertThat(UserSearchQueries.jpql(Select.COUNT, new Shape(false, false, true, false, false)))
+                .isEqualTo("select count(u) from User u where u.status = :status");
+        assertThat(Shape.of(UserSearchCondition.builder().status(UserStatus.ACTIVE).build()))
+                .isEqualTo(new Shape(false, false, true, false, false));
+    }
+}
@@ -0,0 +1,101 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.TestApplication;
+import com.jwp.core.domain.QUser;
+import com.jwp.core.domain.User;
+import com.jwp.core.repository.UserSearchQueries.Select;
+import com.jwp.core.repository.UserSearchQueries.Shape;
+import com.jwp.core.support.Benchmark;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 쿼리 생성 비용 벤치마크 (QueryDSL 조건식 직렬화 vs 형태별 JPQL 캐시)
+ * 쿼리를 실행하지 않고, 조건식 구성 → JPQL 직렬화 → Hibernate 쿼리 생성(HQL 해석)까지의 시간만 측정합니다.
+ * 결과는 테스트 로그의 "[benchmark]" 줄에 형태별로 남습니다.
+ * 실행: ./gradlew :core:test --tests '*UserSearchQueryBenchmarkTest' -Dbenchmark=true
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("검색 쿼리 생성 벤치마크")
+class UserSearchQueryBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("검색 조건 형태별 쿼리 생성 시간 비교")
+    void compareQuerydslAndCachedJpql() {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = from.plusMonths(1);
+
+        List<UserSearchCondition> conditions = List.of(
+                UserSearchCondition.builder().email("user@example.com").build(),
+                UserSearchCondition.builder().name("홍길동").build(),
+                UserSearchCondition.dateRange(from, to).name("홍길동").build(),
+                UserSearchCondition.of("user@example.com", "홍길동", from, null));
+
+        for (UserSearchCondition condition : conditions) {
+            Supplier<Query> querydsl = () -> queryFactory.selectFrom(QUser.user)
+                    .where(predicate(condition))
+                    .offset(0)
+                    .limit(20)
+                    .createQuery();
+            Supplier<Query> cached = () -> {
+                Shape shape = Shape.of(condition);
+                return UserSearchQueries.bind(
+                                entityManager.createQuery(UserSearchQueries.jpql(Select.ENTITY, shape), User.class),
+                                shape, condition)
+                        .setFirstResult(0)
+                        .setMaxResults(20);
+            };
+
+            Benchmark.run("querydsl " + Shape.of(condition), WARMUP_ITERATIONS, ITERATIONS, querydsl::get);
+            Query query = Benchmark.run("cached " + Shape.of(condition), WARMUP_ITERATIONS, ITERATIONS, cached::get).value();
+
+            assertThat(query).isNotNull();
+        }
+    }
+
+    /**
+     * 변경 전 UserRepositoryImpl의 조건식 구성 방식
+     */
+    private static BooleanBuilder predicate(UserSearchCondition condition) {
+        QUser user = QUser.user;
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (condition.getEmail() != null) {
+            builder.and(user.email.eq(condition.getEmail()));
+        }
+        if (condition.getName() != null) {
+            builder.and(user.name.contains(condition.getName()));
+        }
+        if (condition.getFromDate() != null && condition.getToDate() != null) {
+            builder.and(user.createdAt.between(condition.getFromDate(), condition.getToDate()));
+        } else if (condition.getFromDate() != null) {
+            builder.and(user.createdAt.goe(condition.getFromDate()));
+        } else if (condition.getToDate() != null) {
+            builder.and(user.createdAt.loe(condition.getToDate()));
+        }
+        return builder;
+    }
+}
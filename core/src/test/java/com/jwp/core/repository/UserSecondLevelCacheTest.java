@@ -0,0 +1,165 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.TestApplication;
+import com.jwp.core.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 2차 캐시 테스트
+ * 커밋된 사용자는 이메일(자연 키)과 ID 조회 모두 데이터베이스 조회 없이 캐시에서 반환되는지,
+ * 엔티티를 거치지 않는 갱신은 커밋된 뒤에 해당 사용자의 캐시를 제거하는지 확인합니다.
+ * 캐시 항목은 커밋 시점에 적재되므로 테스트 트랜잭션 롤백 대신 직접 트랜잭션을 나누어 실행하고 정리합니다.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@Import(UserRepositoryImpl.class)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("사용자 2차 캐시 테스트")
+class UserSecondLevelCacheTest {
+
+    private static final String EMAIL = "cached@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        userId = transactionTemplate.execute(status -> userRepository.save(User.builder()
+                .email(EMAIL)
+                .name("캐시사용자")
+                .password("password")
+                .build()).getId());
+
+        // 조회로 캐시 적재 (ID 생성 전략에 따라 삽입 시점에는 적재되지 않을 수 있음)
+        entityManagerFactory.getCache().evictAll();
+        transactionTemplate.execute(status -> userRepository.findByEmail(EMAIL));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteAll());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("이메일 조회 - 자연 키 캐시와 엔티티 캐시에서 반환")
+    void findByEmail_ShouldHitNaturalIdAndEntityCache() {
+        // when
+        User found = transactionTemplate.execute(status -> userRepository.findByEmail(EMAIL));
+
+        // then
+        assertThat(found).isNotNull();
+        assertThat(found.getId()).isEqualTo(userId);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("ID 조회 - 엔티티 캐시에서 반환")
+    void findById_ShouldHitEntityCache() {
+        // when
+        User found = transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        // then
+        assertThat(found.getEmail()).isEqualTo(EMAIL);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 이메일 조회 - 캐시 실패 후 데이터베이스 조회, 이후 조회는 캐시 적중")
+    void findByEmail_ShouldLoadFromDatabase_WhenNotCached() {
+        // given
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        User first = transactionTemplate.execute(status -> userRepository.findByEmail(EMAIL));
+        User second = transactionTemplate.execute(status -> userRepository.findByEmail(EMAIL));
+
+        // then
+        assertThat(first.getId()).isEqualTo(userId);
+        assertThat(second.getId()).isEqualTo(userId);
+        assertThat(statistics.getNaturalIdCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 이메일 조회 - null 반환")
+    void findByEmail_ShouldReturnNull_WhenEmailNotExists() {
+        // when
+        User found = transactionTemplate.execute(status -> userRepository.findByEmail("unknown@example.com"));
+
+        // then
+        assertThat(found).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 로그인 일시 갱신 - 커밋된 뒤에 엔티티 캐시 제거")
+    void updateLastLoginAt_ShouldEvictAfterCommit() {
+        // given
+        AtomicBoolean cachedBeforeCommit = new AtomicBoolean();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.updateLastLoginAt(Map.of(userId, LocalDateTime.now()));
+            cachedBeforeCommit.set(entityManagerFactory.getCache().contains(User.class, userId));
+        });
+
+        // then
+        assertThat(cachedBeforeCommit).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 로그인 일시 갱신 - 롤백되면 엔티티 캐시를 제거하지 않음")
+    void updateLastLoginAt_ShouldKeepCache_WhenRolledBack() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.updateLastLoginAt(Map.of(userId, LocalDateTime.now()));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+    }
+}
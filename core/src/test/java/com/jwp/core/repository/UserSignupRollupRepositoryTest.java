@@ -0,0 +1,116 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.TestApplication;
+import com.jwp.core.domain.UserSignupRollup;
+import com.jwp.core.domain.UserSignupRollupId;
+import com.jwp.core.domain.UserStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@DisplayName("UserSignupRollupRepository 테스트")
+class UserSignupRollupRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private UserSignupRollupRepository rollupRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        rollupRepository.insertAll(List.of(
+                new UserSignupRollup(new UserSignupRollupId(BASE, UserStatus.ACTIVE), 3),
+                new UserSignupRollup(new UserSignupRollupId(BASE.plusHours(1), UserStatus.ACTIVE), 1),
+                new UserSignupRollup(new UserSignupRollupId(BASE.plusHours(2), UserStatus.INACTIVE), 2)));
+    }
+
+    @Test
+    @DisplayName("집계 증감 - 행이 있으면 더하고, 없으면 증감값으로 생성")
+    void increment_ShouldUpsert() {
+        // when
+        rollupRepository.increment(BASE, UserStatus.ACTIVE, -1);
+        rollupRepository.increment(BASE, UserStatus.SUSPENDED, 1);
+        rollupRepository.increment(BASE, UserStatus.SUSPENDED, 1);
+
+        // then
+        assertThat(rollupRepository.findById(new UserSignupRollupId(BASE, UserStatus.ACTIVE)))
+                .get().extracting(UserSignupRollup::getUserCount).isEqualTo(2L);
+        assertThat(rollupRepository.findById(new UserSignupRollupId(BASE, UserStatus.SUSPENDED)))
+                .get().extracting(UserSignupRollup::getUserCount).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("구간 조회 - 시작 시각이 범위 안인 집계를 시간순으로 반환")
+    void findInRange_ShouldReturnRollupsInRange() {
+        // when
+        List<UserSignupRollup> rollups = rollupRepository.findInRange(BASE.plusHours(1), BASE.plusHours(2));
+
+        // then
+        assertThat(rollups).extracting(rollup -> rollup.getId().getBucketStart())
+                .containsExactly(BASE.plusHours(1), BASE.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("기준 이전 집계 삭제")
+    void deleteBefore_ShouldDeleteOlderRollups() {
+        // when
+        long deleted = rollupRepository.deleteBefore(BASE.plusHours(2));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(rollupRepository.findAll()).extracting(rollup -> rollup.getId().getBucketStart())
+                .containsExactly(BASE.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("기준 이전 가입자 재집계 - 사용자 테이블을 구간, 상태별로 세어 저장")
+    void insertCountedBefore_ShouldCountUsersPerBucketAndStatus() {
+        // given
+        insertUser("a@example.com", UserStatus.ACTIVE, BASE.plusMinutes(5));
+        insertUser("b@example.com", UserStatus.ACTIVE, BASE.plusMinutes(50));
+        insertUser("c@example.com", UserStatus.INACTIVE, BASE.plusHours(1).plusMinutes(10));
+        insertUser("d@example.com", UserStatus.ACTIVE, BASE.plusHours(3));
+        entityManager.createNativeQuery("""
+                insert into users (email, name, password, status) values ('e@example.com', '사용자', 'password', 'ACTIVE')
+                """).executeUpdate();
+        rollupRepository.deleteBefore(BASE.plusHours(3));
+
+        // when
+        long inserted = rollupRepository.insertCountedBefore(BASE.plusHours(3));
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        assertThat(rollupRepository.findAll())
+                .extracting(rollup -> rollup.getId().getBucketStart(), rollup -> rollup.getId().getStatus(), UserSignupRollup::getUserCount)
+                .containsExactlyInAnyOrder(
+                        tuple(BASE, UserStatus.ACTIVE, 2L),
+                        tuple(BASE.plusHours(1), UserStatus.INACTIVE, 1L));
+    }
+
+    private void insertUser(String email, UserStatus status, LocalDateTime createdAt) {
+        entityManager.createNativeQuery("""
+                insert into users (email, name, password, status, created_at, updated_at)
+                values (:email, '사용자', 'password', :status, :createdAt, :createdAt)
+                """)
+                .setParameter("email", email)
+                .setParameter("status", status.name())
+                .setParameter("createdAt", createdAt)
+                .executeUpdate();
+    }
+}
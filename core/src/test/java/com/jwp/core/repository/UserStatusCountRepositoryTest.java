@@ -0,0 +1,70 @@
+package com.jwp.core.repository;
+
+import com.jwp.core.TestApplication;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.domain.UserStatusCount;
+import com.jwp.core.domain.UserStatusCountId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DataJpaTest
+@ContextConfiguration(classes = TestApplication.class)
+@DisplayName("UserStatusCountRepository 테스트")
+class UserStatusCountRepositoryTest {
+
+    @Autowired
+    private UserStatusCountRepository countRepository;
+
+    @BeforeEach
+    void setUp() {
+        countRepository.insertAll(List.of(
+                new UserStatusCount(new UserStatusCountId(UserStatus.ACTIVE, 0), 10),
+                new UserStatusCount(new UserStatusCountId(UserStatus.ACTIVE, 3), 2),
+                new UserStatusCount(new UserStatusCountId(UserStatus.INACTIVE, 0), 4)));
+    }
+
+    @Test
+    @DisplayName("카운터 증감 - 행이 있으면 더하고, 없으면 증감값으로 생성")
+    void increment_ShouldUpsert() {
+        // when
+        countRepository.increment(UserStatus.ACTIVE, 3, -1);
+        countRepository.increment(UserStatus.ACTIVE, 5, 1);
+
+        // then
+        assertThat(countRepository.findById(new UserStatusCountId(UserStatus.ACTIVE, 3)))
+                .get().extracting(UserStatusCount::getUserCount).isEqualTo(1L);
+        assertThat(countRepository.findById(new UserStatusCountId(UserStatus.ACTIVE, 5)))
+                .get().extracting(UserStatusCount::getUserCount).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("상태별 합계 - 모든 샤드의 값을 더함")
+    void sumByStatus_ShouldSumShards() {
+        assertThat(countRepository.sumByStatus())
+                .containsOnly(entry(UserStatus.ACTIVE, 12L), entry(UserStatus.INACTIVE, 4L));
+    }
+
+    @Test
+    @DisplayName("보정 - 0번 샤드에 사용자 수를 모으고 나머지 샤드는 0으로 변경")
+    void reset_ShouldMoveCountToFirstShard() {
+        // when
+        long updated = countRepository.reset(UserStatus.ACTIVE, 7);
+        long missing = countRepository.reset(UserStatus.SUSPENDED, 1);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        assertThat(countRepository.findById(new UserStatusCountId(UserStatus.ACTIVE, 3)))
+                .get().extracting(UserStatusCount::getUserCount).isEqualTo(0L);
+        assertThat(countRepository.sumByStatus()).containsEntry(UserStatus.ACTIVE, 7L);
+    }
+}
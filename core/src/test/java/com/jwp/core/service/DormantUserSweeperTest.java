@@ -0,0 +1,72 @@
+package com.jwp.core.service;
+
+import com.jwp.core.repository.ScheduledJobLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DormantUserSweeperTest {
+
+    @Mock
+    private UserCommandService userCommandService;
+
+    @Mock
+    private UserLastLoginBuffer lastLoginBuffer;
+
+    @Mock
+    private ScheduledJobLockRepository jobLockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DormantUserSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new DormantUserSweeper(userCommandService, lastLoginBuffer, jobLockRepository, transactionManager,
+                true, 365, 1000, 0, 60_000, 0);
+    }
+
+    @Test
+    @DisplayName("잠금을 가져가면 버퍼를 비우고 휴면 사용자를 변경한 뒤 잠금 해제")
+    void sweep_WithLock_TransitionsAndReleases() {
+        // given
+        when(jobLockRepository.tryAcquire(eq(DormantUserSweeper.LOCK_NAME), anyString(), any(), any())).thenReturn(true);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(lastLoginBuffer).flush();
+        verify(userCommandService).transitionStatus(any(), anyInt(), any(), any());
+        verify(jobLockRepository).release(eq(DormantUserSweeper.LOCK_NAME), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 가지고 있으면 실행하지 않음")
+    void sweep_WithoutLock_Skips() {
+        // given
+        when(jobLockRepository.tryAcquire(eq(DormantUserSweeper.LOCK_NAME), anyString(), any(), any())).thenReturn(false);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(lastLoginBuffer, never()).flush();
+        verify(userCommandService, never()).transitionStatus(any(), anyInt(), any(), any());
+        verify(jobLockRepository, never()).release(anyString(), anyString(), any());
+    }
+}
@@ -2,9 +2,13 @@ package com.jwp.core.service;
 
 import com.jwp.core.domain.User;
 import com.jwp.core.domain.UserStatus;
+import com.jwp.core.domain.event.UserChangedEvent;
 import com.jwp.core.exception.BusinessException;
+import com.jwp.core.exception.ErrorCode;
 import com.jwp.core.exception.user.UserDomainException;
+import com.jwp.core.repository.UserIdRange;
 import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserStatusTransition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,14 +16,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +44,30 @@ class UserCommandServiceTest {
     @Mock
     private UserQueryService userQueryService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserSignupStatistics signupStatistics;
+
+    @Mock
+    private UserStatusCounter userStatusCounter;
+
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @Mock
+    private UserEmailCache userEmailCache;
+
+    @Mock
+    private UserEmailBloomFilter userEmailBloomFilter;
+
+    @Mock
+    private UserSearchCache userSearchCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserCommandService userCommandService;
 
@@ -54,6 +91,7 @@ class UserCommandServiceTest {
     @DisplayName("사용자 생성 성공")
     void createUser_Success() {
         // given
+        when(userEmailBloomFilter.mightContain(anyString())).thenReturn(true);
         when(userQueryService.existsByEmail(anyString())).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
@@ -67,12 +105,20 @@ class UserCommandServiceTest {
         
         verify(userQueryService, times(1)).existsByEmail(anyString());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).flush();
+        verify(userEmailBloomFilter, times(1)).add(testUser.getEmail());
+        verify(userEmailCache, times(1)).created(testUser);
+        verify(userSearchCache, times(1)).writeCommitted();
+        verify(signupStatistics, times(1)).recordCreated(testUser);
+        verify(userStatusCounter, times(1)).recordCreated(testUser);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.created(testUser));
     }
 
     @Test
     @DisplayName("사용자 생성 실패 - 이메일 중복")
     void createUser_EmailDuplication_ThrowsException() {
         // given
+        when(userEmailBloomFilter.mightContain(anyString())).thenReturn(true);
         when(userQueryService.existsByEmail(anyString())).thenReturn(true);
 
         // when & then
@@ -82,6 +128,54 @@ class UserCommandServiceTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("사용자 생성 - 블룸 필터가 없는 이메일로 판단하면 중복 조회 생략")
+    void createUser_BloomFilterMiss_SkipsExistenceQuery() {
+        // given
+        when(userEmailBloomFilter.mightContain(anyString())).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        // when
+        User savedUser = userCommandService.createUser(testUser);
+
+        // then
+        assertThat(savedUser).isEqualTo(testUser);
+        verify(userQueryService, never()).existsByEmail(anyString());
+        verify(userRepository, times(1)).flush();
+        verify(userEmailBloomFilter, times(1)).add(testUser.getEmail());
+    }
+
+    @Test
+    @DisplayName("사용자 생성 실패 - 중복 조회를 생략했지만 유니크 제약 위반")
+    void createUser_UniqueConstraintViolation_ThrowsEmailDuplication() {
+        // given
+        when(userEmailBloomFilter.mightContain(anyString())).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        doThrow(new DataIntegrityViolationException("uk_users_email")).when(userRepository).flush();
+
+        // when & then
+        assertThrows(UserDomainException.class, () -> userCommandService.createUser(testUser));
+
+        verify(userEmailBloomFilter, never()).add(anyString());
+        verify(userEmailCache, never()).created(any(User.class));
+        verify(eventPublisher, never()).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("사용자 생성 실패 - 이메일이 아닌 제약 위반은 이메일 중복으로 바꾸지 않음")
+    void createUser_OtherConstraintViolation_Rethrows() {
+        // given
+        when(userEmailBloomFilter.mightContain(anyString())).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        doThrow(new DataIntegrityViolationException("NULL not allowed for column \"NAME\"")).when(userRepository).flush();
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> userCommandService.createUser(testUser));
+
+        verify(userEmailBloomFilter, never()).add(anyString());
+        verify(eventPublisher, never()).publishEvent(any(UserChangedEvent.class));
+    }
+
     @Test
     @DisplayName("사용자 생성 실패 - null 입력")
     void createUser_NullInput_ThrowsException() {
@@ -92,6 +186,40 @@ class UserCommandServiceTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("사용자 일괄 생성 - 한 번에 저장 후 통계 반영, 사용자별 이벤트 발행")
+    void createUsers_Success() {
+        // given
+        User otherUser = User.builder()
+                .email("other@example.com")
+                .name("다른 사용자")
+                .password("password")
+                .build();
+        List<User> users = List.of(testUser, otherUser);
+        when(userRepository.saveAll(users)).thenReturn(users);
+
+        // when
+        List<User> savedUsers = userCommandService.createUsers(users);
+
+        // then
+        assertThat(savedUsers).containsExactly(testUser, otherUser);
+        verify(userRepository).flush();
+        verify(signupStatistics).recordCreated(users);
+        verify(userStatusCounter).recordCreated(users);
+        verify(eventPublisher).publishEvent(UserChangedEvent.created(testUser));
+        verify(eventPublisher).publishEvent(UserChangedEvent.created(otherUser));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 생성 실패 - 빈 목록")
+    void createUsers_EmptyInput_ThrowsException() {
+        // when & then
+        assertThrows(BusinessException.class, () -> userCommandService.createUsers(List.of()));
+
+        verify(userRepository, never()).saveAll(any());
+    }
+
     @Test
     @DisplayName("사용자 정보 업데이트 성공")
     void updateUserInfo_Success() {
@@ -109,6 +237,39 @@ class UserCommandServiceTest {
         
         verify(userQueryService, times(1)).findById(anyLong());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("사용자 정보 업데이트 실패 - 조회 후 삭제되어 UPDATE 문이 반영한 행 없음")
+    void updateUserInfo_RowGone_ThrowsUserNotFound() {
+        // given
+        when(userQueryService.findById(anyLong())).thenReturn(testUser);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        doThrow(new ObjectOptimisticLockingFailureException(User.class, 1L)).when(userRepository).flush();
+        when(userRepository.existsByIdForUpdate(1L)).thenReturn(false);
+
+        // when & then
+        UserDomainException exception = assertThrows(UserDomainException.class,
+                () -> userCommandService.updateUserInfo(1L, "새로운 이름"));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("사용자 정보 업데이트 실패 - 조회 후 다른 요청이 먼저 변경해 버전 충돌")
+    void updateUserInfo_VersionConflict_ThrowsUserConflict() {
+        // given
+        when(userQueryService.findById(anyLong())).thenReturn(testUser);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        doThrow(new ObjectOptimisticLockingFailureException(User.class, 1L)).when(userRepository).flush();
+        when(userRepository.existsByIdForUpdate(1L)).thenReturn(true);
+
+        // when & then
+        UserDomainException exception = assertThrows(UserDomainException.class,
+                () -> userCommandService.updateUserInfo(1L, "새로운 이름"));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.USER_CONFLICT);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -162,6 +323,25 @@ class UserCommandServiceTest {
         // then
         verify(userQueryService, times(1)).findById(anyLong());
         verify(userRepository, times(1)).delete(any(User.class));
+        verify(userRepository, times(1)).flush();
+        verify(signupStatistics, times(1)).recordDeleted(testUser);
+        verify(userStatusCounter, times(1)).recordDeleted(testUser);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.deleted(testUser));
+    }
+
+    @Test
+    @DisplayName("사용자 삭제 실패 - 조회 후 삭제되어 DELETE 문이 반영한 행 없음")
+    void deleteUser_RowGone_ThrowsUserNotFound() {
+        // given
+        when(userQueryService.findById(anyLong())).thenReturn(testUser);
+        doThrow(new ObjectOptimisticLockingFailureException(User.class, 1L)).when(userRepository).flush();
+        when(userRepository.existsByIdForUpdate(1L)).thenReturn(false);
+
+        // when & then
+        UserDomainException exception = assertThrows(UserDomainException.class, () -> userCommandService.deleteUser(1L));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
+        verify(signupStatistics, never()).recordDeleted(any(User.class));
+        verify(userStatusCounter, never()).recordDeleted(any(User.class));
     }
 
     @Test
@@ -191,4 +371,80 @@ class UserCommandServiceTest {
         verify(userRepository, times(1)).findByEmail(anyString());
         verify(userRepository, never()).delete(any(User.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("상태 일괄 변경 - ID 범위를 구간으로 나누어 구간별로 변경")
+    void transitionStatus_ShouldUpdateEachIdChunk() {
+        // given
+        UserStatusTransition transition = UserStatusTransition.dormant(LocalDateTime.now().minusDays(365));
+        when(userRepository.findTransitionIdRange(transition)).thenReturn(Optional.of(new UserIdRange(1L, 2500L)));
+        when(userRepository.updateStatusInIdRange(anyLong(), anyLong(), eq(transition))).thenReturn(10L);
+
+        // when
+        long updated = userCommandService.transitionStatus(transition, 1000, Duration.ZERO, null);
+
+        // then
+        assertThat(updated).isEqualTo(30L);
+        verify(userRepository).updateStatusInIdRange(0L, 1000L, transition);
+        verify(userRepository).updateStatusInIdRange(1000L, 2000L, transition);
+        verify(userRepository).updateStatusInIdRange(2000L, 2500L, transition);
+        verify(transactionManager, times(3)).commit(any());
+        verify(signupStatistics, times(3)).recordTransition(List.of(), transition.to());
+        verify(userStatusCounter, times(3)).recordTransition(List.of(), transition.to());
+        verify(userSummaryCache, times(3)).invalidateAll(List.of());
+    }
+
+    @Test
+    @DisplayName("상태 일괄 변경 - 대상 사용자가 없으면 변경하지 않음")
+    void transitionStatus_ShouldDoNothing_WhenNoUsers() {
+        // given
+        when(userRepository.findTransitionIdRange(any())).thenReturn(Optional.empty());
+
+        // when
+        long updated = userCommandService.transitionStatus(
+                UserStatusTransition.dormant(LocalDateTime.now()), 1000, Duration.ZERO, null);
+
+        // then
+        assertThat(updated).isZero();
+        verify(userRepository, never()).updateStatusInIdRange(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("상태 일괄 변경 - 최대 실행 시간이 지나면 남은 구간은 처리하지 않음")
+    void transitionStatus_ShouldStop_WhenMaxDurationExceeded() {
+        // given
+        UserStatusTransition transition = UserStatusTransition.dormant(LocalDateTime.now());
+        when(userRepository.findTransitionIdRange(transition)).thenReturn(Optional.of(new UserIdRange(1L, 2500L)));
+        when(userRepository.updateStatusInIdRange(anyLong(), anyLong(), eq(transition))).thenReturn(10L);
+
+        // when
+        long updated = userCommandService.transitionStatus(transition, 1000, Duration.ZERO, Duration.ZERO);
+
+        // then
+        assertThat(updated).isEqualTo(10L);
+        verify(userRepository, times(1)).updateStatusInIdRange(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("상태 일괄 변경 - 남은 대상 중 가장 작은 ID부터 시작")
+    void transitionStatus_ShouldStartFromLowestTarget() {
+        // given
+        UserStatusTransition transition = UserStatusTransition.dormant(LocalDateTime.now());
+        when(userRepository.findTransitionIdRange(transition)).thenReturn(Optional.of(new UserIdRange(1501L, 2500L)));
+        when(userRepository.updateStatusInIdRange(anyLong(), anyLong(), eq(transition))).thenReturn(10L);
+
+        // when
+        userCommandService.transitionStatus(transition, 1000, Duration.ZERO, null);
+
+        // then
+        verify(userRepository).updateStatusInIdRange(1500L, 2500L, transition);
+        verify(userRepository, times(1)).updateStatusInIdRange(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("상태 일괄 변경 실패 - 잘못된 구간 크기")
+    void transitionStatus_InvalidChunkSize_ThrowsException() {
+        assertThrows(BusinessException.class, () -> userCommandService.transitionStatus(
+                UserStatusTransition.dormant(LocalDateTime.now()), 0, null, null));
+    }
+}
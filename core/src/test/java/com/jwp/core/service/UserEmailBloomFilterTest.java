@@ -0,0 +1,110 @@
+package com.jwp.core.service;
+
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailBloomFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserEmailBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        bloomFilter = new UserEmailBloomFilter(userRepository, transactionManager, true, 1_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("구축 전에는 모든 이메일이 가입되어 있을 수 있음으로 응답")
+    void mightContain_BeforeBuild_ReturnsTrue() {
+        assertThat(bloomFilter.isReady()).isFalse();
+        assertThat(bloomFilter.mightContain("new@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("구축 후 가입된 이메일은 대소문자와 관계없이 있음, 가입되지 않은 이메일은 대부분 없음")
+    void mightContain_AfterBuild() {
+        // given
+        when(userRepository.findSummariesAfterId(eq(0L), anyInt())).thenReturn(List.of(
+                summary(1L, "user1@example.com"),
+                summary(2L, "user2@example.com")));
+
+        // when
+        bloomFilter.build();
+
+        // then
+        assertThat(bloomFilter.isReady()).isTrue();
+        assertThat(bloomFilter.mightContain("user1@example.com")).isTrue();
+        assertThat(bloomFilter.mightContain(" USER2@Example.com ")).isTrue();
+        long falsePositives = IntStream.range(0, 1_000)
+                .filter(i -> bloomFilter.mightContain("absent" + i + "@example.com"))
+                .count();
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("구축 후 추가된 이메일은 있음으로 응답")
+    void add_AfterBuild() {
+        // given
+        when(userRepository.findSummariesAfterId(eq(0L), anyInt())).thenReturn(List.of());
+        bloomFilter.build();
+        assertThat(bloomFilter.mightContain("new@example.com")).isFalse();
+
+        // when
+        bloomFilter.add("new@example.com");
+
+        // then
+        assertThat(bloomFilter.mightContain("new@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 개수를 넘으면 두 배 크기로 재구축하고, 그동안 추가된 이메일도 유지")
+    void add_Saturated_RebuildsWithDoubleCapacity() throws InterruptedException {
+        // given
+        UserEmailBloomFilter small = new UserEmailBloomFilter(userRepository, transactionManager, true, 2, 0.01);
+        List<UserSummary> users = List.of(
+                summary(1L, "user1@example.com"),
+                summary(2L, "user2@example.com"),
+                summary(3L, "user3@example.com"));
+        when(userRepository.findSummariesAfterId(eq(0L), anyInt())).thenReturn(users.subList(0, 2), users);
+        small.build();
+        assertThat(small.capacity()).isEqualTo(2);
+
+        // when
+        small.add("user3@example.com");
+
+        // then
+        for (int i = 0; i < 100 && small.capacity() != 4; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(small.capacity()).isEqualTo(4);
+        users.forEach(user -> assertThat(small.mightContain(user.email())).isTrue());
+    }
+
+    private static UserSummary summary(Long id, String email) {
+        LocalDateTime now = LocalDateTime.now();
+        return new UserSummary(id, email, "사용자" + id, UserStatus.ACTIVE, now, now, 0L);
+    }
+}
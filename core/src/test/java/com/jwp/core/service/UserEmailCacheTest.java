@@ -0,0 +1,37 @@
+package com.jwp.core.service;
+
+import com.jwp.core.config.cache.InMemoryUserSummaryTier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserEmailCacheTest {
+
+    @Test
+    @DisplayName("다른 노드의 무효화 알림에 포함된 사용자의 이메일 항목은 다시 조회")
+    void getId_AfterRemoteInvalidation_Reloads() {
+        // given
+        InMemoryUserSummaryTier tierA = new InMemoryUserSummaryTier();
+        UserEmailCache nodeB = new UserEmailCache(tierA.connect(), 100, 60_000, 5_000);
+        AtomicInteger loads = new AtomicInteger();
+        nodeB.getId("user1@example.com", email -> (long) loads.incrementAndGet());
+        nodeB.getId("user2@example.com", email -> 2L);
+
+        // when
+        tierA.evictAndBroadcast(List.of(1L));
+        Long reloaded = nodeB.getId("user1@example.com", email -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        Long kept = nodeB.getId("user2@example.com", email -> null);
+
+        // then
+        assertThat(reloaded).isNull();
+        assertThat(kept).isEqualTo(2L);
+        assertThat(loads).hasValue(2);
+    }
+}
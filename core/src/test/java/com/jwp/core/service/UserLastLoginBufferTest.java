@@ -0,0 +1,132 @@
+package com.jwp.core.service;
+
+import com.jwp.core.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserLastLoginBufferTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserLastLoginBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new UserLastLoginBuffer(userRepository, transactionManager, 2, 100);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 로그인은 가장 늦은 일시 하나만 반영")
+    void flush_ShouldKeepLatestLoginPerUser() {
+        // given
+        buffer.record(1L, BASE_TIME.plusMinutes(5));
+        buffer.record(1L, BASE_TIME);
+        buffer.record(1L, BASE_TIME.plusMinutes(3));
+
+        // when
+        long flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(buffer.pendingCount()).isZero();
+        verify(userRepository).updateLastLoginAt(Map.of(1L, BASE_TIME.plusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("배치 크기마다 나누어 반영")
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteInBatches() {
+        // given
+        buffer.record(3L, BASE_TIME);
+        buffer.record(1L, BASE_TIME);
+        buffer.record(2L, BASE_TIME);
+
+        // when
+        long flushed = buffer.flush();
+
+        // then
+        ArgumentCaptor<Map<Long, LocalDateTime>> batches = ArgumentCaptor.forClass(Map.class);
+        verify(userRepository, times(2)).updateLastLoginAt(batches.capture());
+        assertThat(flushed).isEqualTo(3);
+        assertThat(batches.getAllValues()).extracting(Map::size).containsExactlyInAnyOrder(2, 1);
+        assertThat(batches.getAllValues().stream().flatMap(batch -> batch.keySet().stream()).toList())
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 버퍼에 되돌리고, 그사이 들어온 더 늦은 로그인을 유지")
+    void flush_ShouldRequeueFailedBatch() {
+        // given
+        buffer.record(1L, BASE_TIME);
+        when(userRepository.updateLastLoginAt(anyMap()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1L);
+
+        // when
+        long flushed = buffer.flush();
+        buffer.record(1L, BASE_TIME.minusMinutes(1));
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+
+        buffer.flush();
+        verify(userRepository, times(2)).updateLastLoginAt(Map.of(1L, BASE_TIME));
+    }
+
+    @Test
+    @DisplayName("대기 사용자 수가 최대치에 이르면 주기를 기다리지 않고 바로 반영")
+    void record_ShouldFlushWhenFull() {
+        // given
+        buffer = new UserLastLoginBuffer(userRepository, transactionManager, 10, 2);
+        buffer.record(1L, BASE_TIME);
+        verify(userRepository, never()).updateLastLoginAt(anyMap());
+
+        // when
+        buffer.record(2L, BASE_TIME);
+
+        // then
+        verify(userRepository).updateLastLoginAt(Map.of(1L, BASE_TIME, 2L, BASE_TIME));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 로그인을 모두 반영하고, 종료 후 기록은 바로 반영")
+    void close_ShouldFlushRemaining() {
+        // given
+        List.of(1L, 2L, 3L).forEach(userId -> buffer.record(userId, BASE_TIME));
+
+        // when
+        buffer.close();
+        buffer.record(4L, BASE_TIME);
+
+        // then
+        verify(userRepository, times(3)).updateLastLoginAt(anyMap());
+        assertThat(buffer.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,154 @@
+package com.jwp.core.service;
+
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserSummary;
+import com.jwp.core.support.Benchmark;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이름 부분 검색 벤치마크 (LIKE 전체 스캔 vs 이름 n-gram 인덱스)
+ * 100만 명의 사용자를 H2에 적재한 뒤 같은 키워드로 첫 페이지와 전체 개수를 조회하는 시간을 비교합니다.
+ * 인덱스는 후보 ID 목록만 만들면 되므로(페이지 조회는 ID IN 조건) 검색 시간만 측정합니다.
+ * 결과는 테스트 로그의 "[benchmark]" 줄에 키워드별로 남습니다.
+ * 실행: ./gradlew :core:test --tests '*UserNameIndexBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("사용자 이름 인덱스 벤치마크")
+class UserNameIndexBenchmarkTest {
+
+    private static final int USER_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int ITERATIONS = 20;
+
+    private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] SYLLABLES = {
+            "민", "준", "서", "연", "지", "우", "현", "수", "하", "윤",
+            "도", "예", "은", "진", "호", "영", "성", "재", "희", "원"};
+
+    private Connection connection;
+    private UserNameIndex userNameIndex;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:name_index_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table users (id bigint primary key, name varchar(100) not null)");
+        }
+
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("insert into users (id, name) values (?, ?)")) {
+            for (int id = 1; id <= USER_COUNT; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                        + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                        + SYLLABLES[random.nextInt(SYLLABLES.length)]);
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findSummariesAfterId(anyLong(), anyInt()))
+                .thenAnswer(invocation -> loadAfter(invocation.getArgument(0), invocation.getArgument(1)));
+
+        userNameIndex = new UserNameIndex(userRepository, mock(PlatformTransactionManager.class), UserSummaryRemoteTier.none(), true);
+        int indexed = Benchmark.once("index build", () -> {
+            userNameIndex.build();
+            return userNameIndex.size();
+        }).value();
+        assertThat(indexed).isEqualTo(USER_COUNT);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("키워드별 첫 페이지 + 전체 개수 조회 시간 비교")
+    void compareLikeAndIndex() {
+        for (String keyword : List.of("김", "민준", "서연", "김민준", "재희")) {
+            long likeTotal = Benchmark.run("like " + keyword, WARMUP_ITERATIONS, ITERATIONS,
+                    () -> likeSearch(keyword)).value();
+            List<Long> ids = Benchmark.run("index " + keyword, WARMUP_ITERATIONS, ITERATIONS,
+                    () -> userNameIndex.search(keyword).orElseThrow()).value();
+
+            log.info("[benchmark] keyword={} matches={}", keyword, ids.size());
+            assertThat((long) ids.size()).isEqualTo(likeTotal);
+        }
+    }
+
+    /**
+     * 현재 레포지토리와 같은 방식(LIKE 첫 페이지 + count)으로 검색하고 전체 개수를 반환
+     */
+    private long likeSearch(String keyword) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        try (PreparedStatement page = connection.prepareStatement(
+                "select id, name from users where name like ? order by id limit ?")) {
+            page.setString(1, pattern);
+            page.setInt(2, PAGE_SIZE);
+            try (ResultSet resultSet = page.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getLong(1);
+                }
+            }
+        }
+
+        try (PreparedStatement count = connection.prepareStatement("select count(*) from users where name like ?")) {
+            count.setString(1, pattern);
+            try (ResultSet resultSet = count.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private List<UserSummary> loadAfter(long lastId, int size) throws SQLException {
+        List<UserSummary> chunk = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement select = connection.prepareStatement(
+                "select id, name from users where id > ? order by id limit ?")) {
+            select.setLong(1, lastId);
+            select.setInt(2, size);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    long id = resultSet.getLong(1);
+                    chunk.add(new UserSummary(id, "user" + id + "@example.com", resultSet.getString(2),
+                            UserStatus.ACTIVE, now, now, 0L));
+                }
+            }
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,172 @@
+package com.jwp.core.service;
+
+import com.jwp.core.config.cache.InMemoryUserSummaryTier;
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.domain.event.UserChangedEvent;
+import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserNameIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserNameIndex userNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        userNameIndex = new UserNameIndex(userRepository, transactionManager, UserSummaryRemoteTier.none(), true);
+
+        when(userRepository.findSummariesAfterId(eq(0L), anyInt())).thenReturn(List.of(
+                summary(1L, "홍길동"),
+                summary(2L, "김철수"),
+                summary(3L, "홍길순"),
+                summary(4L, "John Smith")));
+
+        userNameIndex.build();
+    }
+
+    @Test
+    @DisplayName("구축 전에는 검색 결과를 제공하지 않음")
+    void search_BeforeBuild_ReturnsEmpty() {
+        UserNameIndex notBuilt = new UserNameIndex(userRepository, transactionManager, UserSummaryRemoteTier.none(), true);
+
+        assertThat(notBuilt.isReady()).isFalse();
+        assertThat(notBuilt.search("홍")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색은 음절 단위로 일치하는 사용자를 찾음")
+    void search_SingleSyllable() {
+        assertThat(userNameIndex.isReady()).isTrue();
+        assertThat(userNameIndex.search("홍")).contains(List.of(1L, 3L));
+        assertThat(userNameIndex.search("수")).contains(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("두 글자 이상 검색은 부분 일치하는 사용자만 찾음")
+    void search_MultipleSyllables() {
+        assertThat(userNameIndex.search("길동")).contains(List.of(1L));
+        assertThat(userNameIndex.search("홍길")).contains(List.of(1L, 3L));
+        assertThat(userNameIndex.search("홍길동")).contains(List.of(1L));
+        assertThat(userNameIndex.search("동길")).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("bigram이 모두 있어도 연속되지 않으면 제외")
+    void search_VerifiesCandidates() {
+        userNameIndex.index(5L, "길동홍길");
+
+        assertThat(userNameIndex.search("홍길동")).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않음")
+    void search_IgnoresCase() {
+        assertThat(userNameIndex.search("smith")).contains(List.of(4L));
+        assertThat(userNameIndex.search("JOHN")).contains(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트로 인덱스 갱신")
+    void onUserChanged_UpdatesIndex() {
+        // when
+        userNameIndex.onUserChanged(event(UserChangedEvent.ChangeType.UPDATED, 1L, "박영희"));
+        userNameIndex.onUserChanged(event(UserChangedEvent.ChangeType.CREATED, 6L, "홍길동"));
+        userNameIndex.onUserChanged(event(UserChangedEvent.ChangeType.DELETED, 3L, "홍길순"));
+
+        // then
+        assertThat(userNameIndex.search("홍길")).contains(List.of(6L));
+        assertThat(userNameIndex.search("영희")).contains(List.of(1L));
+        assertThat(userNameIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 알림을 받으면 주 데이터베이스에서 다시 읽어 인덱스 갱신")
+    void remoteInvalidation_RefreshesIndex() {
+        // given
+        InMemoryUserSummaryTier thisNode = new InMemoryUserSummaryTier();
+        InMemoryUserSummaryTier otherNode = thisNode.connect();
+        UserNameIndex index = new UserNameIndex(userRepository, transactionManager, thisNode, true);
+        index.build();
+        when(userRepository.findAllByIdsOrdered(List.of(1L, 3L))).thenReturn(List.of(summary(1L, "박영희")));
+
+        // when
+        otherNode.evictAndBroadcast(List.of(1L, 3L));
+
+        // then
+        assertThat(index.search("홍길")).contains(List.of());
+        assertThat(index.search("영희")).contains(List.of(1L));
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다시 구축하면 놓친 변경을 데이터베이스 값으로 바로잡음")
+    void build_Again_ResyncsFromDatabase() {
+        // given
+        when(userRepository.findSummariesAfterId(eq(0L), anyInt())).thenReturn(List.of(
+                summary(1L, "박영희"),
+                summary(2L, "김철수"),
+                summary(4L, "John Smith")));
+
+        // when
+        userNameIndex.build();
+
+        // then
+        assertThat(userNameIndex.search("홍길")).contains(List.of());
+        assertThat(userNameIndex.search("영희")).contains(List.of(1L));
+        assertThat(userNameIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다시 구축하는 동안에도 기존 인덱스로 검색하고, 그 사이의 변경은 구축 시점에 읽은 값보다 우선")
+    void build_Again_KeepsServingAndKeepsChangesDuringBuild() {
+        // given
+        List<Boolean> readyDuringBuild = new ArrayList<>();
+        when(userRepository.findSummariesAfterId(eq(0L), anyInt())).thenAnswer(invocation -> {
+            readyDuringBuild.add(userNameIndex.search("홍길").isPresent());
+            userNameIndex.onUserChanged(event(UserChangedEvent.ChangeType.UPDATED, 2L, "박영희"));
+            userNameIndex.onUserChanged(event(UserChangedEvent.ChangeType.DELETED, 3L, "홍길순"));
+            return List.of(summary(1L, "홍길동"), summary(2L, "김철수"), summary(3L, "홍길순"));
+        });
+
+        // when
+        userNameIndex.build();
+
+        // then
+        assertThat(readyDuringBuild).containsExactly(true);
+        assertThat(userNameIndex.search("영희")).contains(List.of(2L));
+        assertThat(userNameIndex.search("철수")).contains(List.of());
+        assertThat(userNameIndex.search("홍길")).contains(List.of(1L));
+    }
+
+    private static UserSummary summary(Long id, String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return new UserSummary(id, "user" + id + "@example.com", name, UserStatus.ACTIVE, now, now, 0L);
+    }
+
+    private static UserChangedEvent event(UserChangedEvent.ChangeType type, Long id, String name) {
+        return new UserChangedEvent(type, id, "user" + id + "@example.com", name, UserStatus.ACTIVE, LocalDateTime.now());
+    }
+}
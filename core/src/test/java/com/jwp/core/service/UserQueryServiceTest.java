@@ -1,32 +1,48 @@
 package com.jwp.core.service;
 
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
 import com.jwp.core.domain.User;
 import com.jwp.core.domain.UserStatus;
 import com.jwp.core.exception.BusinessException;
 import com.jwp.core.exception.user.UserDomainException;
+import com.jwp.core.repository.TotalCountMode;
 import com.jwp.core.repository.UserRepository;
 import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +51,24 @@ class UserQueryServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCountEstimator userCountEstimator;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @Spy
+    private UserEmailCache userEmailCache = new UserEmailCache(UserSummaryRemoteTier.none(), 100, 60_000, 5_000);
+
+    @Spy
+    private UserSearchCache userSearchCache = new UserSearchCache(UserSummaryRemoteTier.none(), true, 1_000, 60_000, false, 0);
+
+    @Mock
+    private UserStatusCounter userStatusCounter;
+
     @InjectMocks
     private UserQueryService userQueryService;
 
@@ -59,27 +93,30 @@ class UserQueryServiceTest {
     }
 
     @Test
-    @DisplayName("이메일로 사용자 조회 성공")
+    @DisplayName("이메일로 사용자 조회 성공 - 이메일로는 ID만 읽어 캐시하고 사용자는 ID로 조회")
     void findByEmail_Success() {
         // given
-        when(userRepository.findByEmail(anyString())).thenReturn(testUser);
+        when(userRepository.findIdByEmail(anyString())).thenReturn(Optional.of(1L));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
         // when
         Optional<User> result = userQueryService.findByEmail("test@example.com");
+        userQueryService.findByEmail("test@example.com");
 
         // then
         assertThat(result).isPresent();
         assertThat(result.get().getEmail()).isEqualTo("test@example.com");
         assertThat(result.get().getName()).isEqualTo("테스트 사용자");
         
-        verify(userRepository, times(1)).findByEmail(anyString());
+        verify(userRepository, times(1)).findIdByEmail(anyString());
+        verify(userRepository, times(2)).findById(1L);
     }
 
     @Test
     @DisplayName("이메일로 사용자 조회 실패 - 사용자 없음")
     void findByEmail_UserNotFound() {
         // given
-        when(userRepository.findByEmail(anyString())).thenReturn(null);
+        when(userRepository.findIdByEmail(anyString())).thenReturn(Optional.empty());
 
         // when
         Optional<User> result = userQueryService.findByEmail("nonexistent@example.com");
@@ -87,7 +124,8 @@ class UserQueryServiceTest {
         // then
         assertThat(result).isEmpty();
         
-        verify(userRepository, times(1)).findByEmail(anyString());
+        verify(userRepository, times(1)).findIdByEmail(anyString());
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
@@ -119,11 +157,39 @@ class UserQueryServiceTest {
         verify(userRepository, times(1)).findById(anyLong());
     }
 
+    @Test
+    @DisplayName("ID로 요약 정보 조회 - 캐시에 없으면 데이터베이스에서 읽음")
+    void findSummaryById_CacheMiss_LoadsFromRepository() {
+        // given
+        UserSummary summary = UserSummary.from(testUser);
+        when(userSummaryCache.get(eq(1L), any())).thenAnswer(invocation -> {
+            Function<Long, UserSummary> loader = invocation.getArgument(1);
+            return loader.apply(1L);
+        });
+        when(userRepository.findAllByIdsOrdered(List.of(1L))).thenReturn(List.of(summary));
+
+        // when
+        UserSummary found = userQueryService.findSummaryById(1L);
+
+        // then
+        assertThat(found).isEqualTo(summary);
+    }
+
+    @Test
+    @DisplayName("ID로 요약 정보 조회 실패 - 사용자 없음")
+    void findSummaryById_UserNotFound_ThrowsException() {
+        // given
+        when(userSummaryCache.get(eq(99L), any())).thenReturn(null);
+
+        // when & then
+        assertThrows(BusinessException.class, () -> userQueryService.findSummaryById(99L));
+    }
+
     @Test
     @DisplayName("이메일 존재 여부 확인")
     void existsByEmail_ReturnsTrueForExistingEmail() {
         // given
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(userRepository.findIdByEmail(anyString())).thenReturn(Optional.of(1L));
 
         // when
         boolean exists = userQueryService.existsByEmail("test@example.com");
@@ -131,14 +197,14 @@ class UserQueryServiceTest {
         // then
         assertThat(exists).isTrue();
         
-        verify(userRepository, times(1)).existsByEmail(anyString());
+        verify(userRepository, times(1)).findIdByEmail(anyString());
     }
 
     @Test
     @DisplayName("이메일 존재 여부 확인 - 존재하지 않음")
     void existsByEmail_ReturnsFalseForNonExistingEmail() {
         // given
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(userRepository.findIdByEmail(anyString())).thenReturn(Optional.empty());
 
         // when
         boolean exists = userQueryService.existsByEmail("nonexistent@example.com");
@@ -146,7 +212,42 @@ class UserQueryServiceTest {
         // then
         assertThat(exists).isFalse();
         
-        verify(userRepository, times(1)).existsByEmail(anyString());
+        verify(userRepository, times(1)).findIdByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("이메일 존재 여부 확인 - 없는 이메일은 캐시되어 다시 조회하지 않음 (대소문자 무시)")
+    void existsByEmail_MissingEmail_IsNegativeCached() {
+        // given
+        when(userRepository.findIdByEmail(anyString())).thenReturn(Optional.empty());
+
+        // when
+        userQueryService.existsByEmail("nonexistent@example.com");
+        boolean exists = userQueryService.existsByEmail(" NonExistent@example.com");
+        Optional<User> found = userQueryService.findByEmail("nonexistent@example.com");
+
+        // then
+        assertThat(exists).isFalse();
+        assertThat(found).isEmpty();
+        verify(userRepository, times(1)).findIdByEmail(anyString());
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("이메일 존재 여부 확인 - 생성 기록 후에는 없는 이메일로 응답하지 않음")
+    void existsByEmail_AfterCreated_ReturnsTrue() {
+        // given
+        when(userRepository.findIdByEmail(anyString())).thenReturn(Optional.empty());
+        userQueryService.existsByEmail("test@example.com");
+
+        // when
+        userEmailCache.created(testUser);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // then
+        assertThat(userQueryService.existsByEmail("test@example.com")).isTrue();
+        assertThat(userQueryService.findByEmail("test@example.com")).contains(testUser);
+        verify(userRepository, times(1)).findIdByEmail(anyString());
     }
 
     @Test
@@ -169,6 +270,108 @@ class UserQueryServiceTest {
         verify(userRepository, times(1)).findByNameContaining(anyString(), any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("이름으로 사용자 검색 - 이름 인덱스가 준비되어 있으면 후보 ID로 조회")
+    void findByNameContaining_WithNameIndex_PagesOverCandidateIds() {
+        // given
+        List<Long> candidateIds = List.of(1L);
+        Page<User> userPage = new PageImpl<>(List.of(testUser), pageable, 1);
+
+        when(userNameIndex.search("테스트")).thenReturn(Optional.of(candidateIds));
+        when(userRepository.findPageByIds(candidateIds, pageable)).thenReturn(userPage);
+
+        // when
+        Page<User> result = userQueryService.findByNameContaining("테스트", pageable);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).containsExactly(testUser);
+
+        verify(userRepository, never()).findByNameContaining(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("조건으로 사용자 검색 - 이름 외 조건이 있으면 이름 인덱스를 사용하지 않음")
+    void searchUsers_WithOtherConditions_SkipsNameIndex() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder()
+                .email("test@example.com")
+                .name("테스트")
+                .build();
+        Page<UserSummary> summaryPage = new PageImpl<>(List.of(UserSummary.from(testUser)), pageable, 1);
+
+        when(userRepository.searchSummariesByCondition(condition, pageable)).thenReturn(summaryPage);
+
+        // when
+        Slice<UserSummary> result = userQueryService.searchUsers(condition, pageable, TotalCountMode.EXACT);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+
+        verify(userNameIndex, never()).search(anyString());
+    }
+
+    @Test
+    @DisplayName("ID 목록으로 사용자 일괄 조회 성공")
+    void findAllByIdsOrdered_Success() {
+        // given
+        List<Long> ids = List.of(1L, 2L);
+        when(userRepository.findAllByIdsOrdered(ids)).thenReturn(List.of(UserSummary.from(testUser)));
+
+        // when
+        List<UserSummary> result = userQueryService.findAllByIdsOrdered(ids);
+
+        // then
+        assertThat(result).extracting(UserSummary::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("ID 목록으로 사용자 일괄 조회 실패 - 빈 목록, 최대 개수 초과")
+    void findAllByIdsOrdered_InvalidIds_ThrowsException() {
+        // given
+        List<Long> tooMany = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        // when & then
+        assertThrows(BusinessException.class, () -> userQueryService.findAllByIdsOrdered(List.of()));
+        assertThrows(BusinessException.class, () -> userQueryService.findAllByIdsOrdered(tooMany));
+
+        verify(userRepository, never()).findAllByIdsOrdered(any());
+    }
+
+    @Test
+    @DisplayName("사용자 내보내기 - 스트림의 사용자를 요약 정보로 전달하고 스트림을 닫음")
+    void exportUsers_ShouldConsumeAndCloseStream() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().email("test").build();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(userRepository.streamByCondition(eq(condition), anyInt()))
+                .thenReturn(Stream.of(testUser).onClose(() -> closed.set(true)));
+        List<UserSummary> exported = new ArrayList<>();
+
+        // when
+        long count = userQueryService.exportUsers(condition, exported::add);
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(exported).containsExactly(UserSummary.from(testUser));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자 내보내기 - 콜백에서 예외가 나면 스트림을 닫고 예외 전달")
+    void exportUsers_ConsumerFails_ClosesStream() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(userRepository.streamByCondition(any(), anyInt()))
+                .thenReturn(Stream.of(testUser).onClose(() -> closed.set(true)));
+
+        // when & then
+        assertThrows(UncheckedIOException.class, () -> userQueryService.exportUsers(null, user -> {
+            throw new UncheckedIOException(new IOException("연결 종료"));
+        }));
+        assertThat(closed).isTrue();
+    }
+
     @Test
     @DisplayName("이름으로 사용자 검색 실패 - 빈 이름")
     void findByNameContaining_EmptyName_ThrowsException() {
@@ -229,4 +432,130 @@ class UserQueryServiceTest {
         assertThat(result).isEmpty();
         verify(userRepository, times(1)).searchByCondition(any(UserSearchCondition.class), any(Pageable.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("조건으로 사용자 검색 - 전체 개수 없이 조회하면 count 쿼리를 실행하지 않음")
+    void searchUsers_WithoutTotalCount_SkipsCountQuery() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+        when(userRepository.searchSummarySliceByCondition(any(UserSearchCondition.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(UserSummary.from(testUser)), pageable, true));
+
+        // when
+        Slice<UserSummary> result = userQueryService.searchUsers(condition, pageable, TotalCountMode.NONE);
+
+        // then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        verify(userRepository, never()).countByCondition(any());
+        verify(userCountEstimator, never()).estimate(any());
+        verify(userRepository, never()).searchByCondition(any(UserSearchCondition.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("조건으로 사용자 검색 - 근사 전체 개수 사용")
+    void searchUsers_WithApproximateTotal_UsesEstimate() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+        when(userRepository.searchSummarySliceByCondition(any(UserSearchCondition.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(UserSummary.from(testUser)), pageable, true));
+        when(userCountEstimator.estimate(condition)).thenReturn(1_000L);
+
+        // when
+        Slice<UserSummary> result = userQueryService.searchUsers(condition, pageable, TotalCountMode.APPROXIMATE);
+
+        // then
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<UserSummary>) result).getTotalElements()).isEqualTo(1_000L);
+        verify(userRepository, never()).countByCondition(any());
+    }
+
+    @Test
+    @DisplayName("조건으로 사용자 검색 - 마지막 페이지이면 근사치 없이 정확한 전체 개수 계산")
+    void searchUsers_WithApproximateTotal_OnLastPage_SkipsEstimate() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+        when(userRepository.searchSummarySliceByCondition(any(UserSearchCondition.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(UserSummary.from(testUser)), pageable, false));
+
+        // when
+        Slice<UserSummary> result = userQueryService.searchUsers(condition, pageable, TotalCountMode.APPROXIMATE);
+
+        // then
+        assertThat(((Page<UserSummary>) result).getTotalElements()).isEqualTo(1L);
+        verify(userCountEstimator, never()).estimate(any());
+    }
+
+    @Test
+    @DisplayName("조건으로 사용자 검색 - 같은 조건과 페이지는 캐시된 ID로 조회하여 검색, count 쿼리를 반복하지 않음")
+    void searchUsers_SameConditionAndPage_UsesCachedIds() {
+        // given
+        UserSummary summary = UserSummary.from(testUser);
+        when(userRepository.searchSummariesByCondition(any(UserSearchCondition.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(summary), pageable, 21));
+        when(userRepository.findAllByIdsOrdered(List.of(summary.id()))).thenReturn(List.of(summary));
+
+        // when
+        userQueryService.searchUsers(UserSearchCondition.builder().email("").build(), pageable, TotalCountMode.EXACT);
+        Slice<UserSummary> cached = userQueryService.searchUsers(UserSearchCondition.builder().build(), pageable, TotalCountMode.EXACT);
+
+        // then
+        assertThat(cached.getContent()).containsExactly(summary);
+        assertThat(((Page<UserSummary>) cached).getTotalElements()).isEqualTo(21L);
+        verify(userRepository, times(1)).searchSummariesByCondition(any(UserSearchCondition.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("조건으로 사용자 검색 - 사용자 변경이 커밋되면 캐시된 결과를 사용하지 않음")
+    void searchUsers_AfterWrite_SearchesAgain() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().name("테스트").email("test@example.com").build();
+        when(userRepository.searchSummarySliceByCondition(any(UserSearchCondition.class), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(UserSummary.from(testUser)), pageable, false));
+        userQueryService.searchUsers(condition, pageable, TotalCountMode.NONE);
+
+        // when
+        userSearchCache.writeCommitted();
+        userQueryService.searchUsers(condition, pageable, TotalCountMode.NONE);
+
+        // then
+        verify(userRepository, times(2)).searchSummarySliceByCondition(any(UserSearchCondition.class), any(Pageable.class));
+        verify(userRepository, never()).findAllByIdsOrdered(any());
+    }
+
+    @Test
+    @DisplayName("조건으로 사용자 검색 - 상태만 지정하면 count 쿼리 대신 상태별 카운터로 전체 개수 계산")
+    void searchUsers_StatusOnly_UsesStatusCounter() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().status(UserStatus.ACTIVE).build();
+        when(userStatusCounter.count(condition)).thenReturn(OptionalLong.of(42L));
+        when(userRepository.searchSummarySliceByCondition(condition, pageable))
+            .thenReturn(new SliceImpl<>(List.of(UserSummary.from(testUser)), pageable, true));
+
+        // when
+        Slice<UserSummary> result = userQueryService.searchUsers(condition, pageable, TotalCountMode.EXACT);
+
+        // then
+        assertThat(((Page<UserSummary>) result).getTotalElements()).isEqualTo(42L);
+        verify(userRepository, never()).searchSummariesByCondition(any(UserSearchCondition.class), any(Pageable.class));
+        verify(userRepository, never()).countByCondition(any());
+    }
+
+    @Test
+    @DisplayName("조건으로 사용자 검색 - 조건이 없으면 엔티티 페이지도 전체 사용자 카운터로 전체 개수 계산")
+    void searchUsers_EmptyCondition_UsesStatusCounter() {
+        // given
+        UserSearchCondition condition = UserSearchCondition.builder().build();
+        when(userStatusCounter.count(condition)).thenReturn(OptionalLong.of(30L));
+        when(userRepository.searchSliceByCondition(condition, pageable))
+            .thenReturn(new SliceImpl<>(List.of(testUser), pageable, true));
+
+        // when
+        Page<User> result = userQueryService.searchUsers(condition, pageable);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(30L);
+        assertThat(result.getContent()).containsExactly(testUser);
+        verify(userRepository, never()).searchByCondition(any(UserSearchCondition.class), any(Pageable.class));
+    }
+}
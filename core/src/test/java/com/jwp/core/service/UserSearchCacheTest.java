@@ -0,0 +1,90 @@
+package com.jwp.core.service;
+
+import com.jwp.core.config.cache.InMemoryUserSummaryTier;
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.TotalCountMode;
+import com.jwp.core.repository.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchCacheTest {
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private final UserSummary summary =
+            new UserSummary(1L, "user1@example.com", "사용자1", UserStatus.ACTIVE, LocalDateTime.now(), null, 0L);
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("읽기 복제본 라우팅을 쓰지 않으면 변경 커밋 직후의 검색 결과도 저장")
+    void get_WithoutRouting_StoresRightAfterWrite() {
+        // given
+        UserSearchCache cache = new UserSearchCache(UserSummaryRemoteTier.none(), true, 1_000, 60_000, false, 60_000);
+        cache.writeCommitted();
+
+        // when
+        search(cache);
+        search(cache);
+
+        // then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("읽기 복제본 라우팅을 쓰면 변경 커밋 직후의 검색 결과는 저장하지 않음 (복제본이 변경 전일 수 있음)")
+    void get_WithRouting_DoesNotStoreRightAfterWrite() {
+        // given
+        UserSearchCache cache = new UserSearchCache(UserSummaryRemoteTier.none(), true, 1_000, 60_000, true, 60_000);
+        search(cache);
+        search(cache);
+
+        // when
+        cache.writeCommitted();
+        search(cache);
+        search(cache);
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 알림을 받으면 저장된 검색 결과를 사용하지 않음")
+    void get_AfterRemoteInvalidation_Reloads() {
+        // given
+        InMemoryUserSummaryTier tierA = new InMemoryUserSummaryTier();
+        UserSearchCache nodeB = new UserSearchCache(tierA.connect(), true, 1_000, 60_000, false, 0);
+        search(nodeB);
+
+        // when
+        tierA.evictAndBroadcast(List.of(1L));
+        search(nodeB);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    private Slice<UserSummary> search(UserSearchCache cache) {
+        return cache.get(null, pageable, TotalCountMode.NONE,
+                () -> {
+                    loads.incrementAndGet();
+                    return new SliceImpl<>(List.of(summary), pageable, false);
+                },
+                ids -> List.of(summary));
+    }
+}
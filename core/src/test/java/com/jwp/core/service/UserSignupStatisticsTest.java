@@ -0,0 +1,190 @@
+package com.jwp.core.service;
+
+import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserSignupRollup;
+import com.jwp.core.domain.UserSignupRollupId;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.exception.BusinessException;
+import com.jwp.core.repository.DateRange;
+import com.jwp.core.repository.SignupHistogram;
+import com.jwp.core.repository.SignupHistogram.Granularity;
+import com.jwp.core.repository.UserSignupRollupRepository;
+import com.jwp.core.repository.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserSignupStatisticsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private UserSignupRollupRepository rollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserSignupStatistics signupStatistics;
+
+    @BeforeEach
+    void setUp() {
+        signupStatistics = new UserSignupStatistics(rollupRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("사용자 생성 - 별도 트랜잭션 없이 호출한 트랜잭션에서 가입 구간 집계 증가")
+    void recordCreated_ShouldIncrementInCallerTransaction() {
+        // given
+        User user = user(BASE.plusMinutes(30), UserStatus.ACTIVE);
+
+        // when
+        signupStatistics.recordCreated(user);
+        signupStatistics.recordCreated(user);
+
+        // then
+        verify(rollupRepository, times(2)).increment(BASE, UserStatus.ACTIVE, 1);
+        verify(rollupRepository, never()).existsById(any());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("가입 일시가 없는 사용자는 집계하지 않음")
+    void recordDeleted_WithoutCreatedAt_DoesNothing() {
+        // when
+        signupStatistics.recordDeleted(user(null, UserStatus.ACTIVE));
+
+        // then
+        verify(rollupRepository, never()).increment(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("상태 일괄 변경 - 변경 전 상태에서 빼고 변경 후 상태에 더함")
+    void recordTransition_ShouldMoveCounts() {
+        // given
+        List<UserSummary> users = List.of(
+                summary(1L, BASE.plusMinutes(10), UserStatus.ACTIVE),
+                summary(2L, BASE.plusMinutes(20), UserStatus.ACTIVE),
+                summary(3L, BASE.plusHours(1), UserStatus.ACTIVE));
+
+        // when
+        signupStatistics.recordTransition(users, UserStatus.INACTIVE);
+
+        // then
+        verify(rollupRepository).increment(BASE, UserStatus.ACTIVE, -2);
+        verify(rollupRepository).increment(BASE, UserStatus.INACTIVE, 2);
+        verify(rollupRepository).increment(BASE.plusHours(1), UserStatus.ACTIVE, -1);
+        verify(rollupRepository).increment(BASE.plusHours(1), UserStatus.INACTIVE, 1);
+    }
+
+    @Test
+    @DisplayName("시간 단위 히스토그램 - 가입자가 없는 구간도 0으로 포함")
+    void histogram_Hourly_ShouldIncludeEmptyBuckets() {
+        // given
+        when(rollupRepository.findInRange(BASE, BASE.plusHours(2).plusMinutes(30))).thenReturn(List.of(
+                rollup(BASE, UserStatus.ACTIVE, 3),
+                rollup(BASE, UserStatus.INACTIVE, 1),
+                rollup(BASE.plusHours(2), UserStatus.ACTIVE, 2)));
+
+        // when
+        SignupHistogram histogram = signupStatistics.histogram(
+                DateRange.of(BASE.plusMinutes(15), BASE.plusHours(2).plusMinutes(30)), Granularity.HOUR);
+
+        // then
+        assertThat(histogram.buckets()).extracting(SignupHistogram.Bucket::start)
+                .containsExactly(BASE, BASE.plusHours(1), BASE.plusHours(2));
+        assertThat(histogram.buckets()).extracting(SignupHistogram.Bucket::total).containsExactly(4L, 0L, 2L);
+        assertThat(histogram.buckets().get(0).counts())
+                .isEqualTo(Map.of(UserStatus.ACTIVE, 3L, UserStatus.INACTIVE, 1L));
+        assertThat(histogram.total()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("일 단위 히스토그램 - 시간별 집계를 일 단위로 합산")
+    void histogram_Daily_ShouldSumHourlyRollups() {
+        // given
+        LocalDateTime to = BASE.plusDays(1).plusHours(12);
+        when(rollupRepository.findInRange(BASE, to)).thenReturn(List.of(
+                rollup(BASE.plusHours(1), UserStatus.ACTIVE, 1),
+                rollup(BASE.plusHours(23), UserStatus.ACTIVE, 2),
+                rollup(BASE.plusDays(1).plusHours(3), UserStatus.SUSPENDED, 5)));
+
+        // when
+        SignupHistogram histogram = signupStatistics.histogram(DateRange.of(BASE, to), Granularity.DAY);
+
+        // then
+        assertThat(histogram.buckets()).extracting(SignupHistogram.Bucket::total).containsExactly(3L, 5L);
+        assertThat(histogram.buckets().get(1).counts()).isEqualTo(Map.of(UserStatus.SUSPENDED, 5L));
+    }
+
+    @Test
+    @DisplayName("히스토그램 조회 실패 - 기간 누락, 최대 구간 수 초과")
+    void histogram_InvalidRange_ThrowsException() {
+        assertThrows(BusinessException.class,
+                () -> signupStatistics.histogram(DateRange.of(BASE, null), Granularity.HOUR));
+        assertThrows(BusinessException.class,
+                () -> signupStatistics.histogram(DateRange.of(BASE, BASE.plusHours(UserSignupStatistics.MAX_BUCKETS)), Granularity.HOUR));
+    }
+
+    @Test
+    @DisplayName("재계산 - 한 트랜잭션에서 지난 구간 집계를 잠그고 지운 뒤 사용자 테이블 기준으로 다시 집계")
+    void rebuild_ShouldLockThenReplaceClosedBuckets() {
+        // given
+        when(rollupRepository.insertCountedBefore(any())).thenReturn(2L);
+
+        // when
+        signupStatistics.rebuild();
+
+        // then
+        ArgumentCaptor<LocalDateTime> locked = ArgumentCaptor.forClass(LocalDateTime.class);
+        InOrder inOrder = inOrder(transactionManager, rollupRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(rollupRepository).findBeforeForUpdate(locked.capture());
+        LocalDateTime closedBefore = locked.getValue();
+        assertThat(closedBefore).isEqualTo(closedBefore.truncatedTo(ChronoUnit.HOURS));
+        inOrder.verify(rollupRepository).deleteBefore(closedBefore);
+        inOrder.verify(rollupRepository).insertCountedBefore(closedBefore);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    private static User user(LocalDateTime createdAt, UserStatus status) {
+        User user = User.builder()
+                .email("user@example.com")
+                .name("사용자")
+                .password("password")
+                .status(status)
+                .build();
+        ReflectionTestUtils.setField(user, "createdAt", createdAt);
+        return user;
+    }
+
+    private static UserSummary summary(Long id, LocalDateTime createdAt, UserStatus status) {
+        return new UserSummary(id, "user" + id + "@example.com", "사용자" + id, status, createdAt, null, 0L);
+    }
+
+    private static UserSignupRollup rollup(LocalDateTime bucketStart, UserStatus status, long count) {
+        return new UserSignupRollup(new UserSignupRollupId(bucketStart, status), count);
+    }
+}
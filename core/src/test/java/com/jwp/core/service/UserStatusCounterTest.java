@@ -0,0 +1,127 @@
+package com.jwp.core.service;
+
+import com.jwp.core.domain.User;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.repository.UserRepository;
+import com.jwp.core.repository.UserSearchCondition;
+import com.jwp.core.repository.UserStatusCountRepository;
+import com.jwp.core.repository.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatusCounterTest {
+
+    @Mock
+    private UserStatusCountRepository countRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserStatusCounter userStatusCounter;
+
+    @BeforeEach
+    void setUp() {
+        userStatusCounter = new UserStatusCounter(countRepository, userRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("여러 사용자 생성 - 같은 상태는 합쳐서 한 번만 증가")
+    void recordCreated_ShouldIncrementOncePerStatus() {
+        // given
+        // when
+        userStatusCounter.recordCreated(List.of(user(UserStatus.ACTIVE), user(UserStatus.ACTIVE), user(UserStatus.SUSPENDED)));
+
+        // then
+        verify(countRepository).increment(eq(UserStatus.ACTIVE), anyInt(), eq(2L));
+        verify(countRepository).increment(eq(UserStatus.SUSPENDED), anyInt(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("상태 일괄 변경 - 변경 전 상태에서 빼고 변경 후 상태에 더하며, 상태 순서대로 증감")
+    void recordTransition_ShouldMoveCountsInStatusOrder() {
+        // given
+        List<UserSummary> users = List.of(
+                summary(1L, UserStatus.SUSPENDED),
+                summary(2L, UserStatus.ACTIVE),
+                summary(3L, UserStatus.ACTIVE),
+                summary(4L, UserStatus.INACTIVE));
+
+        // when
+        userStatusCounter.recordTransition(users, UserStatus.INACTIVE);
+
+        // then
+        InOrder inOrder = inOrder(countRepository);
+        inOrder.verify(countRepository).increment(eq(UserStatus.ACTIVE), anyInt(), eq(-2L));
+        inOrder.verify(countRepository).increment(eq(UserStatus.INACTIVE), anyInt(), eq(3L));
+        inOrder.verify(countRepository).increment(eq(UserStatus.SUSPENDED), anyInt(), eq(-1L));
+    }
+
+    @Test
+    @DisplayName("사용자 수 - 조건이 없으면 전체, 상태만 있으면 해당 상태, 그 외 조건은 카운터로 알 수 없음")
+    void count_ShouldMapOnlyCountableConditions() {
+        // given
+        when(countRepository.sumByStatus()).thenReturn(Map.of(UserStatus.ACTIVE, 7L, UserStatus.INACTIVE, 3L));
+
+        // then
+        assertThat(userStatusCounter.count(null)).hasValue(10L);
+        assertThat(userStatusCounter.count(UserSearchCondition.builder().email("").build())).hasValue(10L);
+        assertThat(userStatusCounter.count(UserSearchCondition.builder().status(UserStatus.ACTIVE).build())).hasValue(7L);
+        assertThat(userStatusCounter.count(UserSearchCondition.builder().status(UserStatus.SUSPENDED).build())).hasValue(0L);
+        assertThat(userStatusCounter.count(UserSearchCondition.builder().status(UserStatus.ACTIVE).name("사용자").build())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보정 - 카운터 행을 잠근 뒤 사용자 테이블 기준으로 상태별 사용자 수 교체")
+    void reconcile_ShouldLockThenResetEveryStatus() {
+        // given
+        when(userRepository.countByStatus()).thenReturn(Map.of(UserStatus.ACTIVE, 5L));
+        when(countRepository.reset(any(), anyLong())).thenReturn(1L);
+
+        // when
+        userStatusCounter.reconcile();
+
+        // then
+        InOrder inOrder = inOrder(countRepository, userRepository);
+        inOrder.verify(countRepository).findAllForUpdate();
+        inOrder.verify(userRepository).countByStatus();
+        inOrder.verify(countRepository).reset(UserStatus.ACTIVE, 5L);
+        verify(countRepository).reset(UserStatus.WITHDRAWN, 0L);
+        verify(countRepository, never()).insertAll(any());
+    }
+
+    private static User user(UserStatus status) {
+        return User.builder()
+                .email("user@example.com")
+                .name("사용자")
+                .password("password")
+                .status(status)
+                .build();
+    }
+
+    private static UserSummary summary(Long id, UserStatus status) {
+        return new UserSummary(id, "user" + id + "@example.com", "사용자" + id, status, null, null, 0L);
+    }
+}
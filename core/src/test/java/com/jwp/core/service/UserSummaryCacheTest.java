@@ -0,0 +1,135 @@
+package com.jwp.core.service;
+
+import com.jwp.core.config.cache.InMemoryUserSummaryTier;
+import com.jwp.core.config.cache.UserSummaryRemoteTier;
+import com.jwp.core.domain.UserStatus;
+import com.jwp.core.domain.event.UserChangedEvent;
+import com.jwp.core.repository.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSummaryCacheTest {
+
+    private UserSummaryCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserSummaryCache(UserSummaryRemoteTier.none(), 100, 60_000, false, 0);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 요약 정보는 다시 읽지 않음")
+    void get_ShouldLoadOnce() {
+        // when
+        cache.get(1L, this::load);
+        UserSummary cached = cache.get(1L, this::load);
+
+        // then
+        assertThat(cached.id()).isEqualTo(1L);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 저장하지 않음")
+    void get_MissingUser_IsNotCached() {
+        // when
+        cache.get(1L, id -> null);
+        cache.get(1L, this::load);
+
+        // then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("커밋된 사용자 변경, 일괄 무효화 후에는 다시 읽음")
+    void invalidate_ShouldReload() {
+        // given
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        // when
+        cache.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.UPDATED, 1L,
+                "user1@example.com", "사용자1", UserStatus.ACTIVE, LocalDateTime.now()));
+        cache.get(1L, this::load);
+        cache.invalidateAll(List.of(2L));
+        cache.get(2L, this::load);
+
+        // then
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("공유 계층 - 다른 노드가 읽은 요약 정보는 데이터베이스를 다시 읽지 않음")
+    void get_SharedTier_LoadsOnceAcrossNodes() {
+        // given
+        InMemoryUserSummaryTier tierA = new InMemoryUserSummaryTier();
+        UserSummaryCache nodeA = new UserSummaryCache(tierA, 100, 60_000, false, 0);
+        UserSummaryCache nodeB = new UserSummaryCache(tierA.connect(), 100, 60_000, false, 0);
+
+        // when
+        nodeA.get(1L, this::load);
+        UserSummary fromB = nodeB.get(1L, this::load);
+
+        // then
+        assertThat(fromB.id()).isEqualTo(1L);
+        assertThat(loads).hasValue(1);
+        assertThat(tierA.contains(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("공유 계층 - 한 노드에서 무효화하면 공유 계층과 다른 노드의 로컬 항목도 제거")
+    void invalidate_SharedTier_BroadcastsToOtherNodes() {
+        // given
+        InMemoryUserSummaryTier tierA = new InMemoryUserSummaryTier();
+        UserSummaryCache nodeA = new UserSummaryCache(tierA, 100, 60_000, false, 0);
+        UserSummaryCache nodeB = new UserSummaryCache(tierA.connect(), 100, 60_000, false, 0);
+        nodeA.get(1L, this::load);
+        nodeB.get(1L, this::load);
+
+        // when
+        nodeA.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.UPDATED, 1L,
+                "user1@example.com", "사용자1", UserStatus.ACTIVE, LocalDateTime.now()));
+        nodeB.get(1L, this::load);
+
+        // then
+        assertThat(tierA.contains(1L)).isTrue();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("읽기 복제본 라우팅 - 변경 직후에 읽은 값은 로컬과 공유 계층 어디에도 저장하지 않음 (다른 노드 포함)")
+    void get_WithRouting_DoesNotStoreRightAfterChange() {
+        // given
+        InMemoryUserSummaryTier tierA = new InMemoryUserSummaryTier();
+        UserSummaryCache nodeA = new UserSummaryCache(tierA, 100, 60_000, true, 60_000);
+        UserSummaryCache nodeB = new UserSummaryCache(tierA.connect(), 100, 60_000, true, 60_000);
+        nodeA.get(1L, this::load);
+
+        // when
+        nodeA.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.UPDATED, 1L,
+                "user1@example.com", "사용자1", UserStatus.ACTIVE, LocalDateTime.now()));
+        nodeA.get(1L, this::load);
+        nodeB.get(1L, this::load);
+        nodeB.get(1L, this::load);
+
+        // then
+        assertThat(loads).hasValue(4);
+        assertThat(tierA.contains(1L)).isFalse();
+    }
+
+    private UserSummary load(Long id) {
+        loads.incrementAndGet();
+        return new UserSummary(id, "user" + id + "@example.com", "사용자" + id, UserStatus.ACTIVE, LocalDateTime.now(), null, 0L);
+    }
+}
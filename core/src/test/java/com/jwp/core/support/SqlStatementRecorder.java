@@ -0,0 +1,57 @@
+package com.jwp.core.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문 기록용 StatementInspector
+ * Hibernate가 실행하는 SQL 문을 스레드별로 그대로 기록해, 레포지토리가 실제로 생성한 SQL을 테스트에서 검사할 수 있게 합니다.
+ * 사용: spring.jpa.properties.hibernate.session_factory.statement_inspector=com.jwp.core.support.SqlStatementRecorder
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    /** use_sql_comments 설정 시 앞에 붙는 주석 */
+    private static final Pattern LEADING_COMMENT = Pattern.compile("^\\s*/\\*.*?\\*/\\s*", Pattern.DOTALL);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(LEADING_COMMENT.matcher(sql).replaceFirst(""));
+        return sql;
+    }
+
+    /**
+     * 현재 스레드의 기록 초기화
+     */
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * 현재 스레드에서 기록된 SQL 문 (주석 제외)
+     * @return SQL 문 목록
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * 현재 스레드에서 마지막으로 기록된 SELECT 문
+     * @return SELECT 문
+     * @throws IllegalStateException 기록된 SELECT 문이 없는 경우
+     */
+    public static String lastSelect() {
+        List<String> statements = STATEMENTS.get();
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+                return statements.get(i);
+            }
+        }
+        throw new IllegalStateException("기록된 SELECT 문이 없습니다.");
+    }
+}
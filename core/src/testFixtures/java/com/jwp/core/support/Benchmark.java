@@ -0,0 +1,79 @@
+package com.jwp.core.support;
+
+import java.util.concurrent.Callable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 벤치마크 테스트 공통 측정 도구
+ * 준비 실행(JIT 컴파일, 캐시 적재) 뒤 같은 작업을 반복 실행한 평균 시간을 측정하고, 결과를 로그로 남깁니다.
+ * 벤치마크 테스트는 -Dbenchmark=true 로 실행할 때만 수행되며, 결과는 테스트 로그의 "[benchmark]" 줄에서 확인합니다.
+ */
+@Slf4j
+public final class Benchmark {
+
+    private Benchmark() {
+    }
+
+    /**
+     * 작업을 반복 실행하여 평균 시간 측정
+     * @param label 로그에 남길 측정 이름
+     * @param warmupIterations 측정 전 준비 실행 횟수
+     * @param iterations 측정 실행 횟수
+     * @param operation 측정할 작업
+     * @param <T> 작업 결과 타입
+     * @return 마지막 실행 결과와 평균 시간
+     */
+    public static <T> Result<T> run(String label, int warmupIterations, int iterations, Callable<T> operation) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("측정 실행 횟수는 1 이상이어야 합니다.");
+        }
+
+        try {
+            for (int i = 0; i < warmupIterations; i++) {
+                operation.call();
+            }
+
+            T value = null;
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                value = operation.call();
+            }
+            Result<T> result = new Result<>(value, (System.nanoTime() - startedAt) / iterations);
+
+            log.info("[benchmark] {}: {} ns/op ({} ms/op), 준비 {}회, 측정 {}회",
+                    label, result.nanosPerOp(), result.millisPerOp(), warmupIterations, iterations);
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException("벤치마크 실행 실패: " + label, e);
+        }
+    }
+
+    /**
+     * 작업을 한 번 실행하여 시간 측정 (대량 적재처럼 반복할 수 없는 작업)
+     * @param label 로그에 남길 측정 이름
+     * @param operation 측정할 작업
+     * @param <T> 작업 결과 타입
+     * @return 실행 결과와 실행 시간
+     */
+    public static <T> Result<T> once(String label, Callable<T> operation) {
+        return run(label, 0, 1, operation);
+    }
+
+    /**
+     * 측정 결과
+     * @param value 마지막 실행 결과
+     * @param nanosPerOp 실행 한 번의 평균 시간 (나노초)
+     * @param <T> 작업 결과 타입
+     */
+    public record Result<T>(T value, long nanosPerOp) {
+
+        /**
+         * 실행 한 번의 평균 시간 (밀리초)
+         * @return 평균 시간 (밀리초)
+         */
+        public long millisPerOp() {
+            return nanosPerOp / 1_000_000;
+        }
+    }
+}